@@ -99,12 +99,38 @@ public interface Step<S, E> extends Iterator<Traverser<E>>, Serializable, Clonea
      */
     public void setTraversal(final Traversal.Admin<?, ?> traversal);
 
+    /**
+     * Set the index of the step within its root traversal.
+     *
+     * @param index the index of the step
+     */
+    public void setIndex(final int index);
+
+    /**
+     * Get the index of the step within its root traversal. The steps of a root traversal and its nested traversals
+     * are densely indexed when the root traversal is locked. Unlike {@link Step#getId()}, which is for display,
+     * the index is how a {@link Traverser.Admin} references the step that it is located at.
+     * If the index has not been assigned, then {@link Traverser.Admin#HALT_INDEX} is returned.
+     *
+     * @return the index of the step
+     */
+    public int getIndex();
+
     /**
      * Reset the state of the step such that it has no incoming starts.
      * Internal states are to be reset, but any sideEffect data structures are not to be recreated.
      */
     public void reset();
 
+    /**
+     * Signal the step that no more traversers will be pulled from it (e.g. a downstream range has been satisfied).
+     * The step drops its incoming starts, releases any internal state, and propagates the signal to its previous step
+     * and to its child traversals. A terminated step yields no more traversers until {@link Step#reset()} is called.
+     * The provided default implementation does nothing as terminating a step is only an optimization.
+     */
+    public default void terminate() {
+    }
+
     /**
      * Cloning is used to duplicate steps for the purpose of traversal optimization and OLTP replication.
      * When cloning a step, it is important that the steps, the cloned step is equivalent to the state of the step when reset() is called.
@@ -155,4 +181,16 @@ public interface Step<S, E> extends Iterator<Traverser<E>>, Serializable, Clonea
     public default Set<TraverserRequirement> getRequirements() {
         return Collections.emptySet();
     }
+
+    /**
+     * Determine whether the step may hold onto a {@link Traverser}, or onto the object of a traverser, once it has
+     * processed it (e.g. a barrier, a sideEffect or {@code dedup()}). If it can not, the traversers that it processes
+     * may be reused and the objects that they reference may be rebound.
+     * The provided default implementation conservatively returns true.
+     *
+     * @return whether the step may retain the traversers that it processes
+     */
+    public default boolean retainsTraversers() {
+        return true;
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process;
 
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.io.Serializable;
@@ -144,6 +145,15 @@ public interface TraversalSideEffects extends Cloneable, Serializable {
 
     public <S> Optional<UnaryOperator<S>> getSackSplitOperator();
 
+    /**
+     * Set the {@link MemoryBudget} that the barrier and side-effect structures of the traversal account against.
+     *
+     * @param memoryBudget the memory budget or {@code null} to not account for memory
+     */
+    public void setMemoryBudget(final MemoryBudget memoryBudget);
+
+    public Optional<MemoryBudget> getMemoryBudget();
+
     /**
      * If the sideEffect contains an object associated with the key, return it.
      * Else if a "with" supplier exists for the key, generate the object, store it in the sideEffects and return the object.
@@ -25,9 +25,11 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.EngineDepen
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.IdentityRemovalStrategy;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.LabeledEndStepStrategy;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.MatchWhereStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.PathRetractionStrategy;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.ProfileStrategy;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.RangeByIsCountStrategy;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.TraversalVerificationStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.TraverserRecyclingStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -140,19 +142,32 @@ public interface TraversalStrategies extends Serializable, Cloneable {
                 if (toAdd != null && MultiMap.putAll(dependencyMap, sc, toAdd)) updated = true;
             }
         } while (updated);
-        Collections.sort(strategies, new Comparator<TraversalStrategy>() {
-            @Override
-            public int compare(final TraversalStrategy s1, final TraversalStrategy s2) {
-                boolean s1Before = MultiMap.containsEntry(dependencyMap, s1.getClass(), s2.getClass());
-                boolean s2Before = MultiMap.containsEntry(dependencyMap, s2.getClass(), s1.getClass());
-                if (s1Before && s2Before)
-                    throw new IllegalStateException("Cyclic dependency between traversal strategies: ["
-                            + s1.getClass().getName() + ", " + s2.getClass().getName() + ']');
-                if (s1Before) return -1;
-                else if (s2Before) return 1;
-                else return 0;
+        // As unrelated strategies are not ordered, a comparator would not define a total order. Instead, repeatedly take
+        // the first strategy (in the provided order) that no remaining strategy has to be applied before.
+        final List<Class<? extends TraversalStrategy>> remaining = new ArrayList<>(strategies.size());
+        strategies.forEach(s -> remaining.add(s.getClass()));
+        final Map<Class<? extends TraversalStrategy>, Integer> rank = new HashMap<>(strategies.size());
+        while (!remaining.isEmpty()) {
+            Class<? extends TraversalStrategy> next = null;
+            for (final Class<? extends TraversalStrategy> candidate : remaining) {
+                boolean free = true;
+                for (final Class<? extends TraversalStrategy> other : remaining) {
+                    if (MultiMap.containsEntry(dependencyMap, other, candidate)) {
+                        free = false;
+                        break;
+                    }
+                }
+                if (free) {
+                    next = candidate;
+                    break;
+                }
             }
-        });
+            if (null == next)
+                throw new IllegalStateException("Cyclic dependency between traversal strategies: " + remaining);
+            rank.put(next, rank.size());
+            remaining.remove(next);
+        }
+        Collections.sort(strategies, Comparator.comparingInt(s -> rank.get(s.getClass())));
     }
 
     public static final class GlobalCache {
@@ -169,9 +184,11 @@ public interface TraversalStrategies extends Serializable, Cloneable {
                     ComparatorHolderRemovalStrategy.instance(),
                     LabeledEndStepStrategy.instance(),
                     EngineDependentStrategy.instance(),
+                    PathRetractionStrategy.instance(),
                     ProfileStrategy.instance(),
                     TraversalVerificationStrategy.instance(),
-                    ConjunctionStrategy.instance());
+                    ConjunctionStrategy.instance(),
+                    TraverserRecyclingStrategy.instance());
             CACHE.put(Graph.class, coreStrategies.clone());
             CACHE.put(EmptyGraph.class, new DefaultTraversalStrategies());
         }
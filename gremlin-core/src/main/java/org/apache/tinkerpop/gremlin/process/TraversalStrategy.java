@@ -39,6 +39,19 @@ public interface TraversalStrategy extends Serializable {
 
     public void apply(final Traversal.Admin<?, ?> traversal);
 
+    /**
+     * Determine whether applying the strategy could alter the traversal. Strategies are applied to the root traversal
+     * and to every child traversal so this test should be cheap (e.g. a check of the engine, the parent or the
+     * presence of a particular step). When it returns {@code false}, {@link #apply} is not called. As {@link #apply}
+     * may still be called directly, it should keep its own cheap guard for anything it would otherwise assume.
+     *
+     * @param traversal the traversal that the strategy may be applied to
+     * @return whether the strategy should be applied to the traversal
+     */
+    public default boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return true;
+    }
+
     public default Set<Class<? extends TraversalStrategy>> applyPrior() {
         return Collections.emptySet();
     }
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process;
 
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalMatrix;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.detached.Attachable;
@@ -147,6 +148,7 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
     public interface Admin<T> extends Traverser<T>, Attachable<Admin<T>> {
 
         public static final String HALT = "halt";
+        public static final int HALT_INDEX = -1;
 
         /**
          * When two traversers are {@link Traverser#equals} to each other, then they can be merged.
@@ -169,6 +171,20 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
          */
         public <R> Admin<R> split(final R r, final Step<T, R> step);
 
+        /**
+         * Generate a child traverser as {@link Admin#split(Object, Step)} does, except that the current traverser may
+         * be reused as the child. This may only be used when the current traverser has been consumed and thus,
+         * is not referenced again. By default, the traverser is split.
+         *
+         * @param r    The current object of the child
+         * @param step The step yielding the child
+         * @param <R>  The current object type of the child
+         * @return The child traverser (which may be the current traverser)
+         */
+        public default <R> Admin<R> recycle(final R r, final Step<T, R> step) {
+            return this.split(r, step);
+        }
+
         /**
          * Generate a sibling traverser of the current traverser with a full copy of all state within the sibling.
          *
@@ -201,21 +217,46 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
         public void resetLoops();
 
         /**
-         * Get the step id of where the traverser is located.
+         * Get the index of the step where the traverser is located (see {@link Step#getIndex()}).
          * This is typically used in multi-machine systems that require the movement of
          * traversers between different traversal instances.
          *
          * @return The future step for the traverser
          */
-        public String getStepId();
+        public int getStepIndex();
+
+        /**
+         * Set the index of the step where the traverser is located.
+         * If the future is {@link Traverser.Admin#HALT_INDEX}, then {@link Traverser.Admin#isHalted()} is true.
+         *
+         * @param stepIndex The future step of the traverser
+         */
+        public void setStepIndex(final int stepIndex);
+
+        /**
+         * Get the step id of where the traverser is located.
+         *
+         * @param traversalMatrix the matrix of the traversal that the traverser is moving through
+         * @return The future step id for the traverser (or {@link Traverser.Admin#HALT})
+         * @deprecated As of release 3.0.0, replaced by {@link #getStepIndex()}.
+         */
+        @Deprecated
+        public default String getStepId(final TraversalMatrix<?, ?> traversalMatrix) {
+            return this.isHalted() ? HALT : traversalMatrix.getStepByIndex(this.getStepIndex()).getId();
+        }
 
         /**
          * Set the step id of where the traverser is located.
          * If the future is {@link Traverser.Admin#HALT}, then {@link Traverser.Admin#isHalted()} is true.
          *
-         * @param stepId The future step of the traverser
+         * @param stepId          The future step of the traverser
+         * @param traversalMatrix the matrix of the traversal that the traverser is moving through
+         * @deprecated As of release 3.0.0, replaced by {@link #setStepIndex(int)}.
          */
-        public void setStepId(final String stepId);
+        @Deprecated
+        public default void setStepId(final String stepId, final TraversalMatrix<?, ?> traversalMatrix) {
+            this.setStepIndex(HALT.equals(stepId) ? HALT_INDEX : traversalMatrix.getStepById(stepId).getIndex());
+        }
 
         /**
          * If the traverser has "no future" then it is done with its lifecycle.
@@ -224,7 +265,7 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
          * @return Whether the traverser is done executing or not
          */
         public default boolean isHalted() {
-            return getStepId().equals(HALT);
+            return HALT_INDEX == this.getStepIndex();
         }
 
         /**
@@ -241,6 +282,18 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
          */
         public Admin<T> detach();
 
+        /**
+         * Prepare the traverser for migration to another vertex. The object of the traverser is detached as a reference
+         * (i.e. its id and label) as its properties are accessible once the traverser is attached at its hosting vertex.
+         * The objects of the path are only detached with their properties if requested as the path is never attached.
+         *
+         * @param withPathProperties whether the objects of the path must retain their properties
+         * @return The deflated traverser
+         */
+        public default Admin<T> detach(final boolean withPathProperties) {
+            return this.detach();
+        }
+
         /**
          * Regenerate the detached traverser given its location at a particular vertex.
          *
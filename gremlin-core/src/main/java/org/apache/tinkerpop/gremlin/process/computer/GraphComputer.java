@@ -70,6 +70,20 @@ public interface GraphComputer {
      */
     public GraphComputer mapReduce(final MapReduce mapReduce);
 
+    /**
+     * Persist the state of the {@link VertexProgram} (its element compute keys, messages and {@link Memory}) to the
+     * location every number of iterations. If the location has a checkpoint, then the computation resumes from it
+     * rather than from the first iteration and thus, a location should only be used by a single computation.
+     * The checkpoint is deleted when the vertex program terminates.
+     *
+     * @param location   the location to persist the checkpoint to
+     * @param iterations the number of iterations between checkpoints
+     * @return the updated GraphComputer with newly set checkpoint
+     */
+    public default GraphComputer checkpoint(final String location, final int iterations) {
+        throw GraphComputer.Exceptions.checkpointsNotSupported();
+    }
+
     /**
      * Submit the {@link VertexProgram} and the set of {@link MapReduce} jobs for execution by the {@link GraphComputer}.
      *
@@ -134,6 +148,10 @@ public interface GraphComputer {
         public default boolean supportsNonSerializableObjects() {
             return true;
         }
+
+        public default boolean supportsCheckpoints() {
+            return false;
+        }
     }
 
     public static class Exceptions {
@@ -168,6 +186,14 @@ public interface GraphComputer {
         public static IllegalStateException computerHasNoVertexProgramNorMapReducers() {
             return new IllegalStateException("The computer has no vertex program or map reducers to execute");
         }
+
+        public static UnsupportedOperationException checkpointsNotSupported() {
+            return new UnsupportedOperationException("This graph computer does not support checkpoints");
+        }
+
+        public static IllegalArgumentException checkpointIterationsMustBePositive(final int iterations) {
+            return new IllegalArgumentException("The number of iterations between checkpoints must be greater than zero: " + iterations);
+        }
     }
 
 }
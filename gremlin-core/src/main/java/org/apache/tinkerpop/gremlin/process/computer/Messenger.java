@@ -18,6 +18,10 @@
  */
 package org.apache.tinkerpop.gremlin.process.computer;
 
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Optional;
+
 /**
  * The {@link Messenger} serves as the routing system for messages between vertices. For distributed systems,
  * the messenger can implement a "message passing" engine (distributed memory). For single machine systems, the
@@ -45,4 +49,16 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * Get the vertex with the provided id if it is co-located with the currently executing vertex and thus, its
+     * structure can be read without a message pass (i.e. a "state sharing" engine). The compute keys of the returned
+     * vertex belong to its own execution and must not be written. The default is an empty optional.
+     *
+     * @param vertexId the id of the vertex to get
+     * @return the co-located vertex or an empty optional if the vertex can only be reached by a message
+     */
+    public default Optional<Vertex> getColocatedVertex(final Object vertexId) {
+        return Optional.empty();
+    }
+
 }
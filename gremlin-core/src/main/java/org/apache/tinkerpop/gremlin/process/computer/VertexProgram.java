@@ -173,6 +173,30 @@ public interface VertexProgram<M> extends Cloneable {
      */
     public Set<MessageScope> getMessageScopes(final Memory memory);
 
+    /**
+     * The ids of the vertices that need to execute the initial iteration of the vertex program (e.g. the start vertices of a traversal).
+     * If the set is not present, then every vertex executes the initial iteration.
+     * A {@link GraphComputer} may ignore the set and thus, executing any other vertex must not alter the result of the computation.
+     * The default is an empty optional.
+     *
+     * @return the optional set of vertex ids to execute in the initial iteration
+     */
+    public default Optional<Set<Object>> getInitialVertexIds() {
+        return Optional.empty();
+    }
+
+    /**
+     * Whether a vertex that has not been sent any messages need not execute after the initial iteration.
+     * If so, a {@link GraphComputer} may only execute the vertices that were sent messages in the previous iteration.
+     * A {@link GraphComputer} may ignore this and thus, executing a vertex without messages must not alter the result of the computation.
+     * The default is false.
+     *
+     * @return whether only vertices with incoming messages need to execute after the initial iteration
+     */
+    public default boolean requiresMessagesToExecute() {
+        return false;
+    }
+
     /**
      * The set of {@link MapReduce} jobs that are associated with the {@link VertexProgram}.
      * This is not necessarily the exhaustive list over the life of the {@link GraphComputer}.
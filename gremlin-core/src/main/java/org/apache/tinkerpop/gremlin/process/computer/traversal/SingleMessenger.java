@@ -20,8 +20,10 @@ package org.apache.tinkerpop.gremlin.process.computer.traversal;
 
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -45,4 +47,9 @@ public final class SingleMessenger<M> implements Messenger<M> {
     public void sendMessage(final MessageScope messageScope, final M message) {
         this.baseMessenger.sendMessage(messageScope, message);
     }
+
+    @Override
+    public Optional<Vertex> getColocatedVertex(final Object vertexId) {
+        return this.baseMessenger.getColocatedVertex(vertexId);
+    }
 }
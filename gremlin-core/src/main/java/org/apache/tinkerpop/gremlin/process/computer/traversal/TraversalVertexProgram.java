@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.computer.traversal;
 
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.TraversalSource;
@@ -34,18 +35,23 @@ import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ComputerResultStep;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.step.sideEffect.mapreduce.TraverserMapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
 import org.apache.tinkerpop.gremlin.process.computer.util.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.CountGlobalStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.InjectStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.SideEffectCapStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalMatrix;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -80,10 +86,15 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
     private static final Set<MessageScope> MESSAGE_SCOPES = new HashSet<>(Collections.singletonList(MessageScope.Global.instance()));
     private static final Set<String> ELEMENT_COMPUTE_KEYS = new HashSet<>(Arrays.asList(HALTED_TRAVERSERS, TraversalSideEffects.SIDE_EFFECTS));
     private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<>(Collections.singletonList(VOTE_TO_HALT));
+    private static final Set<String> COUNTING_MEMORY_COMPUTE_KEYS = new HashSet<>(Arrays.asList(VOTE_TO_HALT, ReducingBarrierStep.REDUCING));
 
     private LambdaHolder<Supplier<Traversal.Admin<?, ?>>> traversalSupplier;
     private Traversal.Admin<?, ?> traversal;
     private TraversalMatrix<?, ?> traversalMatrix;
+    private boolean withPathProperties = true;
+    private boolean countHaltedTraversers = false;
+    private boolean followColocated = false;
+    private boolean retainsVertices = false;
 
     private final Set<MapReduce> mapReducers = new HashSet<>();
 
@@ -115,11 +126,33 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         if (!this.traversal.isLocked()) this.traversal.applyStrategies();
         ((ComputerResultStep) this.traversal.getEndStep()).byPass();
         this.traversalMatrix = new TraversalMatrix<>(this.traversal);
+        this.withPathProperties = TraverserExecutor.requiresPathProperties(this.traversal);
+        // a final count() is incremented into memory by the workers as traversers halt rather than by a map reduce job over the halted traversers
+        this.countHaltedTraversers = this.traversal.getEndStep().getPreviousStep() instanceof CountGlobalStep;
         for (final MapReducer<?, ?, ?, ?, ?> mapReducer : TraversalHelper.getStepsOfAssignableClassRecursively(MapReducer.class, this.traversal)) {
-            this.mapReducers.add(mapReducer.getMapReduce());
+            if (!this.countHaltedTraversers || mapReducer != this.traversal.getEndStep().getPreviousStep())
+                this.mapReducers.add(mapReducer.getMapReduce());
         }
         if (!(this.traversal.getEndStep().getPreviousStep() instanceof SideEffectCapStep) && !(this.traversal.getEndStep().getPreviousStep() instanceof ReducingBarrierStep))
             this.mapReducers.add(new TraverserMapReduce(this.traversal.getEndStep().getPreviousStep()));
+        // only seeded traversals follow their loops as full scans already bulk the traversers of each vertex
+        this.followColocated = this.getInitialVertexIds().isPresent() && TraverserExecutor.canFollowColocated(this.traversal);
+        // barriers, side-effects, dedup() and paths may retain the executing vertex and thus, it can not be a rebound vertex view
+        this.retainsVertices = TraversalVertexProgram.retainsVertices(this.traversal);
+    }
+
+    /**
+     * Determines if the traversal may hold onto the current element beyond the {@link #execute} of its vertex, i.e. if
+     * its traversers carry paths or if a step may retain the traversers that it processes (see
+     * {@link Step#retainsTraversers()}). If so, the vertex can not be a {@link ComputerGraph#vertexView} as the view is
+     * rebound to the next vertex of the worker.
+     */
+    private static boolean retainsVertices(final Traversal.Admin<?, ?> traversal) {
+        final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+        return requirements.contains(TraverserRequirement.PATH) ||
+                requirements.contains(TraverserRequirement.PATH_ACCESS) ||
+                requirements.contains(TraverserRequirement.LABELED_PATH) ||
+                TraversalHelper.retainsTraversers(traversal);
     }
 
     @Override
@@ -131,6 +164,8 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
     @Override
     public void setup(final Memory memory) {
         memory.set(VOTE_TO_HALT, true);
+        if (this.countHaltedTraversers)
+            memory.set(ReducingBarrierStep.REDUCING, 0l);
     }
 
     @Override
@@ -139,49 +174,94 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
     }
 
     @Override
-    public void execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final Memory memory) {
+    public void execute(final Vertex view, final Messenger<TraverserSet<?>> messenger, final Memory memory) {
+        final Vertex vertex = this.retainsVertices ? ComputerGraph.unbind(view) : view;
         this.traversal.getSideEffects().setLocalVertex(vertex);
         if (memory.isInitialIteration()) {    // ITERATION 1
-            final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
-            vertex.property(HALTED_TRAVERSERS, haltedTraversers);
-
-            if (!(this.traversal.getStartStep() instanceof GraphStep))
-                throw new UnsupportedOperationException("TraversalVertexProgram currently only supports GraphStep starts on vertices or edges");
-
-            final GraphStep<Element> graphStep = (GraphStep<Element>) this.traversal.getStartStep();
-            final String future = graphStep.getNextStep().getId();
             final TraverserGenerator traverserGenerator = this.traversal.getTraverserGenerator();
-            if (graphStep.returnsVertices()) {  // VERTICES (process the first step locally)
-                if (ElementHelper.idExists(vertex.id(), graphStep.getIds())) {
-                    final Traverser.Admin<Element> traverser = traverserGenerator.generate(vertex, graphStep, 1l);
-                    traverser.setStepId(future);
-                    traverser.detach();
-                    if (traverser.isHalted())
-                        haltedTraversers.add((Traverser.Admin) traverser);
-                    else
-                        memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, new SingleMessenger<>(messenger, new TraverserSet<>(traverser)), this.traversalMatrix));
+            if (this.traversal.getStartStep() instanceof InjectStep) {  // INJECTED ELEMENTS (process the injections hosted by the vertex locally)
+                final InjectStep<Object> injectStep = (InjectStep<Object>) this.traversal.getStartStep();
+                final int future = injectStep.getNextStep().getIndex();
+                final TraverserSet<Object> starts = new TraverserSet<>();
+                for (final Object injection : injectStep.getInjections()) {
+                    if (ElementHelper.areEqual(vertex, TraverserExecutor.getHostingVertex(injection))) {
+                        final Traverser.Admin<Object> traverser = traverserGenerator.generate(injection, injectStep, 1l);
+                        traverser.setStepIndex(future);
+                        traverser.detach(this.withPathProperties);
+                        if (traverser.isHalted())
+                            TraversalVertexProgram.getHaltedTraversers(vertex).add(traverser);
+                        else
+                            starts.add(traverser);
+                    }
                 }
-            } else {  // EDGES (process the first step via a message pass)
-                boolean voteToHalt = true;
-                final Iterator<Edge> starts = vertex.edges(Direction.OUT);
-                while (starts.hasNext()) {
-                    final Edge start = starts.next();
-                    if (ElementHelper.idExists(start.id(), graphStep.getIds())) {
-                        final Traverser.Admin<Element> traverser = traverserGenerator.generate(start, graphStep, 1l);
-                        traverser.setStepId(future);
-                        traverser.detach();
+                if (!starts.isEmpty())
+                    memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, new SingleMessenger<>(messenger, starts), this.traversalMatrix, this.withPathProperties, this.followColocated));
+            } else {
+                if (!(this.traversal.getStartStep() instanceof GraphStep))
+                    throw new UnsupportedOperationException("TraversalVertexProgram currently only supports GraphStep starts on vertices or edges and injected elements");
+
+                final GraphStep<Element> graphStep = (GraphStep<Element>) this.traversal.getStartStep();
+                final int future = graphStep.getNextStep().getIndex();
+                if (graphStep.returnsVertices()) {  // VERTICES (process the first step locally)
+                    if (ElementHelper.idExists(vertex.id(), graphStep.getIds())) {
+                        final Traverser.Admin<Element> traverser = traverserGenerator.generate(vertex, graphStep, 1l);
+                        traverser.setStepIndex(future);
+                        traverser.detach(this.withPathProperties);
                         if (traverser.isHalted())
-                            haltedTraversers.add((Traverser.Admin) traverser);
-                        else {
-                            voteToHalt = false;
-                            messenger.sendMessage(MessageScope.Global.of(vertex), new TraverserSet<>(traverser));
+                            TraversalVertexProgram.getHaltedTraversers(vertex).add((Traverser.Admin) traverser);
+                        else
+                            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, new SingleMessenger<>(messenger, new TraverserSet<>(traverser)), this.traversalMatrix, this.withPathProperties, this.followColocated));
+                    }
+                } else {  // EDGES (process the first step via a message pass)
+                    final TraverserSet<Object> aliveTraversers = new TraverserSet<>();
+                    final Iterator<Edge> starts = vertex.edges(Direction.OUT);
+                    while (starts.hasNext()) {
+                        final Edge start = starts.next();
+                        if (ElementHelper.idExists(start.id(), graphStep.getIds())) {
+                            final Traverser.Admin<Element> traverser = traverserGenerator.generate(start, graphStep, 1l);
+                            traverser.setStepIndex(future);
+                            traverser.detach(this.withPathProperties);
+                            if (traverser.isHalted())
+                                TraversalVertexProgram.getHaltedTraversers(vertex).add((Traverser.Admin) traverser);
+                            else
+                                aliveTraversers.add((Traverser.Admin) traverser);
                         }
                     }
+                    if (!aliveTraversers.isEmpty())
+                        messenger.sendMessage(MessageScope.Global.of(vertex), aliveTraversers);
+                    memory.and(VOTE_TO_HALT, aliveTraversers.isEmpty());
                 }
-                memory.and(VOTE_TO_HALT, voteToHalt);
             }
         } else {  // ITERATION 1+
-            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, messenger, this.traversalMatrix));
+            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, messenger, this.traversalMatrix, this.withPathProperties, this.followColocated));
+        }
+        if (this.countHaltedTraversers)
+            TraversalVertexProgram.countHaltedTraversers(vertex, memory);
+    }
+
+    /**
+     * Get the halted traversers of the vertex. As only the vertices that have been sent traversers need to execute,
+     * the set is added to the vertex when it is first needed.
+     */
+    static TraverserSet<Object> getHaltedTraversers(final Vertex vertex) {
+        final Property<TraverserSet<Object>> property = vertex.property(HALTED_TRAVERSERS);
+        if (property.isPresent())
+            return property.value();
+        final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
+        vertex.property(HALTED_TRAVERSERS, haltedTraversers);
+        return haltedTraversers;
+    }
+
+    private static void countHaltedTraversers(final Vertex vertex, final Memory memory) {
+        final Property<TraverserSet<Object>> property = vertex.property(HALTED_TRAVERSERS);
+        final TraverserSet<Object> haltedTraversers = property.isPresent() ? property.value() : null;
+        if (null != haltedTraversers && !haltedTraversers.isEmpty()) {
+            long count = 0l;
+            for (final Traverser.Admin<Object> traverser : haltedTraversers) {
+                count = count + traverser.bulk();
+            }
+            haltedTraversers.clear();
+            memory.incr(ReducingBarrierStep.REDUCING, count);
         }
     }
 
@@ -203,7 +283,31 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
 
     @Override
     public Set<String> getMemoryComputeKeys() {
-        return MEMORY_COMPUTE_KEYS;
+        return this.countHaltedTraversers ? COUNTING_MEMORY_COMPUTE_KEYS : MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Optional<Set<Object>> getInitialVertexIds() {
+        final Set<Object> vertexIds = new HashSet<>();
+        if (this.traversal.getStartStep() instanceof InjectStep) {
+            for (final Object injection : ((InjectStep<?>) this.traversal.getStartStep()).getInjections()) {
+                vertexIds.add(TraverserExecutor.getHostingVertex(injection).id());
+            }
+        } else if (this.traversal.getStartStep() instanceof GraphStep) {
+            final GraphStep<?> graphStep = (GraphStep<?>) this.traversal.getStartStep();
+            if (!graphStep.returnsVertices() || 0 == graphStep.getIds().length)
+                return Optional.empty(); // the vertices that host the edges are not known without a lookup
+            for (final Object id : graphStep.getIds()) {
+                vertexIds.add(id instanceof Element ? ((Element) id).id() : id);
+            }
+        } else
+            return Optional.empty();
+        return Optional.of(vertexIds);
+    }
+
+    @Override
+    public boolean requiresMessagesToExecute() {
+        return true;
     }
 
     @Override
@@ -19,25 +19,75 @@
 package org.apache.tinkerpop.gremlin.process.computer.traversal;
 
 import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.ComputerResultStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.LambdaFilterStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.EdgeOtherVertexStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaFlatMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.PathStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.SelectOneStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.SelectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.TreeStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.LambdaSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.TreeSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.SupplyingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalMatrix;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedElement;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedProperty;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * Processes the traversers at a vertex. Traversers that leave the vertex are detached as references (see
+ * {@link Traverser.Admin#detach(boolean)}) and all the traversers destined for the same vertex are sent in a single
+ * {@link TraverserSet} message.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TraverserExecutor {
 
     public static boolean execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final TraversalMatrix<?, ?> traversalMatrix) {
+        return TraverserExecutor.execute(vertex, messenger, traversalMatrix, true);
+    }
+
+    public static boolean execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final TraversalMatrix<?, ?> traversalMatrix, final boolean withPathProperties) {
+        return TraverserExecutor.execute(vertex, messenger, traversalMatrix, withPathProperties, false);
+    }
+
+    /**
+     * If {@code followColocated} is true, then a traverser in the body of a {@link RepeatStep} that is destined for a
+     * vertex that is co-located with this vertex (see {@link Messenger#getColocatedVertex(Object)}) is attached to that
+     * vertex and processed in this superstep instead of being messaged. Thus, multiple hops of the loop can be taken in
+     * a single superstep.
+     */
+    public static boolean execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final TraversalMatrix<?, ?> traversalMatrix, final boolean withPathProperties, final boolean followColocated) {
 
-        final TraverserSet<Object> haltedTraversers = vertex.value(TraversalVertexProgram.HALTED_TRAVERSERS);
+        final TraverserSet<Object> haltedTraversers = new TraverserSet<>();
         final AtomicBoolean voteToHalt = new AtomicBoolean(true);
 
         final TraverserSet<Object> aliveTraversers = new TraverserSet<>();
@@ -53,18 +103,34 @@ public final class TraverserExecutor {
 
         // while there are still local traversers, process them until they leave the vertex or halt (i.e. isHalted()).
         final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
+        final Map<Vertex, TraverserSet<Object>> toSendTraversers = new HashMap<>();
         while (!aliveTraversers.isEmpty()) {
             // process all the local objects and send messages or store locally again
             aliveTraversers.forEach(traverser -> {
                 if (traverser.get() instanceof Element || traverser.get() instanceof Property) {      // GRAPH OBJECT
                     // if the element is remote, then message, else store it locally for re-processing
                     final Vertex hostingVertex = TraverserExecutor.getHostingVertex(traverser.get());
-                    if (!vertex.equals(hostingVertex) || traverser.get() instanceof DetachedElement) { // TODO: why is the DetachedElement instanceof needed?
-                        voteToHalt.set(false);
-                        traverser.detach();
-                        messenger.sendMessage(MessageScope.Global.of(hostingVertex), new TraverserSet<>(traverser));
-                    } else
+                    if (vertex.equals(hostingVertex)) {
+                        // a detached element (e.g. from a path) is local and only needs to be attached to be processed
+                        if (traverser.get() instanceof DetachedElement || traverser.get() instanceof DetachedProperty)
+                            traverser.attach(vertex);
+                        toProcessTraversers.add(traverser);
+                    } else if (TraverserExecutor.canProcessRemote(traversalMatrix.getStepByIndex(traverser.getStepIndex()), traverser.get())) {
+                        // the incident vertices of an edge are known at both of its vertices and a halting traverser is stored anywhere
                         toProcessTraversers.add(traverser);
+                    } else {
+                        traverser.detach(withPathProperties);
+                        final Optional<Vertex> colocatedVertex = followColocated && TraverserExecutor.isLoopStep(traversalMatrix.getStepByIndex(traverser.getStepIndex())) ?
+                                messenger.getColocatedVertex(hostingVertex.id()) :
+                                Optional.empty();
+                        if (colocatedVertex.isPresent()) {
+                            traverser.attach(colocatedVertex.get());
+                            toProcessTraversers.add(traverser);
+                        } else {
+                            voteToHalt.set(false);
+                            toSendTraversers.computeIfAbsent(hostingVertex, v -> new TraverserSet<>()).add(traverser);
+                        }
+                    }
                 } else                                                                              // STANDARD OBJECT
                     toProcessTraversers.add(traverser);
             });
@@ -72,11 +138,11 @@ public final class TraverserExecutor {
             // process local traversers and if alive, repeat, else halt.
             aliveTraversers.clear();
             toProcessTraversers.forEach(start -> {
-                final Step<?, ?> step = traversalMatrix.getStepById(start.getStepId());
+                final Step<?, ?> step = traversalMatrix.getStepByIndex(start.getStepIndex());
                 step.addStart((Traverser.Admin) start);
                 step.forEachRemaining(end -> {
                     if (end.asAdmin().isHalted()) {
-                        end.asAdmin().detach();
+                        end.asAdmin().detach(withPathProperties);
                         haltedTraversers.add((Traverser.Admin) end);
                     } else
                         aliveTraversers.add((Traverser.Admin) end);
@@ -85,10 +151,94 @@ public final class TraverserExecutor {
 
             toProcessTraversers.clear();
         }
+        toSendTraversers.forEach((hostingVertex, traverserSet) -> messenger.sendMessage(MessageScope.Global.of(hostingVertex), traverserSet));
+        if (!haltedTraversers.isEmpty())
+            TraversalVertexProgram.getHaltedTraversers(vertex).addAll(haltedTraversers);
         return voteToHalt.get();
     }
 
-    private static Vertex getHostingVertex(final Object object) {
+    /**
+     * Determines whether traversers can follow the loops of the traversal to co-located vertices. This is not the case
+     * if a loop body has steps that must see all the traversers of an iteration (e.g. {@code dedup()}).
+     */
+    public static boolean canFollowColocated(final Traversal.Admin<?, ?> traversal) {
+        final List<RepeatStep> repeatSteps = TraversalHelper.getStepsOfAssignableClassRecursively(RepeatStep.class, traversal);
+        if (repeatSteps.isEmpty())
+            return false;
+        for (final RepeatStep<?> repeatStep : repeatSteps) {
+            for (final Traversal.Admin<?, ?> repeatTraversal : repeatStep.getGlobalChildren()) {
+                for (final Step<?, ?> step : TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, repeatTraversal)) {
+                    if (step instanceof DedupGlobalStep ||
+                            step instanceof RangeGlobalStep ||
+                            step instanceof CollectingBarrierStep ||
+                            step instanceof ReducingBarrierStep ||
+                            step instanceof SupplyingBarrierStep)
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLoopStep(final Step<?, ?> step) {
+        Step<?, ?> current = step;
+        while (!(current instanceof EmptyStep)) {
+            if (current instanceof RepeatStep)
+                return true;
+            current = current.getTraversal().getParent().asStep();
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the objects of the path of a traverser must retain their properties when the traverser moves
+     * to another vertex. This is the case if the path objects are modulated by a child traversal (e.g.
+     * {@code path().by('name')}) or may be accessed by a lambda as those are evaluated away from the vertices that
+     * host the path objects.
+     */
+    public static boolean requiresPathProperties(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof MapTraversal ||
+                traversal instanceof MapTraverserTraversal ||
+                traversal instanceof FilterTraversal ||
+                traversal instanceof FilterTraverserTraversal)
+            return true;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaMapStep ||
+                    step instanceof LambdaFlatMapStep ||
+                    step instanceof LambdaFilterStep ||
+                    step instanceof LambdaSideEffectStep)
+                return true;
+            if ((step instanceof PathStep ||
+                    step instanceof SelectStep ||
+                    step instanceof SelectOneStep ||
+                    step instanceof TreeStep ||
+                    step instanceof TreeSideEffectStep) &&
+                    ((TraversalParent) step).getLocalChildren().stream().anyMatch(child -> !(child instanceof IdentityTraversal)))
+                return true;
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (requiresPathProperties(child)) return true;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (requiresPathProperties(child)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines whether the step can process an object that is not hosted by the vertex without messaging the object to
+     * its host first. An edge step only needs the ids of the incident vertices of the edge (e.g. of the in-edges of a
+     * vertex) and the {@link ComputerResultStep} only halts the traverser, which is then detached and stored at the
+     * vertex that halted it.
+     */
+    private static boolean canProcessRemote(final Step<?, ?> step, final Object object) {
+        return step instanceof ComputerResultStep ||
+                (object instanceof Edge && (step instanceof EdgeVertexStep || step instanceof EdgeOtherVertexStep));
+    }
+
+    static Vertex getHostingVertex(final Object object) {
         Object obj = object;
         while (true) {
             if (obj instanceof Vertex)
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.computer.traversal;
 
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
@@ -72,6 +73,16 @@ public final class VertexTraversalSideEffects implements TraversalSideEffects {
         throw EXCEPTION;
     }
 
+    @Override
+    public void setMemoryBudget(final MemoryBudget memoryBudget) {
+        throw EXCEPTION;
+    }
+
+    @Override
+    public Optional<MemoryBudget> getMemoryBudget() {
+        return Optional.empty();
+    }
+
     @Override
     public boolean exists(final String key) {
         return this.objectMap.containsKey(key);
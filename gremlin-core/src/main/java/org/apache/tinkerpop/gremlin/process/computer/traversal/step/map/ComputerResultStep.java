@@ -125,4 +125,10 @@ public final class ComputerResultStep<S> extends AbstractStep<S, S> {
     public Set<TraverserRequirement> getRequirements() {
         return EnumSet.of(TraverserRequirement.OBJECT);
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        // a by-passed step only halts the traversers
+        return false;
+    }
 }
@@ -37,12 +37,18 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
+ * A {@code ComputerGraph} hides the element compute keys of a {@link org.apache.tinkerpop.gremlin.process.computer.VertexProgram}
+ * from the key and property iterators of the wrapped elements. Providers that enforce compute keys in their own
+ * compute-mode code paths need not wrap their vertices. Otherwise, a worker should create a single {@link #vertexView(Set)}
+ * and {@link #bind(Vertex)} it to each vertex it executes rather than wrap every vertex with {@link #of(Vertex, Set)}.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ComputerGraph implements Graph {
 
-    private final Graph graph;
+    private Graph graph;
     private final Set<String> computeKeys;
+    private ComputerVertex view = null;
 
     public ComputerGraph(final Graph graph, final Set<String> elementComputeKeys) {
         this.graph = graph;
@@ -50,7 +56,44 @@ public class ComputerGraph implements Graph {
     }
 
     public static Vertex of(final Vertex vertex, final Set<String> elementComputeKeys) {
-        return new ComputerGraph(vertex.graph(), elementComputeKeys).wrapVertex(vertex);
+        return elementComputeKeys.isEmpty() ? vertex : new ComputerGraph(vertex.graph(), elementComputeKeys).wrapVertex(vertex);
+    }
+
+    /**
+     * Create a {@code ComputerGraph} with a single reusable vertex view that is rebound with {@link #bind(Vertex)}.
+     * A view is not thread safe and so, each worker should have its own.
+     */
+    public static ComputerGraph vertexView(final Set<String> elementComputeKeys) {
+        return new ComputerGraph(null, elementComputeKeys);
+    }
+
+    /**
+     * Rebind the vertex view of this graph to the provided vertex. The returned vertex is only valid until the next
+     * call to this method and thus, must not be retained beyond the execution of the vertex (e.g. in a hash-based
+     * collection). Elements reached from the returned vertex are wrapped as with {@link #of(Vertex, Set)}.
+     */
+    public Vertex bind(final Vertex vertex) {
+        if (this.computeKeys.isEmpty())
+            return vertex;
+        this.graph = vertex.graph();
+        if (null == this.view)
+            this.view = new ComputerVertex(vertex);
+        else
+            ((ComputerElement) this.view).element = vertex;
+        return this.view;
+    }
+
+    /**
+     * Get a vertex that remains valid when the vertex view it was bound to is rebound. This is required if the
+     * vertex is retained beyond its execution (e.g. stored in a side-effect). Any other vertex is returned as is.
+     */
+    public static Vertex unbind(final Vertex vertex) {
+        if (vertex instanceof ComputerVertex) {
+            final ComputerGraph computerGraph = (ComputerGraph) vertex.graph();
+            if (computerGraph.view == vertex)
+                return computerGraph.wrapVertex(((ComputerVertex) vertex).asVertex());
+        }
+        return vertex;
     }
 
     private final Vertex wrapVertex(final Vertex vertex) {
@@ -103,7 +146,7 @@ public class ComputerGraph implements Graph {
     }
 
     private class ComputerElement implements Element {
-        private final Element element;
+        private Element element;
 
         public ComputerElement(final Element element) {
             this.element = element;
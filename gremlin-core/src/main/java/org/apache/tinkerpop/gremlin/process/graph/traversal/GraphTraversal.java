@@ -637,6 +637,14 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep(new ProfileStep<>(this.asAdmin()));
     }
 
+    public default GraphTraversal<S, E> profile(final int sampleInterval) {
+        return this.asAdmin().addStep(new ProfileStep<>(this.asAdmin(), sampleInterval));
+    }
+
+    public default GraphTraversal<S, E> profile(final int sampleInterval, final boolean threadResources) {
+        return this.asAdmin().addStep(new ProfileStep<>(this.asAdmin(), sampleInterval, threadResources));
+    }
+
     ///////////////////// BRANCH STEPS /////////////////////
 
     public default <M, E2> GraphTraversal<S, E2> branch(final Traversal<?, M> branchTraversal) {
@@ -25,7 +25,9 @@ import org.apache.tinkerpop.gremlin.process.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.InjectStep;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.ComputerTraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.engine.ParallelTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -49,6 +51,10 @@ public class GraphTraversalSource implements TraversalSource {
         return GraphTraversalSource.build().engine(ComputerTraversalEngine.build().computer(graphComputerClass));
     }
 
+    public static Builder parallel(final int parallelism) {
+        return GraphTraversalSource.build().engine(ParallelTraversalEngine.build().parallelism(parallelism));
+    }
+
     ////
 
     private final transient Graph graph;
@@ -83,6 +89,13 @@ public class GraphTraversalSource implements TraversalSource {
         return traversal.addStep(new GraphStep<>(traversal, Edge.class, edgesIds));
     }
 
+    public <S> GraphTraversal<S, S> inject(final S... starts) {
+        final GraphTraversal.Admin<S, S> traversal = new DefaultGraphTraversal<>(this.graph);
+        traversal.setEngine(this.engine.create(this.graph));
+        traversal.setStrategies(this.strategies);
+        return traversal.addStep(new InjectStep<>(traversal, starts));
+    }
+
     public Transaction tx() {
         return this.graph.tx();
     }
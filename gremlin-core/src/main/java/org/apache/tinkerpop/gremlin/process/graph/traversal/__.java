@@ -564,6 +564,14 @@ public class __ {
         return __.<A>start().profile();
     }
 
+    public static <A> GraphTraversal<A, A> profile(final int sampleInterval) {
+        return __.<A>start().profile(sampleInterval);
+    }
+
+    public static <A> GraphTraversal<A, A> profile(final int sampleInterval, final boolean threadResources) {
+        return __.<A>start().profile(sampleInterval, threadResources);
+    }
+
     public static <A> GraphTraversal<A, A> withSideEffect(final String key, final Supplier supplier) {
         return __.<A>start().withSideEffect(key, supplier);
     }
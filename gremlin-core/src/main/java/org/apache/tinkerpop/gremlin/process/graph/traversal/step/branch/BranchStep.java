@@ -115,7 +115,7 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
         if (null != branch) {
             branch.forEach(traversal -> {
                 final Traverser.Admin<E> split = (Traverser.Admin<E>) start.split();
-                split.setStepId(traversal.getStartStep().getId());
+                split.setStepIndex(traversal.getStartStep().getIndex());
                 ends.add(split);
             });
         }
@@ -124,7 +124,7 @@ public class BranchStep<S, E, M> extends ComputerAwareStep<S, E> implements Trav
             if (null != anyBranch) {
                 anyBranch.forEach(traversal -> {
                     final Traverser.Admin<E> split = (Traverser.Admin<E>) start.split();
-                    split.setStepId(traversal.getStartStep().getId());
+                    split.setStepIndex(traversal.getStartStep().getIndex());
                     ends.add(split);
                 });
             }
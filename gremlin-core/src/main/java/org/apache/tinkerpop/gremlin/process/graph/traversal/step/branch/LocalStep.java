@@ -84,4 +84,9 @@ public final class LocalStep<S, E> extends AbstractStep<S, E> implements Travers
             }
         }
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
@@ -156,14 +156,14 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         final Traverser.Admin<S> start = this.starts.next();
         if (doUntil(start, true)) {
             start.resetLoops();
-            start.setStepId(this.getNextStep().getId());
+            start.setStepIndex(this.getNextStep().getIndex());
             return IteratorUtils.of(start);
         } else {
-            start.setStepId(this.repeatTraversal.getStartStep().getId());
+            start.setStepIndex(this.repeatTraversal.getStartStep().getIndex());
             if (doEmit(start, true)) {
                 final Traverser.Admin<S> emitSplit = start.split();
                 emitSplit.resetLoops();
-                emitSplit.setStepId(this.getNextStep().getId());
+                emitSplit.setStepIndex(this.getNextStep().getIndex());
                 return IteratorUtils.of(start, emitSplit);
             } else {
                 return IteratorUtils.of(start);
@@ -217,20 +217,29 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             super(traversal);
         }
 
+        /**
+         * The parent is resolved from the traversal as a cloned end step is still bound to the original
+         * {@link RepeatStep} instance.
+         */
+        private RepeatStep<S> getRepeatStep() {
+            return (RepeatStep<S>) this.getTraversal().getParent();
+        }
+
         @Override
         protected Iterator<Traverser<S>> standardAlgorithm() throws NoSuchElementException {
+            final RepeatStep<S> repeatStep = this.getRepeatStep();
             while (true) {
                 final Traverser.Admin<S> start = this.starts.next();
                 start.incrLoops(this.getId());
-                if (doUntil(start, false)) {
+                if (repeatStep.doUntil(start, false)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
                 } else {
-                    if (!RepeatStep.this.untilFirst && !RepeatStep.this.emitFirst)
-                        RepeatStep.this.repeatTraversal.addStart(start);
+                    if (!repeatStep.untilFirst && !repeatStep.emitFirst)
+                        repeatStep.repeatTraversal.addStart(start);
                     else
-                        RepeatStep.this.addStart(start);
-                    if (doEmit(start, false)) {
+                        repeatStep.addStart(start);
+                    if (repeatStep.doEmit(start, false)) {
                         final Traverser.Admin<S> emitSplit = start.split();
                         emitSplit.resetLoops();
                         return IteratorUtils.of(emitSplit);
@@ -241,18 +250,19 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
 
         @Override
         protected Iterator<Traverser<S>> computerAlgorithm() throws NoSuchElementException {
+            final RepeatStep<S> repeatStep = this.getRepeatStep();
             final Traverser.Admin<S> start = this.starts.next();
-            start.incrLoops(RepeatStep.this.getId());
-            if (doUntil(start, false)) {
+            start.incrLoops(repeatStep.getId());
+            if (repeatStep.doUntil(start, false)) {
                 start.resetLoops();
-                start.setStepId(RepeatStep.this.getNextStep().getId());
+                start.setStepIndex(repeatStep.getNextStep().getIndex());
                 return IteratorUtils.of(start);
             } else {
-                start.setStepId(RepeatStep.this.getId());
-                if (doEmit(start, false)) {
+                start.setStepIndex(repeatStep.getIndex());
+                if (repeatStep.doEmit(start, false)) {
                     final Traverser.Admin<S> emitSplit = start.split();
                     emitSplit.resetLoops();
-                    emitSplit.setStepId(RepeatStep.this.getNextStep().getId());
+                    emitSplit.setStepIndex(repeatStep.getNextStep().getIndex());
                     return IteratorUtils.of(start, emitSplit);
                 }
                 return IteratorUtils.of(start);
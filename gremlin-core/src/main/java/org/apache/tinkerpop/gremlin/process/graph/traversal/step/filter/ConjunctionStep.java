@@ -76,6 +76,11 @@ public abstract class ConjunctionStep<S> extends AbstractStep<S, S> implements T
         return this.getSelfAndChildRequirements();
     }
 
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
+
     @Override
     public List<Traversal.Admin<S, ?>> getLocalChildren() {
         return Collections.unmodifiableList(this.conjunctionTraversals);
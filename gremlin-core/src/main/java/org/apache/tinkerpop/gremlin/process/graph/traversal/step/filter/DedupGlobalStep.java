@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,6 +39,7 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
 
     private Traversal.Admin<S, Object> dedupTraversal = new IdentityTraversal<>();
     private Set<Object> duplicateSet = new HashSet<>();
+    private long allocatedBytes = 0l;
 
     public DedupGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -46,7 +48,13 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     @Override
     protected boolean filter(final Traverser.Admin<S> traverser) {
         traverser.setBulk(1);
-        return this.duplicateSet.add(TraversalUtil.apply(traverser, this.dedupTraversal));
+        final Object object = TraversalUtil.apply(traverser, this.dedupTraversal);
+        if (!this.duplicateSet.add(object))
+            return false;
+        final MemoryBudget memoryBudget = MemoryBudget.of(this.getTraversal());
+        if (null != memoryBudget)
+            this.allocatedBytes = this.allocatedBytes + memoryBudget.allocate(MemoryBudget.sizeOf(object));
+        return true;
     }
 
 
@@ -64,6 +72,7 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     public DedupGlobalStep<S> clone() {
         final DedupGlobalStep<S> clone = (DedupGlobalStep<S>) super.clone();
         clone.duplicateSet = new HashSet<>();
+        clone.allocatedBytes = 0l;
         clone.dedupTraversal = clone.integrateChild(this.dedupTraversal.clone());
         return clone;
     }
@@ -72,6 +81,21 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     public void reset() {
         super.reset();
         this.duplicateSet.clear();
+        this.releaseMemory();
+    }
+
+    @Override
+    public void terminate() {
+        super.terminate();
+        this.duplicateSet.clear();
+        this.releaseMemory();
+    }
+
+    private void releaseMemory() {
+        if (0l != this.allocatedBytes) {
+            this.getTraversal().getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.release(this.allocatedBytes));
+            this.allocatedBytes = 0l;
+        }
     }
 
     @Override
@@ -83,4 +107,9 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     public Set<TraverserRequirement> getRequirements() {
         return this.getSelfAndChildRequirements(TraverserRequirement.SIDE_EFFECTS);
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return true;
+    }
 }
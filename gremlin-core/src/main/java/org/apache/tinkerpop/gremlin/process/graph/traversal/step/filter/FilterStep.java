@@ -44,4 +44,9 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
     }
 
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
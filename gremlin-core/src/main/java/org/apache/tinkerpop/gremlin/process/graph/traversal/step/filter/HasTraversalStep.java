@@ -77,4 +77,9 @@ public final class HasTraversalStep<S> extends AbstractStep<S, S> implements Tra
         clone.hasTraversal = clone.integrateChild(this.hasTraversal.clone());
         return clone;
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
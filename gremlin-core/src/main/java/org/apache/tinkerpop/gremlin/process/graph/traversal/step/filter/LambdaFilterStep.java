@@ -49,4 +49,9 @@ public final class LambdaFilterStep<S> extends FilterStep<S> {
     public String toString() {
         return TraversalHelper.makeStepString(this,this.predicate);
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return true;
+    }
 }
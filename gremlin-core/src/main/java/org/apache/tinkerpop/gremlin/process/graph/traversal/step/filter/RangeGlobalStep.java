@@ -77,6 +77,10 @@ public final class RangeGlobalStep<S> extends FilterStep<S> implements Ranging {
         this.counter.getAndAdd(toSkip + toEmit);
         traverser.asAdmin().setBulk(toEmit);
 
+        // once satisfied, the steps prior to the range need not produce any more traversers
+        if (this.high != -1 && this.counter.get() >= this.high && this.traversal.getEngine().isStandard())
+            this.terminate();
+
         return true;
     }
 
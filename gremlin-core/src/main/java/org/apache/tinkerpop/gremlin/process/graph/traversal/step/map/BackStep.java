@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathLabelAccessor;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 
@@ -31,10 +32,11 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class BackStep<S, E> extends MapStep<S, E> implements EngineDependent {
+public final class BackStep<S, E> extends MapStep<S, E> implements EngineDependent, PathLabelAccessor {
 
     private final String stepLabel;
     private boolean requiresPaths = false;
+    private Set<String> keepLabels = null;
 
     public BackStep(final Traversal.Admin traversal, final String stepLabel) {
         super(traversal);
@@ -54,7 +56,22 @@ public final class BackStep<S, E> extends MapStep<S, E> implements EngineDepende
     @Override
     public Set<TraverserRequirement> getRequirements() {
         //return this.requiresPaths ? Collections.singleton(TraverserRequirement.PATH) : Collections.singleton(TraverserRequirement.PATH_ACCESS);
-        return Collections.singleton(TraverserRequirement.PATH); // TODO: if the traversal isn't nested, path access works
+        return Collections.singleton(TraverserRequirement.LABELED_PATH); // only the labeled objects of the path are accessed
+    }
+
+    @Override
+    public Set<String> getReferencedLabels() {
+        return Collections.singleton(this.stepLabel);
+    }
+
+    @Override
+    public void setKeepLabels(final Set<String> keepLabels) {
+        this.keepLabels = keepLabels;
+    }
+
+    @Override
+    public Set<String> getKeepLabels() {
+        return this.keepLabels;
     }
 
     @Override
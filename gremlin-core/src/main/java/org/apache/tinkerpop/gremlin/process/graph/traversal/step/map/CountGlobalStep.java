@@ -36,6 +36,7 @@ import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -48,6 +49,7 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>(0L));
         this.setBiFunction(CountBiFunction.<S>instance());
+        this.setMergeOperator(CountMergeOperator.instance());
     }
 
 
@@ -81,6 +83,24 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
         }
     }
 
+    private static class CountMergeOperator implements BinaryOperator<Long>, Serializable {
+
+        private static final CountMergeOperator INSTANCE = new CountMergeOperator();
+
+        private CountMergeOperator() {
+
+        }
+
+        @Override
+        public Long apply(final Long seedA, final Long seedB) {
+            return seedA + seedB;
+        }
+
+        public final static CountMergeOperator instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////////
 
     private static class CountGlobalMapReduce extends StaticMapReduce<MapReduce.NullObject, Long, MapReduce.NullObject, Long, Long> {
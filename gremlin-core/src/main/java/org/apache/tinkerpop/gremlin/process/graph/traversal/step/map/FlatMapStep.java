@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.graph.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraverserRecycler;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 import java.util.Collections;
@@ -29,10 +30,11 @@ import java.util.Iterator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
+public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> implements TraverserRecycler {
 
     private Traverser.Admin<S> head = null;
     private Iterator<E> iterator = EmptyIterator.instance();
+    private boolean recycleTraversers = false;
 
     public FlatMapStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -42,7 +44,11 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
     protected Traverser<E> processNextStart() {
         while (true) {
             if (this.iterator.hasNext()) {
-                return this.head.split(this.iterator.next(), this);
+                final E end = this.iterator.next();
+                // the head is no longer needed once its last end has been emitted
+                return this.recycleTraversers && !this.iterator.hasNext() ?
+                        this.head.recycle(end, this) :
+                        this.head.split(end, this);
             } else {
                 this.head = this.starts.next();
                 this.iterator = this.flatMap(this.head);
@@ -52,9 +58,31 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
 
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
+    @Override
+    public void setRecycleTraversers(final boolean recycleTraversers) {
+        this.recycleTraversers = recycleTraversers;
+    }
+
+    @Override
+    public boolean getRecycleTraversers() {
+        return this.recycleTraversers;
+    }
+
+    @Override
+    public void terminate() {
+        super.terminate();
+        this.head = null;
+        this.iterator = EmptyIterator.instance();
+    }
+
     @Override
     public void reset() {
         super.reset();
         this.iterator = EmptyIterator.instance();
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -40,6 +41,7 @@ public final class FoldStep<S, E> extends ReducingBarrierStep<S, E> {
 
     public FoldStep(final Traversal.Admin traversal) {
         this(traversal, (Supplier) ArrayListSupplier.instance(), (BiFunction) ArrayListBiFunction.instance());
+        this.setMergeOperator((BinaryOperator) ArrayListMergeOperator.instance());
     }
 
     public FoldStep(final Traversal.Admin traversal, final Supplier<E> seed, final BiFunction<E, S, E> foldFunction) {
@@ -74,6 +76,25 @@ public final class FoldStep<S, E> extends ReducingBarrierStep<S, E> {
         }
     }
 
+    private static class ArrayListMergeOperator<S> implements BinaryOperator<ArrayList<S>>, Serializable {
+
+        private static final ArrayListMergeOperator INSTANCE = new ArrayListMergeOperator();
+
+        private ArrayListMergeOperator() {
+
+        }
+
+        @Override
+        public ArrayList<S> apply(final ArrayList<S> seedA, final ArrayList<S> seedB) {
+            seedA.addAll(seedB);
+            return seedA;
+        }
+
+        public final static <S> ArrayListMergeOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////
 
     public static class FoldBiFunction<S, E> implements BiFunction<E, Traverser<S>, E>, Serializable {
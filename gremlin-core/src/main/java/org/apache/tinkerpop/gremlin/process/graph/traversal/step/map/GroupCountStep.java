@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.MapHelper;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
@@ -111,7 +112,10 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
 
         @Override
         public Map<E, Long> apply(final Map<E, Long> mutatingSeed, final Traverser<S> traverser) {
-            MapHelper.incr(mutatingSeed, TraversalUtil.applyNullable(traverser.asAdmin(), GroupCountStep.this.groupTraversal), traverser.bulk());
+            final E key = TraversalUtil.applyNullable(traverser.asAdmin(), GroupCountStep.this.groupTraversal);
+            if (!mutatingSeed.containsKey(key))
+                traverser.asAdmin().getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.allocate(MemoryBudget.sizeOf(key)));
+            MapHelper.incr(mutatingSeed, key, traverser.bulk());
             return mutatingSeed;
         }
     }
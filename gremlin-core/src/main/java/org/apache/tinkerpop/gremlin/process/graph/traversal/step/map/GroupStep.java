@@ -33,6 +33,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
+import org.apache.tinkerpop.gremlin.process.util.PartialAggregate;
+import org.apache.tinkerpop.gremlin.process.util.PartitionedSpill;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -53,11 +56,16 @@ import java.util.function.Supplier;
  */
 public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R>> implements MapReducer, TraversalParent {
 
+    private static final int SPILL_PARTITIONS = 16;
+
     private char state = 'k';
 
     private Traversal.Admin<S, K> keyTraversal = null;
     private Traversal.Admin<S, V> valueTraversal = null;
     private Traversal.Admin<Collection<V>, R> reduceTraversal = null;
+    private int spillThreshold = Integer.MAX_VALUE;
+    private transient Supplier<PartialAggregate<V, R>> aggregateSupplier = null;
+    private transient boolean aggregateResolved = false;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -81,6 +89,31 @@ public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R
         return this.reduceTraversal;
     }
 
+    /**
+     * Set the maximum number of keys and distinct values to hold in memory before the grouped values are spilled to
+     * disk in hash partitions. The partitions are reduced one at a time and thus, spilling only applies when there is
+     * a reduce traversal. By default, grouped values are never spilled.
+     *
+     * @param spillThreshold the maximum number of keys and distinct values to hold in memory
+     */
+    public void setSpillThreshold(final int spillThreshold) {
+        if (spillThreshold < 1)
+            throw new IllegalArgumentException("The spill threshold must be greater than zero: " + spillThreshold);
+        this.spillThreshold = spillThreshold;
+    }
+
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    private Supplier<PartialAggregate<V, R>> getAggregateSupplier() {
+        if (!this.aggregateResolved) {
+            this.aggregateSupplier = PartialAggregate.getSupplier(this.reduceTraversal);
+            this.aggregateResolved = true;
+        }
+        return this.aggregateSupplier;
+    }
+
     @Override
     public void addLocalChild(final Traversal.Admin<?, ?> kvrTraversal) {
         if ('k' == this.state) {
@@ -111,6 +144,7 @@ public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R
             clone.valueTraversal = clone.integrateChild(this.valueTraversal.clone());
         if (null != this.reduceTraversal)
             clone.reduceTraversal = clone.integrateChild(this.reduceTraversal.clone());
+        clone.aggregateResolved = false;
         return clone;
     }
 
@@ -137,29 +171,74 @@ public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R
 
     ///////////
 
-    private class GroupBiFunction implements BiFunction<Map<K, Collection<V>>, Traverser.Admin<S>, Map<K, Collection<V>>>, Serializable {
+    private class GroupBiFunction implements BiFunction<GroupMap, Traverser.Admin<S>, GroupMap>, Serializable {
 
         private GroupBiFunction() {
 
         }
 
         @Override
-        public Map<K, Collection<V>> apply(final Map<K, Collection<V>> mutatingSeed, final Traverser.Admin<S> traverser) {
-            final K key = TraversalUtil.applyNullable(traverser, GroupStep.this.keyTraversal);
-            final V value = TraversalUtil.applyNullable(traverser, GroupStep.this.valueTraversal);
-            Collection<V> values = mutatingSeed.get(key);
-            if (null == values) {
-                values = new BulkSet<>();
-                mutatingSeed.put(key, values);
-            }
-            TraversalHelper.addToCollectionUnrollIterator(values, value, traverser.bulk());
+        public GroupMap apply(final GroupMap mutatingSeed, final Traverser.Admin<S> traverser) {
+            mutatingSeed.add(TraversalUtil.applyNullable(traverser, GroupStep.this.keyTraversal), TraversalUtil.applyNullable(traverser, GroupStep.this.valueTraversal), traverser.bulk());
             return mutatingSeed;
         }
     }
 
     //////////
 
-    private class GroupMap extends HashMap<K, Collection<V>> implements FinalGet<Map<K, R>> {
+    /**
+     * The values of the map are either a {@link BulkSet} of the values of the key or, if the reduce traversal can be
+     * computed incrementally, a {@link PartialAggregate} of those values.
+     */
+    private class GroupMap extends HashMap<K, Object> implements FinalGet<Map<K, R>> {
+
+        private long bufferedValues = 0l;
+        private long allocatedBytes = 0l;
+        private PartitionedSpill<K, Object> spill = null;
+
+        private void add(final K key, final V value, final long bulk) {
+            final long bufferedValues = this.bufferedValues;
+            long bytes = 0l;
+            Object values = this.get(key);
+            if (null == values) {
+                final Supplier<PartialAggregate<V, R>> supplier = GroupStep.this.getAggregateSupplier();
+                values = null == supplier ? new BulkSet<>() : supplier.get();
+                this.put(key, values);
+                this.bufferedValues++;
+                bytes = MemoryBudget.sizeOf(key) + MemoryBudget.sizeOf(values);
+            }
+            if (values instanceof PartialAggregate)
+                ((PartialAggregate<V, R>) values).addUnrollIterator(value, bulk);
+            else {
+                final BulkSet<V> bulkSet = (BulkSet<V>) values;
+                final int uniqueSize = bulkSet.uniqueSize();
+                TraversalHelper.addToCollectionUnrollIterator(bulkSet, value, bulk);
+                this.bufferedValues = this.bufferedValues + bulkSet.uniqueSize() - uniqueSize;
+                if (bulkSet.uniqueSize() > uniqueSize)
+                    bytes = bytes + (bulkSet.uniqueSize() - uniqueSize) * (value instanceof Iterator || value instanceof Iterable ? MemoryBudget.ENTRY_BYTES : MemoryBudget.sizeOf(value));
+            }
+            boolean overBudget = false;
+            if (this.bufferedValues > bufferedValues) {
+                final MemoryBudget memoryBudget = MemoryBudget.of(GroupStep.this.getTraversal());
+                if (null != memoryBudget) {
+                    if (memoryBudget.isSpilling() && null != GroupStep.this.reduceTraversal)
+                        overBudget = !memoryBudget.tryAllocate(bytes);
+                    else
+                        memoryBudget.allocate(bytes);
+                    if (!overBudget)
+                        this.allocatedBytes = this.allocatedBytes + bytes;
+                }
+            }
+            if ((overBudget || this.bufferedValues >= GroupStep.this.spillThreshold) && null != GroupStep.this.reduceTraversal) {
+                if (null == this.spill) this.spill = new PartitionedSpill<>(SPILL_PARTITIONS);
+                this.spill.spill(this);
+                this.bufferedValues = 0l;
+                if (0l != this.allocatedBytes) {
+                    GroupStep.this.getTraversal().getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.release(this.allocatedBytes));
+                    this.allocatedBytes = 0l;
+                }
+            }
+        }
 
         @Override
         public Map<K, R> getFinal() {
@@ -167,10 +246,33 @@ public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R
                 return (Map<K, R>) this;
             else {
                 final Map<K, R> reduceMap = new HashMap<>();
-                this.forEach((k, vv) -> reduceMap.put(k, TraversalUtil.applyNullable(vv, GroupStep.this.reduceTraversal)));
+                if (null != this.spill && this.spill.isSpilled()) {
+                    this.spill.spill(this);
+                    this.spill.forEachPartition(GroupStep::mergeValues, TraversalHelper.getRootTraversal(GroupStep.this.getTraversal()).getGraph().orElse(null),
+                            partition -> partition.forEach((k, vv) -> reduceMap.put(k, this.reduce(vv))));
+                } else
+                    this.forEach((k, vv) -> reduceMap.put(k, this.reduce(vv)));
                 return reduceMap;
             }
         }
+
+        private R reduce(final Object values) {
+            if (values instanceof PartialAggregate) {
+                final PartialAggregate<V, R> aggregate = (PartialAggregate<V, R>) values;
+                return aggregate.requiresReduce() ?
+                        TraversalUtil.applyNullable((Collection<V>) aggregate.get(), GroupStep.this.reduceTraversal) :
+                        aggregate.get();
+            } else
+                return TraversalUtil.applyNullable((Collection<V>) values, GroupStep.this.reduceTraversal);
+        }
+    }
+
+    private static Object mergeValues(final Object valuesA, final Object valuesB) {
+        if (valuesA instanceof PartialAggregate)
+            ((PartialAggregate) valuesA).merge((PartialAggregate) valuesB);
+        else
+            ((BulkSet) valuesA).addAll((BulkSet) valuesB);
+        return valuesA;
     }
 
     private class GroupMapSupplier implements Supplier<GroupMap>, Serializable {
@@ -239,9 +341,18 @@ public final class GroupStep<S, K, V, R> extends ReducingBarrierStep<S, Map<K, R
 
         @Override
         public void reduce(final K key, final Iterator<Collection<V>> values, final ReduceEmitter<K, R> emitter) {
-            final Set<V> set = new BulkSet<>();
-            values.forEachRemaining(set::addAll);
-            emitter.emit(key, TraversalUtil.applyNullable(set, this.reduceTraversal));
+            final Supplier<PartialAggregate<V, R>> supplier = PartialAggregate.getSupplier(this.reduceTraversal);
+            if (null != supplier) {
+                final PartialAggregate<V, R> aggregate = supplier.get();
+                values.forEachRemaining(aggregate::addAll);
+                emitter.emit(key, aggregate.requiresReduce() ?
+                        TraversalUtil.applyNullable((Collection<V>) aggregate.get(), this.reduceTraversal) :
+                        aggregate.get());
+            } else {
+                final Set<V> set = new BulkSet<>();
+                values.forEachRemaining(set::addAll);
+                emitter.emit(key, TraversalUtil.applyNullable(set, this.reduceTraversal));
+            }
         }
 
         @Override
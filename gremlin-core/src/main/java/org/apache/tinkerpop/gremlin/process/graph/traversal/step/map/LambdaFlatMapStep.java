@@ -46,4 +46,9 @@ public final class LambdaFlatMapStep<S, E> extends FlatMapStep<S, E> {
     public String toString() {
         return TraversalHelper.makeStepString(this, this.function);
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return true;
+    }
 }
@@ -45,4 +45,9 @@ public final class LambdaMapStep<S, E> extends MapStep<S, E> {
     public String toString() {
         return TraversalHelper.makeStepString(this, this.function);
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return true;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.graph.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraverserRecycler;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 
 import java.util.Collections;
@@ -29,7 +30,9 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class MapStep<S, E> extends AbstractStep<S, E> {
+public abstract class MapStep<S, E> extends AbstractStep<S, E> implements TraverserRecycler {
+
+    private boolean recycleTraversers = false;
 
     public MapStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -39,15 +42,31 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
     protected Traverser<E> processNextStart() {
         while (true) {
             final Traverser.Admin<S> traverser = this.starts.next();
-            return traverser.split(this.map(traverser), this);
+            return this.recycleTraversers ?
+                    traverser.recycle(this.map(traverser), this) :
+                    traverser.split(this.map(traverser), this);
         }
     }
 
+    @Override
+    public void setRecycleTraversers(final boolean recycleTraversers) {
+        this.recycleTraversers = recycleTraversers;
+    }
+
+    @Override
+    public boolean getRecycleTraversers() {
+        return this.recycleTraversers;
+    }
+
     protected abstract E map(final Traverser.Admin<S> traverser);
 
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.PATH_ACCESS); // TODO: this is bad -- just a hack right now.
     }
-}
 
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
+}
@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,6 +47,7 @@ public final class MaxGlobalStep<S extends Number> extends ReducingBarrierStep<S
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>(null));
         this.setBiFunction(MaxGlobalBiFunction.<S>instance());
+        this.setMergeOperator(MaxGlobalMergeOperator.<S>instance());
     }
 
     @Override
@@ -78,6 +80,24 @@ public final class MaxGlobalStep<S extends Number> extends ReducingBarrierStep<S
         }
     }
 
+    private static class MaxGlobalMergeOperator<S extends Number> implements BinaryOperator<S>, Serializable {
+
+        private static final MaxGlobalMergeOperator INSTANCE = new MaxGlobalMergeOperator();
+
+        private MaxGlobalMergeOperator() {
+
+        }
+
+        @Override
+        public S apply(final S seedA, final S seedB) {
+            return null == seedB || (null != seedA && seedA.doubleValue() >= seedB.doubleValue()) ? seedA : seedB;
+        }
+
+        public final static <S extends Number> MaxGlobalMergeOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////////
 
     private static class MaxGlobalMapReduce extends StaticMapReduce<MapReduce.NullObject, Number, MapReduce.NullObject, Number, Number> {
@@ -36,6 +36,7 @@ import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -50,6 +51,7 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
         super(traversal);
         this.setSeedSupplier((Supplier) MeanNumberSupplier.instance());
         this.setBiFunction((BiFunction) MeanGlobalBiFunction.instance());
+        this.setMergeOperator((BinaryOperator) MeanGlobalMergeOperator.instance());
     }
 
     @Override
@@ -82,6 +84,24 @@ public final class MeanGlobalStep<S extends Number, E extends Number> extends Re
         }
     }
 
+    private static class MeanGlobalMergeOperator<S extends Number> implements BinaryOperator<S>, Serializable {
+
+        private static final MeanGlobalMergeOperator INSTANCE = new MeanGlobalMergeOperator();
+
+        private MeanGlobalMergeOperator() {
+
+        }
+
+        @Override
+        public S apply(final S seedA, final S seedB) {
+            return (S) ((MeanNumber) seedA).add((MeanNumber) seedB);
+        }
+
+        public final static <S extends Number> MeanGlobalMergeOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////////
 
     private static final class MeanGlobalMapReduce extends StaticMapReduce<Number, Long, Number, Long, Double> {
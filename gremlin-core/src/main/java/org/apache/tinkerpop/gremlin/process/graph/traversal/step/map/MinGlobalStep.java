@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,6 +47,7 @@ public final class MinGlobalStep<S extends Number> extends ReducingBarrierStep<S
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>(null));
         this.setBiFunction(MinGlobalBiFunction.instance());
+        this.setMergeOperator(MinGlobalMergeOperator.instance());
     }
 
     @Override
@@ -78,6 +80,24 @@ public final class MinGlobalStep<S extends Number> extends ReducingBarrierStep<S
         }
     }
 
+    private static class MinGlobalMergeOperator<S extends Number> implements BinaryOperator<S>, Serializable {
+
+        private static final MinGlobalMergeOperator INSTANCE = new MinGlobalMergeOperator();
+
+        private MinGlobalMergeOperator() {
+
+        }
+
+        @Override
+        public S apply(final S seedA, final S seedB) {
+            return null == seedB || (null != seedA && seedA.doubleValue() <= seedB.doubleValue()) ? seedA : seedB;
+        }
+
+        public final static <S extends Number> MinGlobalMergeOperator<S> instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////////
 
     private static class MinGlobalMapReduce extends StaticMapReduce<MapReduce.NullObject, Number, MapReduce.NullObject, Number, Number> {
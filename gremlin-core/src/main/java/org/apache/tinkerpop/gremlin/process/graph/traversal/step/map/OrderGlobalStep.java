@@ -18,12 +18,16 @@
  */
 package org.apache.tinkerpop.gremlin.process.graph.traversal.step.map;
 
+import org.apache.tinkerpop.gremlin.process.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalComparator;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.util.ExternalTraverserSort;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Order;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
@@ -33,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +48,9 @@ import java.util.stream.Collectors;
 public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implements ComparatorHolder<S> {
 
     private final List<Comparator<S>> comparators = new ArrayList<>();
+    private int spillThreshold = Integer.MAX_VALUE;
+    private transient Iterator<Traverser.Admin<S>> spilledTraversers = null;
+    private transient ExternalTraverserSort<S> externalSort = null;
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -50,7 +58,87 @@ public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implement
 
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
-        traverserSet.sort(this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators)));
+        traverserSet.sort(this.getTraverserComparator(), this.isParallelizable());
+    }
+
+    @Override
+    public Traverser<S> processNextStart() {
+        final MemoryBudget memoryBudget = MemoryBudget.of(this.getTraversal());
+        if (Integer.MAX_VALUE == this.spillThreshold && (null == memoryBudget || !memoryBudget.isSpilling()))
+            return super.processNextStart();
+
+        if (this.starts.hasNext()) {
+            final Comparator<Traverser<S>> comparator = this.getTraverserComparator();
+            final boolean parallel = this.isParallelizable();
+            final TraverserSet<S> traverserSet = new TraverserSet<>();
+            if (null != this.spilledTraversers)
+                this.spilledTraversers.forEachRemaining(traverserSet::add);
+            this.closeExternalSort();
+            this.externalSort = new ExternalTraverserSort<>(comparator);
+            this.releaseMemory();
+            while (this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                boolean overBudget = false;
+                if (traverserSet.add(traverser) && null != memoryBudget) {
+                    final long bytes = MemoryBudget.sizeOfTraverser(traverser);
+                    if (!memoryBudget.isSpilling())
+                        this.allocatedBytes = this.allocatedBytes + memoryBudget.allocate(bytes);
+                    else if (memoryBudget.tryAllocate(bytes))
+                        this.allocatedBytes = this.allocatedBytes + bytes;
+                    else
+                        overBudget = true;
+                }
+                if (overBudget || traverserSet.size() >= this.spillThreshold) {
+                    traverserSet.sort(comparator, parallel);
+                    this.externalSort.spill(traverserSet);
+                    this.releaseMemory();
+                }
+            }
+            traverserSet.sort(comparator, parallel);
+            this.spilledTraversers = this.externalSort.merge(traverserSet, this.getTraversal().getSideEffects(), TraversalHelper.getRootTraversal(this.getTraversal()).getGraph().orElse(null));
+        }
+        if (null == this.spilledTraversers)
+            throw FastNoSuchElementException.instance();
+        return this.spilledTraversers.next();
+    }
+
+    /**
+     * Set the maximum number of traversers to hold in memory before a sorted run of traversers is spilled to disk.
+     * Spilled runs are merged back in order as the step is iterated. By default, traversers are never spilled.
+     *
+     * @param spillThreshold the maximum number of traversers to sort in memory
+     */
+    public void setSpillThreshold(final int spillThreshold) {
+        if (spillThreshold < 1)
+            throw new IllegalArgumentException("The spill threshold must be greater than zero: " + spillThreshold);
+        this.spillThreshold = spillThreshold;
+    }
+
+    public int getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
+    private Comparator<Traverser<S>> getTraverserComparator() {
+        return this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators));
+    }
+
+    /**
+     * A {@link TraversalComparator} evaluates its traversal for each comparison and thus, can not be shared by the
+     * threads of a parallel sort.
+     */
+    private boolean isParallelizable() {
+        for (final Comparator<S> comparator : this.comparators) {
+            if (comparator instanceof TraversalComparator)
+                return false;
+        }
+        return true;
+    }
+
+    private void closeExternalSort() {
+        if (null != this.externalSort) {
+            this.externalSort.close();
+            this.externalSort = null;
+        }
     }
 
     @Override
@@ -73,6 +161,21 @@ public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implement
         return Collections.singleton(TraverserRequirement.OBJECT);
     }
 
+    @Override
+    public OrderGlobalStep<S> clone() {
+        final OrderGlobalStep<S> clone = (OrderGlobalStep<S>) super.clone();
+        clone.spilledTraversers = null;
+        clone.externalSort = null;
+        return clone;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.spilledTraversers = null;
+        this.closeExternalSort();
+    }
+
     /////
 
     private static class ComparatorTraverser<S> implements Comparator<Traverser<S>>, Serializable {
@@ -77,6 +77,14 @@ public final class RangeLocalStep<S> extends MapStep<S, S> {
         return start;
     }
 
+    public long getLowRange() {
+        return this.low;
+    }
+
+    public long getHighRange() {
+        return this.high;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.OBJECT);
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.CollectingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathLabelAccessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
@@ -37,11 +38,12 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class SelectOneStep<S, E> extends MapStep<S, E> implements TraversalParent, EngineDependent {
+public final class SelectOneStep<S, E> extends MapStep<S, E> implements TraversalParent, EngineDependent, PathLabelAccessor {
 
     private final String selectLabel;
     private Traversal.Admin<Object, Object> selectTraversal = new IdentityTraversal<>();
     private boolean requiresPaths = false;
+    private Set<String> keepLabels = null;
 
     public SelectOneStep(final Traversal.Admin traversal, final String selectLabel) {
         super(traversal);
@@ -70,6 +72,21 @@ public final class SelectOneStep<S, E> extends MapStep<S, E> implements Traversa
                                 filter(step -> step instanceof TraversalParent).findAny().isPresent();
     }
 
+    @Override
+    public Set<String> getReferencedLabels() {
+        return Collections.singleton(this.selectLabel);
+    }
+
+    @Override
+    public void setKeepLabels(final Set<String> keepLabels) {
+        this.keepLabels = keepLabels;
+    }
+
+    @Override
+    public Set<String> getKeepLabels() {
+        return this.keepLabels;
+    }
+
     @Override
     public String toString() {
         return TraversalHelper.makeStepString(this, this.selectLabel, this.selectTraversal);
@@ -95,7 +112,7 @@ public final class SelectOneStep<S, E> extends MapStep<S, E> implements Traversa
     @Override
     public Set<TraverserRequirement> getRequirements() {
         final Set<TraverserRequirement> requirements = this.getSelfAndChildRequirements(TraverserRequirement.OBJECT, TraverserRequirement.PATH_ACCESS);
-        if (this.requiresPaths) requirements.add(TraverserRequirement.PATH);
+        if (this.requiresPaths) requirements.add(TraverserRequirement.LABELED_PATH);
         return requirements;
     }
 }
@@ -36,6 +36,7 @@ import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -51,6 +52,7 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
         super(traversal);
         this.setSeedSupplier(new ConstantSupplier<>(0.0d));
         this.setBiFunction(SumGlobalBiFunction.instance());
+        this.setMergeOperator(SumGlobalMergeOperator.instance());
     }
 
 
@@ -84,6 +86,24 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
         }
     }
 
+    private static class SumGlobalMergeOperator implements BinaryOperator<Double>, Serializable {
+
+        private static final SumGlobalMergeOperator INSTANCE = new SumGlobalMergeOperator();
+
+        private SumGlobalMergeOperator() {
+
+        }
+
+        @Override
+        public Double apply(final Double seedA, final Double seedB) {
+            return seedA + seedB;
+        }
+
+        public final static SumGlobalMergeOperator instance() {
+            return INSTANCE;
+        }
+    }
+
     ///////////
 
     private static class SumGlobalMapReduce extends StaticMapReduce<MapReduce.NullObject, Number, MapReduce.NullObject, Number, Number> {
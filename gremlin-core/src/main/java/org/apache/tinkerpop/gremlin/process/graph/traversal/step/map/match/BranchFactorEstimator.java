@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.T;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.graph.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Compare;
+import org.apache.tinkerpop.gremlin.structure.Contains;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Collection;
+
+/**
+ * Estimates the branch factor of a {@link MatchStep} pattern (the number of outputs per input) from
+ * {@link Graph.Statistics} before any traversers have been processed. Steps that are not understood by the
+ * estimator are assumed to neither branch nor filter.
+ *
+ * @author Joshua Shinavier (http://fortytwo.net)
+ */
+public final class BranchFactorEstimator {
+
+    /**
+     * The fraction of elements presumed to pass a has()-predicate that is not an equality.
+     */
+    public static final double RANGE_SELECTIVITY = 1.0d / 3.0d;
+
+    private BranchFactorEstimator() {
+    }
+
+    public static double estimate(final Traversal.Admin<?, ?> traversal, final Graph.Statistics statistics) {
+        double branchFactor = 1.0d;
+        boolean edges = false;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof VertexStep) {
+                final VertexStep<?> vertexStep = (VertexStep<?>) step;
+                branchFactor = branchFactor * statistics.averageDegree(vertexStep.getDirection(), vertexStep.getEdgeLabels());
+                edges = Edge.class.isAssignableFrom(vertexStep.getReturnClass());
+            } else if (step instanceof EdgeVertexStep) {
+                if (((EdgeVertexStep) step).getDirection().equals(Direction.BOTH))
+                    branchFactor = branchFactor * 2.0d;
+                edges = false;
+            } else if (step instanceof HasContainerHolder) {
+                for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                    branchFactor = branchFactor * selectivity(hasContainer, edges, statistics);
+                }
+            }
+        }
+        return branchFactor;
+    }
+
+    private static double selectivity(final HasContainer hasContainer, final boolean edges, final Graph.Statistics statistics) {
+        if (null == hasContainer.value)
+            return 1.0d;
+        final long total = edges ? statistics.edgeCount(null) : statistics.vertexCount(null);
+        if (0l == total)
+            return 0.0d;
+        if (hasContainer.key.equals(T.id.getAccessor())) {
+            return Compare.eq.equals(hasContainer.predicate) ? 1.0d / total : RANGE_SELECTIVITY;
+        } else if (hasContainer.key.equals(T.label.getAccessor())) {
+            if (Compare.eq.equals(hasContainer.predicate))
+                return (double) count(hasContainer.value, edges, statistics) / total;
+            else if (Contains.within.equals(hasContainer.predicate) && hasContainer.value instanceof Collection) {
+                long count = 0l;
+                for (final Object label : (Collection) hasContainer.value) {
+                    count = count + count(label, edges, statistics);
+                }
+                return Math.min(1.0d, (double) count / total);
+            } else
+                return RANGE_SELECTIVITY;
+        } else {
+            if (Compare.eq.equals(hasContainer.predicate))
+                return statistics.selectivity(hasContainer.key);
+            else if (Contains.within.equals(hasContainer.predicate) && hasContainer.value instanceof Collection)
+                return Math.min(1.0d, statistics.selectivity(hasContainer.key) * ((Collection) hasContainer.value).size());
+            else
+                return RANGE_SELECTIVITY;
+        }
+    }
+
+    private static long count(final Object label, final boolean edges, final Graph.Statistics statistics) {
+        return edges ? statistics.edgeCount(label.toString()) : statistics.vertexCount(label.toString());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An Enumerator which joins the solutions of two other Enumerators on their shared variables by hashing.
+ * The build Enumerator is completely enumerated (once) into a hash table keyed by the values of the join variables.
+ * The probe Enumerator is then enumerated lazily and each of its solutions is matched against the hash table.
+ * This visits each base solution a constant number of times, as opposed to the Cartesian product of a
+ * {@link CrossJoinEnumerator} that is filtered by an {@link InnerJoinEnumerator}.
+ *
+ * @author Joshua Shinavier (http://fortytwo.net)
+ */
+public class HashJoinEnumerator<T> implements Enumerator<T> {
+
+    private final Enumerator<T> buildEnum, probeEnum;
+    private final Set<String> joinVariables;
+
+    private Map<List<T>, List<Integer>> hashTable = null;
+    // pairs of build and probe indices of the joined solutions
+    private final List<int[]> joinIndices = new ArrayList<>();
+    private int probeIndex = 0;
+    private boolean probeExhausted = false;
+
+    private final Map<String, T> map = new HashMap<>();
+    private final BiConsumer<String, T> mapVisitor = this.map::put;
+
+    public HashJoinEnumerator(final Enumerator<T> buildEnum,
+                              final Enumerator<T> probeEnum,
+                              final Set<String> joinVariables) {
+        this.buildEnum = buildEnum;
+        this.probeEnum = probeEnum;
+        this.joinVariables = joinVariables;
+    }
+
+    public int size() {
+        return this.joinIndices.size();
+    }
+
+    public boolean visitSolution(final int index,
+                                 final BiConsumer<String, T> visitor) {
+        if (null == this.hashTable)
+            this.build();
+
+        while (index >= this.joinIndices.size()) {
+            if (this.probeExhausted || !this.probe())
+                return false;
+        }
+
+        final int[] indices = this.joinIndices.get(index);
+        this.map.clear();
+        if (!this.buildEnum.visitSolution(indices[0], this.mapVisitor) ||
+                !this.probeEnum.visitSolution(indices[1], this.mapVisitor)) {
+            throw new IllegalStateException();
+        }
+
+        for (final Map.Entry<String, T> entry : this.map.entrySet()) {
+            visitor.accept(entry.getKey(), entry.getValue());
+        }
+
+        return true;
+    }
+
+    private void build() {
+        this.hashTable = new HashMap<>();
+        int buildIndex = 0;
+        while (true) {
+            this.map.clear();
+            if (!this.buildEnum.visitSolution(buildIndex, this.mapVisitor))
+                break;
+            final List<T> key = this.joinKey();
+            if (null != key)
+                this.hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(buildIndex);
+            buildIndex++;
+        }
+        if (this.hashTable.isEmpty())
+            this.probeExhausted = true; // nothing can join so do not enumerate the probe side
+    }
+
+    // match the next probe solution against the hash table
+    private boolean probe() {
+        this.map.clear();
+        if (!this.probeEnum.visitSolution(this.probeIndex, this.mapVisitor)) {
+            this.probeExhausted = true;
+            return false;
+        }
+        final List<T> key = this.joinKey();
+        final List<Integer> buildIndices = null == key ? null : this.hashTable.get(key);
+        if (null != buildIndices) {
+            for (final Integer buildIndex : buildIndices) {
+                this.joinIndices.add(new int[]{buildIndex, this.probeIndex});
+            }
+        }
+        this.probeIndex++;
+        return true;
+    }
+
+    private List<T> joinKey() {
+        if (1 == this.joinVariables.size()) {
+            final T value = this.map.get(this.joinVariables.iterator().next());
+            return null == value ? null : Collections.singletonList(value);
+        }
+        final List<T> key = new ArrayList<>(this.joinVariables.size());
+        for (final String variable : this.joinVariables) {
+            final T value = this.map.get(variable);
+            if (null == value)
+                return null;
+            key.add(value);
+        }
+        return key;
+    }
+}
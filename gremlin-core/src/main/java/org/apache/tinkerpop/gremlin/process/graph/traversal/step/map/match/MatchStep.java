@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_PA_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
@@ -63,6 +64,7 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
     private int startsPerOptimize = DEFAULT_STARTS_PER_OPTIMIZE;
     private int optimizeCounter = -1;
     private int anonLabelCounter = 0;
+    private transient Graph.Statistics statistics = null;
 
     private Enumerator<S> currentSolution;
     private int currentIndex;
@@ -115,6 +117,22 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
         this.startsPerOptimize = startsPerOptimize;
     }
 
+    /**
+     * Provides graph statistics from which the branch factor of each traversal is estimated. This allows the
+     * initial query plan to be cost-based before any statistics have been gathered from the traversals themselves.
+     *
+     * @param statistics the statistics of the graph being traversed
+     */
+    public void setStatistics(final Graph.Statistics statistics) {
+        this.statistics = statistics;
+        this.traversalsByStartAs.values().forEach(wrappers -> wrappers.forEach(this::estimateBranchFactor));
+    }
+
+    private void estimateBranchFactor(final TraversalWrapper<S, S> wrapper) {
+        if (null != this.statistics)
+            wrapper.setEstimatedBranchFactor(BranchFactorEstimator.estimate(wrapper.getTraversal().asAdmin(), this.statistics));
+    }
+
     @Override
     protected Traverser<Map<String, E>> processNextStart() throws NoSuchElementException {
         final Map<String, E> map = new HashMap<>();
@@ -192,6 +210,7 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
         }
 
         final TraversalWrapper<S, S> wrapper = new TraversalWrapper<>(traversal, startAs, endAs);
+        this.estimateBranchFactor(wrapper);
         // index all wrapped traversals by their startLabel
         List<TraversalWrapper<S, S>> l2 = this.traversalsByStartAs.get(startAs);
         if (null == l2) {
@@ -277,6 +296,7 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
             return new SerialEnumerator<>(localStartAs, inputs, o -> {
                 Enumerator<S> result = null;
                 Set<String> leftLabels = new HashSet<>();
+                double leftCardinality = 1.0;
 
                 for (TraversalWrapper<S, S> w : outs) {
                     TraversalUpdater<S, S> updater
@@ -285,8 +305,10 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
                     Set<String> rightLabels = new HashSet<>();
                     addVariables(w.endLabel, rightLabels);
                     Enumerator<S> ie = solveFor(w.endLabel, updater);
-                    result = null == result ? ie : crossJoin(result, ie, leftLabels, rightLabels);
+                    double rightCardinality = w.findBranchFactor() * findCardinality(w.endLabel);
+                    result = null == result ? ie : join(result, ie, leftLabels, rightLabels, leftCardinality, rightCardinality);
                     leftLabels.addAll(rightLabels);
+                    leftCardinality *= rightCardinality;
                 }
 
                 return result;
@@ -294,10 +316,17 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
         }
     }
 
-    private static <T> Enumerator<T> crossJoin(final Enumerator<T> left,
-                                               final Enumerator<T> right,
-                                               final Set<String> leftLabels,
-                                               final Set<String> rightLabels) {
+    /**
+     * Joins the solutions of two enumerators on their shared variables. A hash join visits each solution of either
+     * side once, whereas an inner join filters the cross product of both sides; the cross join remains preferable
+     * only when it is expected to be no larger than the two sides.
+     */
+    public static <T> Enumerator<T> join(final Enumerator<T> left,
+                                          final Enumerator<T> right,
+                                          final Set<String> leftLabels,
+                                          final Set<String> rightLabels,
+                                          final double leftCardinality,
+                                          final double rightCardinality) {
         Set<String> shared = new HashSet<>();
         for (String s : rightLabels) {
             if (leftLabels.contains(s)) {
@@ -305,8 +334,16 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
             }
         }
 
-        Enumerator<T> cj = new CrossJoinEnumerator<>(left, right);
-        return shared.size() > 0 ? new InnerJoinEnumerator<>(cj, shared) : cj;
+        if (shared.isEmpty()) {
+            return new CrossJoinEnumerator<>(left, right);
+        } else if (leftCardinality * rightCardinality > leftCardinality + rightCardinality) {
+            // build the hash table from the smaller side
+            return leftCardinality <= rightCardinality
+                    ? new HashJoinEnumerator<>(left, right, shared)
+                    : new HashJoinEnumerator<>(right, left, shared);
+        } else {
+            return new InnerJoinEnumerator<>(new CrossJoinEnumerator<>(left, right), shared);
+        }
     }
 
     // recursively add all non-anonymous variables from a starting point in the query
@@ -377,6 +414,18 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
         return cost;
     }
 
+    // the expected number of solutions of the branch of the query plan at the given out-label for one start value
+    private double findCardinality(final String outAs) {
+        double cardinality = 1.0;
+        List<TraversalWrapper<S, S>> outs = traversalsByStartAs.get(outAs);
+        if (null != outs) {
+            for (TraversalWrapper<S, S> child : outs) {
+                cardinality *= child.findBranchFactor() * findCardinality(child.endLabel);
+            }
+        }
+        return cardinality;
+    }
+
     /**
      * @param outLabel the out-label of one or more traversals in the query
      * @return the expected cost, in the current query plan, of applying the branch of the query plan at
@@ -405,11 +454,15 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
     // Priority in turn affects branch factor.
     // However, with sufficient inputs and optimizations,the branch factor is expected to converge on a stable value.
     public static class TraversalWrapper<A, B> implements Comparable<TraversalWrapper<A, B>> {
+        // the number of observed inputs that the estimated branch factor is worth
+        private static final int ESTIMATE_WEIGHT = 10;
+
         private final Traversal<A, B> traversal;
         private final String startLabel, endLabel;
         private int totalInputs = 0;
         private int totalOutputs = 0;
         private double orderingFactor;
+        private double estimatedBranchFactor = Double.NaN;
 
         public TraversalWrapper(final Traversal<A, B> traversal,
                                 final String startLabel,
@@ -419,6 +472,10 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
             this.endLabel = endLabel;
         }
 
+        public void setEstimatedBranchFactor(final double estimatedBranchFactor) {
+            this.estimatedBranchFactor = estimatedBranchFactor;
+        }
+
         public void incrementInputs() {
             this.totalInputs++;
         }
@@ -430,6 +487,8 @@ public final class MatchStep<S, E> extends AbstractStep<S, Map<String, E>> imple
         // TODO: take variance into account, to avoid penalizing traversals for early encounters with super-inputs,
         // or simply for never having been tried
         public double findBranchFactor() {
+            if (!Double.isNaN(this.estimatedBranchFactor))
+                return (this.totalOutputs + (this.estimatedBranchFactor * ESTIMATE_WEIGHT)) / (this.totalInputs + ESTIMATE_WEIGHT);
             return 0 == this.totalInputs ? 1 : this.totalOutputs / ((double) this.totalInputs);
         }
 
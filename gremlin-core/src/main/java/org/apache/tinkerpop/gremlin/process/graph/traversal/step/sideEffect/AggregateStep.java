@@ -33,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.function.BulkSetSupplier;
@@ -85,11 +86,12 @@ public final class AggregateStep<S> extends CollectingBarrierStep<S> implements
 
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
-        traverserSet.forEach(traverser ->
-                TraversalHelper.addToCollection(
-                        traverser.getSideEffects().get(this.sideEffectKey),
-                        TraversalUtil.applyNullable(traverser, this.aggregateTraversal),
-                        traverser.bulk()));
+        final MemoryBudget memoryBudget = MemoryBudget.of(this.getTraversal());
+        traverserSet.forEach(traverser -> {
+            final Object object = TraversalUtil.applyNullable(traverser, this.aggregateTraversal);
+            if (TraversalHelper.addToCollection(traverser.getSideEffects().get(this.sideEffectKey), object, traverser.bulk()) && null != memoryBudget)
+                memoryBudget.allocate(MemoryBudget.sizeOf(object));
+        });
     }
 
     @Override
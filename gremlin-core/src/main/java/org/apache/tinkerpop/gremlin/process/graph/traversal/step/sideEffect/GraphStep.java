@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
@@ -50,9 +51,7 @@ public class GraphStep<S extends Element> extends StartStep<S> implements Engine
             if (this.ids[i] instanceof Element)
                 this.ids[i] = ((Element) this.ids[i]).id();
         }
-        this.iteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ?
-                this.getTraversal().getGraph().get().vertices(this.ids) :
-                this.getTraversal().getGraph().get().edges(this.ids));
+        this.iteratorSupplier = new GraphIteratorSupplier<>(this);
     }
 
     public String toString() {
@@ -96,4 +95,33 @@ public class GraphStep<S extends Element> extends StartStep<S> implements Engine
             this.start = null == this.iteratorSupplier ? EmptyIterator.instance() : this.iteratorSupplier.get();
         return super.processNextStart();
     }
+
+    @Override
+    public GraphStep<S> clone() {
+        final GraphStep<S> clone = (GraphStep<S>) super.clone();
+        clone.ids = this.ids.clone();
+        // the default iterator supplier reads the ids of its step and thus, the clone requires its own
+        if (this.iteratorSupplier instanceof GraphIteratorSupplier)
+            clone.iteratorSupplier = new GraphIteratorSupplier<>(clone);
+        return clone;
+    }
+
+    //////
+
+    private static final class GraphIteratorSupplier<S extends Element> implements Supplier<Iterator<S>> {
+
+        private final GraphStep<S> graphStep;
+
+        private GraphIteratorSupplier(final GraphStep<S> graphStep) {
+            this.graphStep = graphStep;
+        }
+
+        @Override
+        public Iterator<S> get() {
+            final Graph graph = this.graphStep.getTraversal().getGraph().get();
+            return (Iterator<S>) (this.graphStep.returnsVertices() ?
+                    graph.vertices(this.graphStep.ids) :
+                    graph.edges(this.graphStep.ids));
+        }
+    }
 }
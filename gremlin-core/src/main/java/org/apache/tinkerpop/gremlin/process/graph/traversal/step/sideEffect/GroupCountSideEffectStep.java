@@ -33,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.MapHelper;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 
@@ -61,7 +62,10 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
     @Override
     protected void sideEffect(final Traverser.Admin<S> traverser) {
         final Map<Object, Long> groupCountMap = traverser.sideEffects(this.sideEffectKey);
-        MapHelper.incr(groupCountMap, TraversalUtil.applyNullable(traverser.asAdmin(), this.groupTraversal), traverser.bulk());
+        final Object key = TraversalUtil.applyNullable(traverser.asAdmin(), this.groupTraversal);
+        if (!groupCountMap.containsKey(key))
+            traverser.getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.allocate(MemoryBudget.sizeOf(key)));
+        MapHelper.incr(groupCountMap, key, traverser.bulk());
     }
 
     @Override
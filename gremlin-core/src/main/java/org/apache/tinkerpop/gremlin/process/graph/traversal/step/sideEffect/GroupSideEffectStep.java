@@ -35,6 +35,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
@@ -73,12 +74,22 @@ public final class GroupSideEffectStep<S, K, V, R> extends SideEffectStep<S> imp
         final Map<K, Collection<V>> groupMap = null == this.tempGroupByMap ? traverser.sideEffects(this.sideEffectKey) : this.tempGroupByMap; // for nested traversals and not !starts.hasNext()
         final K key = TraversalUtil.applyNullable(traverser, keyTraversal);
         final V value = TraversalUtil.applyNullable(traverser, valueTraversal);
+        final MemoryBudget memoryBudget = MemoryBudget.of(this.getTraversal());
         Collection<V> values = groupMap.get(key);
         if (null == values) {
             values = new BulkSet<>();
             groupMap.put(key, values);
+            if (null != memoryBudget)
+                memoryBudget.allocate(MemoryBudget.sizeOf(key) + MemoryBudget.sizeOf(values));
+        }
+        if (null == memoryBudget)
+            TraversalHelper.addToCollectionUnrollIterator(values, value, traverser.bulk());
+        else {
+            final int uniqueSize = ((BulkSet<V>) values).uniqueSize();
+            TraversalHelper.addToCollectionUnrollIterator(values, value, traverser.bulk());
+            if (((BulkSet<V>) values).uniqueSize() > uniqueSize)
+                memoryBudget.allocate((((BulkSet<V>) values).uniqueSize() - uniqueSize) * (value instanceof Iterator || value instanceof Iterable ? MemoryBudget.ENTRY_BYTES : MemoryBudget.sizeOf(value)));
         }
-        TraversalHelper.addToCollectionUnrollIterator(values, value, traverser.bulk());
         //////// reducer for OLTP
         if (!this.onGraphComputer && null != this.reduceTraversal && !this.starts.hasNext()) {
             this.tempGroupByMap = groupMap;
@@ -18,15 +18,20 @@
  */
 package org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect;
 
+import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
 import org.apache.tinkerpop.gremlin.util.iterator.ArrayIterator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class InjectStep<S> extends StartStep<S> {
+public final class InjectStep<S> extends StartStep<S> implements EngineDependent {
 
     private final S[] injections;
+    private boolean onGraphComputer = false;
 
     @SafeVarargs
     public InjectStep(final Traversal.Admin traversal, final S... injections) {
@@ -35,16 +40,28 @@ public final class InjectStep<S> extends StartStep<S> {
         this.start = new ArrayIterator<>(this.injections);
     }
 
+    public S[] getInjections() {
+        return this.injections;
+    }
+
+    @Override
+    public void onEngine(final TraversalEngine traversalEngine) {
+        // the injections of a start step are started at the vertices that host them (see TraversalVertexProgram)
+        this.onGraphComputer = traversalEngine.isComputer() && this.getTraversal().getParent() instanceof EmptyStep && this.getTraversal().getStartStep() == (Step) this;
+        if (this.onGraphComputer)
+            this.start = null;
+    }
+
     @Override
     public InjectStep<S> clone() {
         final InjectStep<S> clone = (InjectStep<S>) super.clone();
-        clone.start = new ArrayIterator<>(clone.injections);
+        clone.start = this.onGraphComputer ? null : new ArrayIterator<>(clone.injections);
         return clone;
     }
 
     @Override
     public void reset() {
         super.reset();
-        this.start = new ArrayIterator<>(this.injections);
+        this.start = this.onGraphComputer ? null : new ArrayIterator<>(this.injections);
     }
 }
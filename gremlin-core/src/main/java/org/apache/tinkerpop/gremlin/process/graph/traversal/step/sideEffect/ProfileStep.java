@@ -28,10 +28,12 @@ import org.apache.tinkerpop.gremlin.process.computer.util.StaticMapReduce;
 import org.apache.tinkerpop.gremlin.process.traversal.step.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.util.metric.DependantMutableMetrics;
 import org.apache.tinkerpop.gremlin.process.util.metric.MutableMetrics;
 import org.apache.tinkerpop.gremlin.process.util.metric.StandardTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.util.metric.ThreadResources;
 import org.apache.tinkerpop.gremlin.process.util.metric.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
@@ -40,15 +42,42 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
+ * Times the step that precedes it and counts the traversers (and their bulk) that the step emits. Besides the wall
+ * clock duration, the CPU time and the allocated bytes of the step are measured if requested and if the JVM supports
+ * it. With a sample interval greater than one, only one out of every sample interval calls to the step is timed and
+ * the timings are extrapolated, which keeps the overhead of profiling low enough for production traversals.
+ *
  * @author Bob Briody (http://bobbriody.com)
  */
 public final class ProfileStep<S> extends AbstractStep<S, S> implements MapReducer<MapReduce.NullObject, StandardTraversalMetrics, MapReduce.NullObject, StandardTraversalMetrics, StandardTraversalMetrics> {
 
     // Stored in the Traversal sideEffects but kept here as a reference for convenience.
     private StandardTraversalMetrics traversalMetrics;
+    private final int sampleInterval;
+    private final boolean threadResources;
 
     public ProfileStep(final Traversal.Admin traversal) {
+        this(traversal, 1);
+    }
+
+    public ProfileStep(final Traversal.Admin traversal, final int sampleInterval) {
+        this(traversal, sampleInterval, false);
+    }
+
+    public ProfileStep(final Traversal.Admin traversal, final int sampleInterval, final boolean threadResources) {
         super(traversal);
+        if (sampleInterval < 1)
+            throw new IllegalArgumentException("The sample interval must be greater than zero: " + sampleInterval);
+        this.sampleInterval = sampleInterval;
+        this.threadResources = threadResources;
+    }
+
+    public int getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    public boolean getThreadResources() {
+        return this.threadResources;
     }
 
 
@@ -88,6 +117,11 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MapReduc
         return this.starts.next();
     }
 
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
+
     private void initializeIfNeeded() {
         if (traversalMetrics != null) {
             return;
@@ -145,9 +179,20 @@ public final class ProfileStep<S> extends AbstractStep<S, S> implements MapReduc
                 prevMetrics = (DependantMutableMetrics) metrics;
             }
 
+            metrics.setSampleInterval(profileStep.getSampleInterval());
+            metrics.setThreadResources(profileStep.getThreadResources());
+
             // Initialize counters (necessary because some steps might end up being 0)
             metrics.incrementCount(TraversalMetrics.ELEMENT_COUNT_ID, 0);
             metrics.incrementCount(TraversalMetrics.TRAVERSER_COUNT_ID, 0);
+            if (profileStep.getThreadResources() && ThreadResources.isCpuTimeSupported())
+                metrics.incrementCount(TraversalMetrics.CPU_DURATION_ID, 0);
+            if (profileStep.getThreadResources() && ThreadResources.isAllocationSupported())
+                metrics.incrementCount(TraversalMetrics.ALLOCATED_BYTES_ID, 0);
+
+            // Steps that report their own metrics (e.g. index usage)
+            if (step instanceof Profiling)
+                ((Profiling) step).setMetrics(metrics);
 
             // Add metrics to parent, if necessary
             if (parentMetrics != null) {
@@ -69,6 +69,12 @@ public class StartStep<S> extends AbstractStep<S, S> {
         return this.starts.next();
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.first = true;
+    }
+
     @Override
     public StartStep<S> clone() {
         final StartStep<S> clone = (StartStep<S>) super.clone();
@@ -76,4 +82,9 @@ public class StartStep<S> extends AbstractStep<S, S> {
         clone.start = null;
         return clone;
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
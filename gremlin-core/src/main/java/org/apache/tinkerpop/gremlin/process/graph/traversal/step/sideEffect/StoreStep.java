@@ -33,6 +33,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.util.BulkSet;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.function.BulkSetSupplier;
 
@@ -59,10 +60,9 @@ public final class StoreStep<S> extends SideEffectStep<S> implements SideEffectC
 
     @Override
     protected void sideEffect(final Traverser.Admin<S> traverser) {
-        TraversalHelper.addToCollection(
-                traverser.sideEffects(this.sideEffectKey),
-                TraversalUtil.applyNullable(traverser.asAdmin(), this.storeTraversal),
-                traverser.bulk());
+        final Object object = TraversalUtil.applyNullable(traverser.asAdmin(), this.storeTraversal);
+        if (TraversalHelper.addToCollection(traverser.sideEffects(this.sideEffectKey), object, traverser.bulk()))
+            traverser.getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.allocate(MemoryBudget.sizeOf(object)));
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.process.util.TraverserSet;
 
 import java.util.Collections;
@@ -32,6 +33,7 @@ import java.util.Set;
  */
 public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> {
     private TraverserSet<S> traverserSet = new TraverserSet<>();
+    protected long allocatedBytes = 0l;
 
     public CollectingBarrierStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -47,16 +49,37 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> {
     @Override
     public Traverser<S> processNextStart() {
         if (this.starts.hasNext()) {
-            this.starts.forEachRemaining(this.traverserSet::add);
+            final MemoryBudget memoryBudget = MemoryBudget.of(this.getTraversal());
+            if (null == memoryBudget)
+                this.starts.forEachRemaining(this.traverserSet::add);
+            else {
+                this.releaseMemory();
+                while (this.starts.hasNext()) {
+                    final Traverser.Admin<S> traverser = this.starts.next();
+                    if (this.traverserSet.add(traverser))
+                        this.allocatedBytes = this.allocatedBytes + memoryBudget.allocate(MemoryBudget.sizeOfTraverser(traverser));
+                }
+            }
             this.barrierConsumer(this.traverserSet);
         }
         return this.traverserSet.remove();
     }
 
+    /**
+     * Return the bytes that this step has accounted for to the {@link MemoryBudget} of the traversal.
+     */
+    protected void releaseMemory() {
+        if (0l != this.allocatedBytes) {
+            this.getTraversal().getSideEffects().getMemoryBudget().ifPresent(memoryBudget -> memoryBudget.release(this.allocatedBytes));
+            this.allocatedBytes = 0l;
+        }
+    }
+
     @Override
     public CollectingBarrierStep<S> clone() {
         final CollectingBarrierStep<S> clone = (CollectingBarrierStep<S>) super.clone();
         clone.traverserSet = new TraverserSet<>();
+        clone.allocatedBytes = 0l;
         return clone;
     }
 
@@ -64,5 +87,13 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> {
     public void reset() {
         super.reset();
         this.traverserSet.clear();
+        this.releaseMemory();
+    }
+
+    @Override
+    public void terminate() {
+        super.terminate();
+        this.traverserSet.clear();
+        this.releaseMemory();
     }
 }
@@ -62,6 +62,11 @@ public abstract class ComputerAwareStep<S, E> extends AbstractStep<S, E> impleme
         return clone;
     }
 
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
+
     protected abstract Iterator<Traverser<E>> standardAlgorithm() throws NoSuchElementException;
 
     protected abstract Iterator<Traverser<E>> computerAlgorithm() throws NoSuchElementException;
@@ -77,7 +82,7 @@ public abstract class ComputerAwareStep<S, E> extends AbstractStep<S, E> impleme
         @Override
         protected Traverser<S> processNextStart() throws NoSuchElementException {
             final Traverser.Admin<S> start = this.starts.next();
-            if (this.traverserStepIdSetByChild) start.setStepId(ComputerAwareStep.this.getNextStep().getId());
+            if (this.traverserStepIdSetByChild) start.setStepIndex(ComputerAwareStep.this.getNextStep().getIndex());
             return start;
         }
 
@@ -90,6 +95,11 @@ public abstract class ComputerAwareStep<S, E> extends AbstractStep<S, E> impleme
         public void onEngine(final TraversalEngine engine) {
             this.traverserStepIdSetByChild = engine.isComputer();
         }
+
+        @Override
+        public boolean retainsTraversers() {
+            return false;
+        }
     }
 
 }
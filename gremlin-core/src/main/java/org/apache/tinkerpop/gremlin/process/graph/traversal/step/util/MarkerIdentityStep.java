@@ -37,4 +37,9 @@ public final class MarkerIdentityStep<S> extends AbstractStep<S, S> {
     protected Traverser<S> processNextStart() throws NoSuchElementException {
         return this.starts.next();
     }
+
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A {@code ParallelStep} executes a segment of non-barrier steps on a {@link ForkJoinPool}. The incoming traversers
+ * are split into batches and each batch is processed by a cloned pipeline of the segment's steps. The output of the
+ * batches is emitted in the order that the batches were split and thus, the order of the traversers is the same as if
+ * the segment were executed on a single thread. The next step (typically a barrier) merges the output. If the next
+ * step is a {@link ReducingBarrierStep} that merges partial seeds, each batch is reduced on the pool and only its
+ * partial seed is emitted. The segment may be empty in which case the batches are only reduced.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class ParallelStep<S, E> extends AbstractStep<S, E> {
+
+    private List<Step<?, ?>> segment;
+    private final int batchSize;
+    private transient ForkJoinPool pool;
+
+    private transient Deque<ForkJoinTask<List<Traverser<E>>>> batches = new ArrayDeque<>();
+    private transient Queue<List<Step<?, ?>>> pipelines = new ConcurrentLinkedQueue<>();
+    private transient Iterator<Traverser<E>> currentBatch = Collections.emptyIterator();
+
+    public ParallelStep(final Traversal.Admin traversal, final List<Step<?, ?>> segment, final ForkJoinPool pool, final int batchSize) {
+        super(traversal);
+        this.segment = segment;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    public List<Step<?, ?>> getSegment() {
+        return Collections.unmodifiableList(this.segment);
+    }
+
+    @Override
+    protected Traverser<E> processNextStart() {
+        if (null == this.batches) {
+            // the step was deserialized
+            this.batches = new ArrayDeque<>();
+            this.pipelines = new ConcurrentLinkedQueue<>();
+            this.currentBatch = Collections.emptyIterator();
+            if (null == this.pool) this.pool = ForkJoinPool.commonPool();
+        }
+        while (true) {
+            if (this.currentBatch.hasNext())
+                return this.currentBatch.next();
+            // keep a bounded number of batches in flight so that the output of the segment does not accumulate in memory
+            while (this.batches.size() < this.pool.getParallelism() * 2 && this.starts.hasNext()) {
+                final List<Traverser.Admin<S>> batch = new ArrayList<>(this.batchSize);
+                while (batch.size() < this.batchSize && this.starts.hasNext()) {
+                    batch.add(this.starts.next());
+                }
+                this.batches.add(this.pool.submit(() -> this.processBatch(batch)));
+            }
+            if (this.batches.isEmpty())
+                throw FastNoSuchElementException.instance();
+            try {
+                this.currentBatch = this.batches.poll().join().iterator();
+            } catch (final RuntimeException e) {
+                // the traversal has failed and so, the batches in flight are no longer needed
+                this.batches.forEach(batch -> batch.cancel(true));
+                this.batches.clear();
+                throw e;
+            }
+        }
+    }
+
+    private List<Traverser<E>> processBatch(final List<Traverser.Admin<S>> batch) {
+        List<Step<?, ?>> pipeline = null;
+        final Iterator<Traverser<E>> output;
+        if (this.segment.isEmpty())
+            output = (Iterator) batch.iterator();
+        else {
+            pipeline = this.pipelines.poll();
+            if (null == pipeline)
+                pipeline = this.createPipeline();
+            ((Step<S, ?>) pipeline.get(0)).addStarts((Iterator) batch.iterator());
+            output = (Step<?, E>) pipeline.get(pipeline.size() - 1);
+        }
+        final List<Traverser<E>> result;
+        final Step<?, ?> nextStep = this.getNextStep();
+        if (nextStep instanceof ReducingBarrierStep && ((ReducingBarrierStep) nextStep).isMergePartials()) {
+            // the batch is reduced to a partial seed that the reducing barrier merges with the seeds of the other batches
+            final ReducingBarrierStep<E, Object> reducingStep = (ReducingBarrierStep<E, Object>) nextStep;
+            Object seed = reducingStep.getSeedSupplier().get();
+            while (output.hasNext()) {
+                seed = reducingStep.getBiFunction().apply(seed, output.next());
+            }
+            result = Collections.singletonList(TraversalHelper.getRootTraversal(this.getTraversal()).getTraverserGenerator().generate((E) seed, (Step) this, 1l));
+        } else {
+            result = new ArrayList<>();
+            while (output.hasNext()) {
+                result.add(output.next());
+            }
+        }
+        if (null != pipeline)
+            this.pipelines.offer(pipeline); // a pipeline that threw an exception is in an unknown state and is not reused
+        return result;
+    }
+
+    private List<Step<?, ?>> createPipeline() {
+        final List<Step<?, ?>> pipeline = new ArrayList<>(this.segment.size());
+        Step previousStep = EmptyStep.instance();
+        for (final Step<?, ?> step : this.segment) {
+            final Step clone = step.clone();
+            clone.setTraversal(this.getTraversal());
+            clone.setPreviousStep(previousStep);
+            previousStep.setNextStep(clone);
+            pipeline.add(clone);
+            previousStep = clone;
+        }
+        previousStep.setNextStep(this.getNextStep()); // traversers are given the step id of the step after the segment
+        return pipeline;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (null == this.batches) return;
+        this.batches.forEach(batch -> batch.cancel(true));
+        this.batches.clear();
+        this.pipelines.clear();
+        this.currentBatch = Collections.emptyIterator();
+    }
+
+    @Override
+    public void terminate() {
+        super.terminate();
+        if (null == this.batches) return;
+        this.batches.forEach(batch -> batch.cancel(true));
+        this.batches.clear();
+        this.currentBatch = Collections.emptyIterator();
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> traversal) {
+        super.setTraversal(traversal);
+        this.segment.forEach(step -> step.setTraversal(traversal));
+    }
+
+    @Override
+    public ParallelStep<S, E> clone() {
+        final ParallelStep<S, E> clone = (ParallelStep<S, E>) super.clone();
+        clone.segment = new ArrayList<>(this.segment.size());
+        for (final Step<?, ?> step : this.segment) {
+            clone.segment.add(step.clone());
+        }
+        clone.batches = new ArrayDeque<>();
+        clone.pipelines = new ConcurrentLinkedQueue<>();
+        clone.currentBatch = Collections.emptyIterator();
+        return clone;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        final Set<TraverserRequirement> requirements = new HashSet<>();
+        this.segment.forEach(step -> requirements.addAll(step.getRequirements()));
+        return requirements;
+    }
+
+    @Override
+    public String toString() {
+        return TraversalHelper.makeStepString(this, this.segment);
+    }
+}
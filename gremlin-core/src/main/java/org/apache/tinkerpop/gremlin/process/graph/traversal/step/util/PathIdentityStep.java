@@ -46,4 +46,8 @@ public final class PathIdentityStep<S> extends AbstractStep<S, S> {
         return Collections.singleton(TraverserRequirement.PATH);
     }
 
+    @Override
+    public boolean retainsTraversers() {
+        return false;
+    }
 }
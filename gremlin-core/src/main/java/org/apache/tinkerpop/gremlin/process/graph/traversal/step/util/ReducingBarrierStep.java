@@ -38,7 +38,9 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -50,8 +52,10 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
 
     protected Supplier<E> seedSupplier;
     protected BiFunction<E, Traverser<S>, E> reducingBiFunction;
+    protected BinaryOperator<E> mergeOperator = null;
     private boolean done = false;
     protected boolean byPass = false;
+    private boolean mergePartials = false;
 
     public ReducingBarrierStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -65,6 +69,40 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         this.reducingBiFunction = reducingBiFunction;
     }
 
+    /**
+     * Set the operator that merges two seeds that were reduced independently. A reducing barrier with a merge
+     * operator can be computed in parts (e.g. a partial seed per split of a parallel traversal).
+     */
+    public void setMergeOperator(final BinaryOperator<E> mergeOperator) {
+        this.mergeOperator = mergeOperator;
+    }
+
+    public Supplier<E> getSeedSupplier() {
+        return this.seedSupplier;
+    }
+
+    public BiFunction<E, Traverser<S>, E> getBiFunction() {
+        return this.reducingBiFunction;
+    }
+
+    public Optional<BinaryOperator<E>> getMergeOperator() {
+        return Optional.ofNullable(this.mergeOperator);
+    }
+
+    /**
+     * Whether the incoming traversers are partial seeds (reduced by the previous step) that are to be merged with
+     * the merge operator rather than reduced with the bi-function.
+     */
+    public void setMergePartials(final boolean mergePartials) {
+        if (mergePartials && null == this.mergeOperator)
+            throw new IllegalStateException("The reducing barrier has no merge operator to merge partial seeds with: " + this);
+        this.mergePartials = mergePartials;
+    }
+
+    public boolean isMergePartials() {
+        return this.mergePartials;
+    }
+
     @Override
     public void onEngine(final TraversalEngine traversalEngine) {
         this.byPass = traversalEngine.isComputer();
@@ -84,8 +122,13 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             if (this.done)
                 throw FastNoSuchElementException.instance();
             E seed = this.seedSupplier.get();
-            while (this.starts.hasNext())
-                seed = this.reducingBiFunction.apply(seed, this.starts.next());
+            if (this.mergePartials) {
+                while (this.starts.hasNext())
+                    seed = this.mergeOperator.apply(seed, (E) this.starts.next().get());
+            } else {
+                while (this.starts.hasNext())
+                    seed = this.reducingBiFunction.apply(seed, this.starts.next());
+            }
             this.done = true;
             return TraversalHelper.getRootTraversal(this.getTraversal()).getTraverserGenerator().generate(FinalGet.tryFinalGet(seed), (Step) this, 1l);
         }
@@ -34,18 +34,21 @@ public final class ComparatorHolderRemovalStrategy extends AbstractTraversalStra
     private ComparatorHolderRemovalStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getEngine().isComputer() && TraversalHelper.hasStepOfAssignableClass(ComparatorHolder.class, traversal);
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
         if (traversal.getEngine().isStandard())
             return;
 
-        if (TraversalHelper.hasStepOfAssignableClass(ComparatorHolder.class, traversal)) {
-            final Step endStep = traversal.getEndStep();
-            TraversalHelper.getStepsOfAssignableClass(ComparatorHolder.class, traversal)
-                    .stream()
-                    .filter(step -> step != endStep)
-                    .forEach(step -> traversal.removeStep((Step)step));
-        }
+        final Step endStep = traversal.getEndStep();
+        TraversalHelper.getStepsOfAssignableClass(ComparatorHolder.class, traversal)
+                .stream()
+                .filter(step -> step != endStep)
+                .forEach(step -> traversal.removeStep((Step)step));
     }
 
     public static ComparatorHolderRemovalStrategy instance() {
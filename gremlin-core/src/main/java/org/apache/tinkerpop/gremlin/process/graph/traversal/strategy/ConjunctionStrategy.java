@@ -40,6 +40,11 @@ public final class ConjunctionStrategy extends AbstractTraversalStrategy impleme
     private ConjunctionStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfAssignableClass(ConjunctionStep.ConjunctionMarker.class, traversal);
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
         processConjunctionMarker(AndStep.AndMarker.class, traversal);
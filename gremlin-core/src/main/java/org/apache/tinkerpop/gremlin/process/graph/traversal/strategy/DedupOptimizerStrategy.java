@@ -42,10 +42,12 @@ public final class DedupOptimizerStrategy extends AbstractTraversalStrategy {
     private static final List<Class<? extends Step>> BIJECTIVE_PIPES = Arrays.asList(IdentityStep.class, OrderGlobalStep.class);
 
     @Override
-    public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.hasStepOfClass(DedupGlobalStep.class, traversal))
-            return;
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfClass(DedupGlobalStep.class, traversal);
+    }
 
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
         boolean done = false;
         while (!done) {
             done = true;
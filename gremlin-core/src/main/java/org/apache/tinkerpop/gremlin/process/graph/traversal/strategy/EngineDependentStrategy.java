@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -33,6 +34,11 @@ public final class EngineDependentStrategy extends AbstractTraversalStrategy imp
     private EngineDependentStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfAssignableClass(EngineDependent.class, traversal);
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
         traversal.getSteps().stream()
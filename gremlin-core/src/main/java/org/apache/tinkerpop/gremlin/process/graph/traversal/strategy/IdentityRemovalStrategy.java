@@ -34,10 +34,12 @@ public final class IdentityRemovalStrategy extends AbstractTraversalStrategy {
     }
 
     @Override
-    public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.hasStepOfClass(IdentityStep.class, traversal))
-            return;
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfClass(IdentityStep.class, traversal);
+    }
 
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
         TraversalHelper.getStepsOfClass(IdentityStep.class, traversal).stream()
                 .filter(step -> !step.getLabel().isPresent())
                 .forEach(traversal::removeStep);
@@ -28,9 +28,11 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.SelectStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.MatchStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.IdentityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -49,10 +51,13 @@ public final class MatchWhereStrategy extends AbstractTraversalStrategy implemen
     }
 
     @Override
-    public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.hasStepOfClass(MatchStep.class, traversal))
-            return;
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfClass(MatchStep.class, traversal);
+    }
 
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        final Optional<Graph.Statistics> statistics = TraversalHelper.getRootTraversal(traversal).getGraph().flatMap(Graph::statistics);
         final List<MatchStep> matchSteps = TraversalHelper.getStepsOfClass(MatchStep.class, traversal);
         for (final MatchStep matchStep : matchSteps) {
             boolean foundWhereWithNoTraversal = false;
@@ -75,6 +80,8 @@ public final class MatchWhereStrategy extends AbstractTraversalStrategy implemen
                 // else is the identity step
                 currentStep = currentStep.getNextStep();
             }
+            // estimate the cost of the folded in where()-traversals as well
+            statistics.ifPresent(matchStep::setStatistics);
         }
     }
 
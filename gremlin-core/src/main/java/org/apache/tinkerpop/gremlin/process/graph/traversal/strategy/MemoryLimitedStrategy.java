@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
+
+/**
+ * A {@link org.apache.tinkerpop.gremlin.process.TraversalStrategy} that prevents the barrier and side-effect structures
+ * of a traversal from holding more than a pre-configured (approximate) number of bytes. The traversal fails once the
+ * budget is exceeded or, if spilling is allowed, the structures that can spill to disk do so. See {@link MemoryBudget}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class MemoryLimitedStrategy extends AbstractTraversalStrategy {
+    private final long maxBytes;
+    private final boolean spill;
+
+    public MemoryLimitedStrategy(final long maxBytes, final boolean spill) {
+        this.maxBytes = maxBytes;
+        this.spill = spill;
+    }
+
+    public MemoryLimitedStrategy(final long maxBytes) {
+        this(maxBytes, false);
+    }
+
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    public boolean isSpilling() {
+        return this.spill;
+    }
+
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getParent() instanceof EmptyStep && traversal.getEngine().isStandard();
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        // the children of the traversal share its side-effects and thus, its budget
+        traversal.getSideEffects().setMemoryBudget(new MemoryBudget(this.maxBytes, this.spill));
+    }
+}
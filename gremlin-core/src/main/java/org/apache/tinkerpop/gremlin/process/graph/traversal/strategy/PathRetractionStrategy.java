@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathLabelAccessor;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * When a traversal only accesses its path by label (e.g. {@code back()} and {@code select()}), the traversers only
+ * maintain the labeled objects of their path. This strategy determines, for each {@link PathLabelAccessor}, the labels
+ * that are referenced by the steps that follow it so that the labels that are no longer needed are removed from the
+ * path. Smaller paths are cheaper to message and traversers that only differ in their retracted labels can be bulked.
+ * The steps of a child traversal retain all the labels referenced by their parent as the child may be looped.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class PathRetractionStrategy extends AbstractTraversalStrategy {
+
+    private static final PathRetractionStrategy INSTANCE = new PathRetractionStrategy();
+    private static final Set<Class<? extends TraversalStrategy>> PRIORS = Collections.singleton(EngineDependentStrategy.class);
+
+    private PathRetractionStrategy() {
+    }
+
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getParent() instanceof EmptyStep;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep))
+            return;
+        final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+        if (!requirements.contains(TraverserRequirement.LABELED_PATH) || requirements.contains(TraverserRequirement.PATH))
+            return;
+        // any other step that accesses the path (e.g. a lambda) may reference any label
+        if (hasUndeclaredPathAccess(traversal))
+            return;
+        retractLabels(traversal, Collections.emptySet());
+    }
+
+    private static void retractLabels(final Traversal.Admin<?, ?> traversal, final Set<String> keepLabelsAfterTraversal) {
+        final Set<String> keepLabels = new HashSet<>(keepLabelsAfterTraversal);
+        final List<Step> steps = traversal.getSteps();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            final Step<?, ?> step = steps.get(i);
+            final Set<String> referencedLabels = getReferencedLabels(step);
+            if (step instanceof TraversalParent) {
+                final Set<String> keepChildLabels = new HashSet<>(keepLabels);
+                keepChildLabels.addAll(referencedLabels);
+                ((TraversalParent) step).getGlobalChildren().forEach(child -> retractLabels(child, keepChildLabels));
+                ((TraversalParent) step).getLocalChildren().forEach(child -> retractLabels(child, keepChildLabels));
+            }
+            if (step instanceof PathLabelAccessor)
+                ((PathLabelAccessor) step).setKeepLabels(Collections.unmodifiableSet(new HashSet<>(keepLabels)));
+            keepLabels.addAll(referencedLabels);
+        }
+    }
+
+    private static Set<String> getReferencedLabels(final Step<?, ?> step) {
+        final Set<String> labels = new HashSet<>();
+        if (step instanceof PathLabelAccessor)
+            labels.addAll(((PathLabelAccessor) step).getReferencedLabels());
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                child.getSteps().forEach(childStep -> labels.addAll(getReferencedLabels(childStep)));
+            }
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                child.getSteps().forEach(childStep -> labels.addAll(getReferencedLabels(childStep)));
+            }
+        }
+        return labels;
+    }
+
+    private static boolean hasUndeclaredPathAccess(final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (!(step instanceof PathLabelAccessor) && !(step instanceof TraversalParent) && step.getRequirements().contains(TraverserRequirement.PATH_ACCESS))
+                return true;
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (hasUndeclaredPathAccess(child)) return true;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (hasUndeclaredPathAccess(child)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Class<? extends TraversalStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static PathRetractionStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+}
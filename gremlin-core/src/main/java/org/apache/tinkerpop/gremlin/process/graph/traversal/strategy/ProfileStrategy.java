@@ -54,23 +54,29 @@ public final class ProfileStrategy extends AbstractTraversalStrategy {
     private ProfileStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        // This strategy is applied to the top-level traversal only and only if a ProfileStep is present
+        return traversal.getParent() instanceof EmptyStep && TraversalHelper.hasStepOfClass(ProfileStep.class, traversal);
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!(traversal.getParent() instanceof EmptyStep)) {
-            // This strategy is applied to the top-level traversal only
+        if (!(traversal.getParent() instanceof EmptyStep))
             return;
-        }
 
-        if (!TraversalHelper.hasStepOfClass(ProfileStep.class, traversal)) {
-            // No ProfileStep present
-            return;
+        // The options of the user-specified .profile() step apply to every injected .profile() step.
+        int sampleInterval = 1;
+        boolean threadResources = false;
+        for (ProfileStep step : TraversalHelper.getStepsOfClass(ProfileStep.class, traversal)) {
+            sampleInterval = Math.max(sampleInterval, step.getSampleInterval());
+            threadResources = threadResources || step.getThreadResources();
         }
-
-        prepTraversalForProfiling(traversal);
+        prepTraversalForProfiling(traversal, sampleInterval, threadResources);
     }
 
     // Walk the traversal steps and inject the .profile()-steps.
-    private void prepTraversalForProfiling(Traversal.Admin<?, ?> traversal) {
+    private void prepTraversalForProfiling(Traversal.Admin<?, ?> traversal, final int sampleInterval, final boolean threadResources) {
         // Remove user-specified .profile() steps
         final List<ProfileStep> profileSteps = TraversalHelper.getStepsOfClass(ProfileStep.class, traversal);
         for (ProfileStep step : profileSteps) {
@@ -85,16 +91,16 @@ public final class ProfileStrategy extends AbstractTraversalStrategy {
             Step step = steps.get(ii * 2);
 
             // Create and inject ProfileStep
-            ProfileStep profileStep = new ProfileStep(traversal);
+            ProfileStep profileStep = new ProfileStep(traversal, sampleInterval, threadResources);
             traversal.addStep((ii * 2) + 1, profileStep);
 
             // Handle nested traversal
             if (step instanceof TraversalParent) {
                 for (Traversal.Admin<?, ?> t : ((TraversalParent) step).getLocalChildren()) {
-                    prepTraversalForProfiling(t);
+                    prepTraversalForProfiling(t, sampleInterval, threadResources);
                 }
                 for (Traversal.Admin<?, ?> t : ((TraversalParent) step).getGlobalChildren()) {
-                    prepTraversalForProfiling(t);
+                    prepTraversalForProfiling(t, sampleInterval, threadResources);
                 }
             }
         }
@@ -50,6 +50,11 @@ public final class RangeByIsCountStrategy extends AbstractTraversalStrategy impl
     private RangeByIsCountStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.hasStepOfClass(CountGlobalStep.class, traversal);
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
         final int size = traversal.getSteps().size();
@@ -40,6 +40,11 @@ public final class TraversalVerificationStrategy extends AbstractTraversalStrate
     private TraversalVerificationStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getEngine().isComputer();
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
         if (traversal.getEngine().isStandard())
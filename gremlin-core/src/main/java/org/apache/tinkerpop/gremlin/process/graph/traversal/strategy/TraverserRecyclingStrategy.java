@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.LambdaFilterStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaFlatMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.LambdaSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraverserRecycler;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A map or flatMap step typically generates a new traverser for each object it emits even though the traverser it
+ * consumed is never referenced again. This strategy allows such steps to reuse the consumed traverser (see
+ * {@link Traverser.Admin#recycle}) which removes an allocation per step per traverser. A lambda that is handed the
+ * traverser (e.g. {@code map{it}}) may retain a reference to it and thus, traversals with traverser lambdas are not
+ * optimized. The strategy is only applied to standard (OLTP) traversals.
+ * <p/>
+ * A step only reuses its traversers if the traversers it emits can not escape: its next step must not retain them
+ * (see {@link Step#retainsTraversers()}, e.g. a barrier, a sideEffect or {@code dedup()}) nor hand out their path
+ * (e.g. {@code path()}), and the step must not be the end step of the traversal. The end step of a branch or repeat
+ * traversal hands its traversers back to its parent and thus, the step following the parent is considered as well.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TraverserRecyclingStrategy extends AbstractTraversalStrategy {
+
+    private static final TraverserRecyclingStrategy INSTANCE = new TraverserRecyclingStrategy();
+    private static final Set<Class<? extends TraversalStrategy>> PRIORS = new HashSet<>();
+
+    static {
+        // whether a traverser escapes its step depends on the next step and thus, the steps must be in place
+        PRIORS.add(ComparatorHolderRemovalStrategy.class);
+        PRIORS.add(ConjunctionStrategy.class);
+        PRIORS.add(DedupOptimizerStrategy.class);
+        PRIORS.add(EngineDependentStrategy.class);
+        PRIORS.add(IdentityRemovalStrategy.class);
+        PRIORS.add(LabeledEndStepStrategy.class);
+        PRIORS.add(MatchWhereStrategy.class);
+        PRIORS.add(ProfileStrategy.class);
+        PRIORS.add(RangeByIsCountStrategy.class);
+    }
+
+    private TraverserRecyclingStrategy() {
+    }
+
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getEngine().isStandard() && TraversalHelper.hasStepOfAssignableClass(TraverserRecycler.class, traversal);
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getEngine().isComputer())
+            return;
+        // a traverser lambda anywhere in the traversal may hold onto any traverser that it is handed
+        if (hasTraverserLambda(TraversalHelper.getRootTraversal(traversal)))
+            return;
+        // the strategy is applied to each child traversal once its parent traversal has been finalized
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof TraverserRecycler)
+                ((TraverserRecycler) step).setRecycleTraversers(!escapes(step));
+        }
+    }
+
+    /**
+     * Determines if a traverser emitted by the step may be referenced once the next step has processed it.
+     */
+    private static boolean escapes(final Step<?, ?> step) {
+        final Step<?, ?> nextStep = step.getNextStep();
+        if (nextStep instanceof EmptyStep || TraversalHelper.retainsTraversers(nextStep))
+            return true;
+        // a step that requires the path (e.g. path()) hands out the path of the traverser
+        if (nextStep.getRequirements().contains(TraverserRequirement.PATH))
+            return true;
+        // the end step of a branch or repeat traversal hands the traverser back to the parent step
+        if (nextStep instanceof ComputerAwareStep.EndStep || nextStep instanceof RepeatStep.RepeatEndStep)
+            return escapes(step.getTraversal().getParent().asStep());
+        return false;
+    }
+
+    private static boolean hasTraverserLambda(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof MapTraverserTraversal || traversal instanceof FilterTraverserTraversal)
+            return true;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaMapStep ||
+                    step instanceof LambdaFlatMapStep ||
+                    step instanceof LambdaFilterStep ||
+                    step instanceof LambdaSideEffectStep)
+                return true;
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (hasTraverserLambda(child)) return true;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (hasTraverserLambda(child)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Class<? extends TraversalStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static TraverserRecyclingStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+}
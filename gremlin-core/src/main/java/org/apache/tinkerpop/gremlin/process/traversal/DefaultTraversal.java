@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
@@ -54,6 +55,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     protected TraversalEngine traversalEngine;
 
     protected boolean locked = false;
+    // the generator of a locked traversal does not change and is kept as it may hold state for the traversal
+    private transient TraverserGenerator traverserGenerator = null;
 
     protected TraversalParent traversalParent = (TraversalParent) EmptyStep.instance();
 
@@ -88,6 +91,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             }
         }
         this.traversalEngine.processTraversal(this);
+        if (this.traversalParent instanceof EmptyStep)
+            TraversalHelper.reIndexSteps(this, 0);
         this.finalEndStep = this.getEndStep();
         this.locked = true;
     }
@@ -174,6 +179,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             clone.strategies = this.strategies.clone(); // TODO: does this need to be cloned?
             clone.lastEnd = null;
             clone.lastEndCount = 0l;
+            clone.traverserGenerator = null;
             for (final Step<?, ?> step : this.steps) {
                 final Step<?, ?> clonedStep = step.clone();
                 clonedStep.setTraversal(clone);
@@ -207,6 +213,17 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public void setStrategies(final TraversalStrategies strategies) {
         this.strategies = strategies.clone();
+        this.traverserGenerator = null;
+    }
+
+    @Override
+    public TraverserGenerator getTraverserGenerator() {
+        if (null != this.traverserGenerator)
+            return this.traverserGenerator;
+        final TraverserGenerator traverserGenerator = this.strategies.getTraverserGeneratorFactory().getTraverserGenerator(this);
+        if (this.locked)
+            this.traverserGenerator = traverserGenerator;
+        return traverserGenerator;
     }
 
     @Override
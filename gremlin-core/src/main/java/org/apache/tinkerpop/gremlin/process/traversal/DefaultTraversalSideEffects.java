@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traversal;
 
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.util.SideEffectHelper;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -42,6 +43,7 @@ public class DefaultTraversalSideEffects implements TraversalSideEffects {
     protected Map<String, Supplier> supplierMap = new HashMap<>();
     protected UnaryOperator sackSplitOperator = null;
     protected Supplier sackInitialValue = null;
+    protected MemoryBudget memoryBudget = null;
 
     public DefaultTraversalSideEffects() {
 
@@ -88,6 +90,16 @@ public class DefaultTraversalSideEffects implements TraversalSideEffects {
         return Optional.ofNullable(this.sackSplitOperator);
     }
 
+    @Override
+    public void setMemoryBudget(final MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public Optional<MemoryBudget> getMemoryBudget() {
+        return Optional.ofNullable(this.memoryBudget);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -195,6 +207,8 @@ public class DefaultTraversalSideEffects implements TraversalSideEffects {
             final DefaultTraversalSideEffects sideEffects = (DefaultTraversalSideEffects) super.clone();
             sideEffects.objectMap = new HashMap<>(this.objectMap);
             sideEffects.supplierMap = new HashMap<>(this.supplierMap);
+            if (null != this.memoryBudget)
+                sideEffects.memoryBudget = this.memoryBudget.clone();
             return sideEffects;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -37,6 +37,8 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
 
     protected List<TraversalStrategy> traversalStrategies = new ArrayList<>();
     protected TraverserGeneratorFactory traverserGeneratorFactory = DefaultTraverserGeneratorFactory.instance();
+    // the sorted strategies frozen when the collection changes as they are applied to every (child) traversal
+    private TraversalStrategy[] sortedStrategies = new TraversalStrategy[0];
 
     @Override
     public TraversalStrategies addStrategies(final TraversalStrategy... strategies) {
@@ -47,7 +49,7 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
                 added = true;
             }
         }
-        if (added) TraversalStrategies.sortStrategies(this.traversalStrategies);
+        if (added) this.sortStrategies();
         return this;
     }
 
@@ -62,7 +64,7 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
                 removed = true;
             }
         }
-        if (removed) TraversalStrategies.sortStrategies(this.traversalStrategies);
+        if (removed) this.sortStrategies();
         return this;
     }
 
@@ -73,7 +75,15 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
 
     @Override
     public void applyStrategies(final Traversal.Admin<?, ?> traversal) {
-        this.traversalStrategies.forEach(traversalStrategy -> traversalStrategy.apply(traversal));
+        for (final TraversalStrategy traversalStrategy : this.sortedStrategies) {
+            if (traversalStrategy.isApplicable(traversal))
+                traversalStrategy.apply(traversal);
+        }
+    }
+
+    private void sortStrategies() {
+        TraversalStrategies.sortStrategies(this.traversalStrategies);
+        this.sortedStrategies = this.traversalStrategies.toArray(new TraversalStrategy[this.traversalStrategies.size()]);
     }
 
     @Override
@@ -20,29 +20,49 @@ package org.apache.tinkerpop.gremlin.process.traversal;
 
 import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * A TraversalMatrix provides random, non-linear access to the steps of a traversal by their step id.
+ * A TraversalMatrix provides random, non-linear access to the steps of a traversal by their step index.
  * This is useful in situations where traversers becomes detached from their traversal (and step) and later need to be re-attached.
  * A classic use case is {@link org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram} on {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}.
+ * The steps are indexed when the root traversal is locked and thus, the matrix is an array of the steps.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TraversalMatrix<S, E> {
 
-    private final Map<String, Step<?, ?>> matrix = new HashMap<>();
+    private final List<Step<?, ?>> steps = new ArrayList<>();
+    private final Step<?, ?>[] matrix;
     private final Traversal.Admin<S, E> traversal;
 
     public TraversalMatrix(final Traversal.Admin<S, E> traversal) {
         this.harvestSteps(this.traversal = traversal);
+        int size = 0;
+        for (final Step<?, ?> step : this.steps) {
+            size = Math.max(size, step.getIndex() + 1);
+        }
+        this.matrix = new Step<?, ?>[size];
+        for (final Step<?, ?> step : this.steps) {
+            if (Traverser.Admin.HALT_INDEX != step.getIndex())
+                this.matrix[step.getIndex()] = step;
+        }
+    }
+
+    public <A, B, C extends Step<A, B>> C getStepByIndex(final int stepIndex) {
+        return (C) this.matrix[stepIndex];
     }
 
     public <A, B, C extends Step<A, B>> C getStepById(final String stepId) {
-        return (C) this.matrix.get(stepId);
+        for (final Step<?, ?> step : this.steps) {
+            if (step.getId().equals(stepId))
+                return (C) step;
+        }
+        return null;
     }
 
     public Traversal.Admin<S, E> getTraversal() {
@@ -51,7 +71,7 @@ public final class TraversalMatrix<S, E> {
 
     private final void harvestSteps(final Traversal.Admin<?, ?> traversal) {
         for (final Step<?, ?> step : traversal.getSteps()) {
-            this.matrix.put(step.getId(), step);
+            this.steps.add(step);
             if (step instanceof TraversalParent) {
                 for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
                     this.harvestSteps(globalChild);
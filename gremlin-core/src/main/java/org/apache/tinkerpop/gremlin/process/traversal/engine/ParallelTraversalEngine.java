@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.engine;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.ConjunctionStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.HasTraversalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.TimeLimitStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.SupplyingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link TraversalEngine} that executes the non-barrier steps that follow a {@link GraphStep} in parallel.
+ * The longest run of steps after the {@link GraphStep} that can be safely cloned and executed independently per
+ * traverser is replaced by a {@link ParallelStep} which splits the start set into batches that are processed on a
+ * {@link ForkJoinPool}. Barrier, side-effect, mutating and globally stateful steps (e.g. {@code range()},
+ * {@code dedup()}) end the parallel segment and are executed on the calling thread against the merged output.
+ * The exception is a {@link ReducingBarrierStep} with a merge operator (e.g. {@code count()}, {@code sum()}) which
+ * is reduced per batch on the pool with only the partial seeds merged on the calling thread.
+ * If the {@link GraphStep} is seeded with ids, the start set is presumed small and so the segment starts after the
+ * first {@link FlatMapStep} so as to split its fan-out instead. Any lambdas in the parallel segment must be thread safe.
+ * The engines of the same parallelism share a single {@link ForkJoinPool} unless one is provided.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class ParallelTraversalEngine implements TraversalEngine {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private final transient ForkJoinPool pool;
+    private final int batchSize;
+
+    private ParallelTraversalEngine(final ForkJoinPool pool, final int batchSize) {
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void processTraversal(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) || !(traversal.getStartStep() instanceof GraphStep))
+            return;
+        // sparse path traversers share a single mutable path
+        final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+        if (requirements.contains(TraverserRequirement.PATH_ACCESS) && !requirements.contains(TraverserRequirement.PATH) && !requirements.contains(TraverserRequirement.LABELED_PATH))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        int start = 1;
+        if (((GraphStep) traversal.getStartStep()).getIds().length > 0) {
+            while (start < steps.size() && isParallelizable(steps.get(start)) && !(steps.get(start) instanceof FlatMapStep)) {
+                start++;
+            }
+            start++;
+        }
+        int end = start;
+        while (end < steps.size() && isParallelizable(steps.get(end))) {
+            end++;
+        }
+        // a reducing barrier that can merge partial seeds is computed per batch (even if there are no steps to split)
+        final boolean reducing = start <= end && end < steps.size() &&
+                steps.get(end) instanceof ReducingBarrierStep &&
+                ((ReducingBarrierStep<?, ?>) steps.get(end)).getMergeOperator().isPresent();
+        if (end <= start && !reducing)
+            return;
+        if (reducing)
+            ((ReducingBarrierStep<?, ?>) steps.get(end)).setMergePartials(true);
+
+        final List<Step<?, ?>> segment = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            segment.add(steps.get(i));
+        }
+        for (int i = start; i < end; i++) {
+            traversal.removeStep(start);
+        }
+        traversal.addStep(start, new ParallelStep<>(traversal, segment, this.pool, this.batchSize));
+    }
+
+    @Override
+    public Type getType() {
+        return Type.STANDARD;
+    }
+
+    @Override
+    public Optional<GraphComputer> getGraphComputer() {
+        return Optional.empty();
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalEngineString(this);
+    }
+
+    private static boolean isParallelizable(final Step<?, ?> step) {
+        return (step instanceof MapStep ||
+                step instanceof FlatMapStep ||
+                step instanceof FilterStep ||
+                step instanceof ConjunctionStep ||
+                step instanceof HasTraversalStep ||
+                step instanceof ComputerAwareStep ||
+                step instanceof LocalStep ||
+                step instanceof IdentityStep) && isParallelizable(step, true);
+    }
+
+    /**
+     * Global steps see every traverser of their traversal and thus, can not be split. A local child traversal only
+     * sees the objects of a single traverser and so it may contain barriers and global filters.
+     */
+    private static boolean isParallelizable(final Step<?, ?> step, final boolean global) {
+        if (step instanceof Mutating ||
+                step instanceof SideEffectStep ||
+                step instanceof SideEffectCapable ||
+                step instanceof TimeLimitStep)
+            return false;
+        if (global && (step instanceof RangeGlobalStep ||
+                step instanceof DedupGlobalStep ||
+                step instanceof ReducingBarrierStep ||
+                step instanceof CollectingBarrierStep ||
+                step instanceof SupplyingBarrierStep))
+            return false;
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                for (final Step<?, ?> childStep : child.getSteps()) {
+                    if (!isParallelizable(childStep, global)) return false;
+                }
+            }
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                for (final Step<?, ?> childStep : child.getSteps()) {
+                    if (!isParallelizable(childStep, false)) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static class Builder implements TraversalEngine.Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private transient ForkJoinPool pool;
+
+        public Builder parallelism(final int parallelism) {
+            this.parallelism = parallelism;
+            this.pool = null;
+            return this;
+        }
+
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder pool(final ForkJoinPool pool) {
+            this.pool = pool;
+            this.parallelism = pool.getParallelism();
+            return this;
+        }
+
+        @Override
+        public synchronized ParallelTraversalEngine create(final Graph graph) {
+            if (null == this.pool)
+                this.pool = this.parallelism == ForkJoinPool.commonPool().getParallelism() ?
+                        ForkJoinPool.commonPool() :
+                        POOLS.computeIfAbsent(this.parallelism, ForkJoinPool::new); // the worker threads are daemons
+            return new ParallelTraversalEngine(this.pool, this.batchSize);
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step;
 
+import org.apache.tinkerpop.gremlin.process.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
@@ -35,10 +36,12 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected String label = null;
     protected String id = Traverser.Admin.HALT;
+    protected int index = Traverser.Admin.HALT_INDEX;
     protected Traversal.Admin traversal;
     protected ExpandableStepIterator<S> starts;
     protected Traverser<E> nextEnd = null;
     protected boolean traverserStepIdSetByChild = false; // TODO: Step.teleport(traverser, step)
+    protected boolean terminated = false;
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
@@ -59,6 +62,16 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         return this.id;
     }
 
+    @Override
+    public void setIndex(final int index) {
+        this.index = index;
+    }
+
+    @Override
+    public int getIndex() {
+        return this.index;
+    }
+
     @Override
     public void setLabel(final String label) {
         Objects.nonNull(label);
@@ -74,15 +87,38 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public void reset() {
         this.starts.clear();
         this.nextEnd = null;
+        if (this.terminated) {
+            this.terminated = false;
+            // child traversals are not reset with their parent unless they were terminated with it
+            if (this instanceof TraversalParent) {
+                ((TraversalParent) this).getGlobalChildren().forEach(Traversal.Admin::reset);
+                ((TraversalParent) this).getLocalChildren().forEach(Traversal.Admin::reset);
+            }
+        }
+    }
+
+    @Override
+    public void terminate() {
+        if (this.terminated) return;
+        this.terminated = true;
+        this.starts.clear();
+        this.nextEnd = null;
+        if (this instanceof TraversalParent) {
+            ((TraversalParent) this).getGlobalChildren().forEach(child -> child.getEndStep().terminate());
+            ((TraversalParent) this).getLocalChildren().forEach(child -> child.getEndStep().terminate());
+        }
+        this.previousStep.terminate();
     }
 
     @Override
     public void addStarts(final Iterator<Traverser<S>> starts) {
+        if (this.terminated) return;
         this.starts.add((Iterator) starts);
     }
 
     @Override
     public void addStart(final Traverser<S> start) {
+        if (this.terminated) return;
         this.starts.add((Traverser.Admin<S>) start);
     }
 
@@ -115,6 +151,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
                 this.nextEnd = null;
             }
         } else {
+            if (this.terminated)
+                throw FastNoSuchElementException.instance();
             while (true) {
                 final Traverser<E> traverser = this.processNextStart();
                 if (0 != traverser.bulk()) {
@@ -128,6 +166,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public boolean hasNext() {
         if (null != this.nextEnd)
             return true;
+        else if (this.terminated)
+            return false;
         else {
             try {
                 while (true) {
@@ -168,6 +208,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             clone.previousStep = EmptyStep.instance();
             clone.nextStep = EmptyStep.instance();
             clone.nextEnd = null;
+            clone.terminated = false;
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -175,7 +216,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     }
 
     private final Traverser<E> prepareTraversalForNextStep(final Traverser<E> traverser) {
-        if (!this.traverserStepIdSetByChild) ((Traverser.Admin<E>) traverser).setStepId(this.nextStep.getId());
+        if (!this.traverserStepIdSetByChild) ((Traverser.Admin<E>) traverser).setStepIndex(this.nextStep.getIndex());
         if (null != this.label) traverser.path().addLabel(this.label);
         return traverser;
     }
@@ -64,6 +64,11 @@ public final class EmptyStep<S, E> implements Step<S, E>, TraversalParent {
 
     }
 
+    @Override
+    public void terminate() {
+
+    }
+
     @Override
     public Step<?, S> getPreviousStep() {
         return INSTANCE;
@@ -115,6 +120,16 @@ public final class EmptyStep<S, E> implements Step<S, E>, TraversalParent {
         return Traverser.Admin.HALT;
     }
 
+    @Override
+    public void setIndex(final int index) {
+
+    }
+
+    @Override
+    public int getIndex() {
+        return Traverser.Admin.HALT_INDEX;
+    }
+
     @Override
     public boolean hasNext() {
         return false;
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import java.util.Set;
+
+/**
+ * A step that accesses the objects of the traverser's path by their labels.
+ * If the keep labels are set, then the path of the traversers emitted by the step only retain those labels.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public interface PathLabelAccessor {
+
+    public Set<String> getReferencedLabels();
+
+    public void setKeepLabels(final Set<String> keepLabels);
+
+    /**
+     * Get the labels that are referenced after this step.
+     *
+     * @return the labels to retain or {@code null} if all labels are retained
+     */
+    public Set<String> getKeepLabels();
+}
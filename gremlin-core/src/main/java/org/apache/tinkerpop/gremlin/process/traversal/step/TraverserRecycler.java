@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.Traverser;
+
+/**
+ * A step that can reuse the incoming traverser as the traverser that it emits (see {@link Traverser.Admin#recycle}).
+ * This is only safe when nothing else references the incoming traverser once it has been consumed by the step.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public interface TraverserRecycler {
+
+    public void setRecycleTraversers(final boolean recycleTraversers);
+
+    public boolean getRecycleTraversers();
+}
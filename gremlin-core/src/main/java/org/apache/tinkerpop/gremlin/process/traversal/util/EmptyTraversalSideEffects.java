@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.Collections;
@@ -83,6 +84,16 @@ public final class EmptyTraversalSideEffects implements TraversalSideEffects {
         return Optional.empty();
     }
 
+    @Override
+    public void setMemoryBudget(final MemoryBudget memoryBudget) {
+
+    }
+
+    @Override
+    public Optional<MemoryBudget> getMemoryBudget() {
+        return Optional.empty();
+    }
+
     @Override
     public void setLocalVertex(final Vertex vertex) {
 
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.LambdaFilterStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.FoldStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaFlatMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.LambdaMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.LambdaSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.graph.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ConstantTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code TraversalCache} reuses strategy-applied traversals for traversals of the same shape. The shape of a
+ * traversal is the description of its steps (and child traversals) where the values of its {@link HasContainer}s and
+ * the ids of its {@link GraphStep}s are parameter slots that are only described by their type. The first traversal of
+ * a shape has its strategies applied and an unexecuted clone of it is kept as the template of the shape. When a
+ * traversal of the same shape is compiled, then the template is cloned and the parameter slots of the clone are bound
+ * to the values of the provided traversal. The template itself is never executed or modified. Traversals with lambdas,
+ * side-effects or sacks, traversals executed by a {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}
+ * and traversals whose parameters are not retained by their strategies (e.g. a strategy that rewrites a
+ * {@link HasContainer}) or by the clone of their steps are never reused.
+ * <p/>
+ * <pre>
+ * final Traversal.Admin traversal = cache.compile(g.V(id).out("knows").has("age", Compare.gt, age).asAdmin());
+ * traversal.forEachRemaining(...);
+ * </pre>
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TraversalCache {
+
+    public static final int DEFAULT_MAX_SHAPES = 1000;
+
+    private static final String LAMBDA = "lambda";
+
+    private final Map<Shape, Template> templates;
+
+    public TraversalCache() {
+        this(DEFAULT_MAX_SHAPES);
+    }
+
+    public TraversalCache(final int maxShapes) {
+        this.templates = new LinkedHashMap<Shape, Template>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Shape, Template> eldest) {
+                return this.size() > maxShapes;
+            }
+        };
+    }
+
+    /**
+     * Get a strategy-applied traversal that is equivalent to the provided traversal.
+     *
+     * @param traversal a traversal whose strategies have not been applied
+     * @return the provided traversal with its strategies applied or a bound clone of the template of its shape
+     */
+    public <S, E> Traversal.Admin<S, E> compile(final Traversal.Admin<S, E> traversal) {
+        if (traversal.isLocked())
+            return traversal;
+        final List<Object> slots = new ArrayList<>();
+        final Shape shape = TraversalCache.getShape(traversal, slots);
+        if (null == shape) {
+            traversal.applyStrategies();
+            return traversal;
+        }
+        Template template;
+        synchronized (this.templates) {
+            template = this.templates.get(shape);
+        }
+        if (null != template) {
+            if (template.isReusable())
+                return (Traversal.Admin<S, E>) template.bind(slots);
+            traversal.applyStrategies();
+            return traversal;
+        }
+        traversal.applyStrategies();
+        template = new Template(traversal, slots);
+        synchronized (this.templates) {
+            this.templates.putIfAbsent(shape, template);
+        }
+        return traversal;
+    }
+
+    public int size() {
+        synchronized (this.templates) {
+            return this.templates.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (this.templates) {
+            this.templates.clear();
+        }
+    }
+
+    ////////////
+
+    private static Shape getShape(final Traversal.Admin<?, ?> traversal, final List<Object> slots) {
+        if (traversal.getEngine().isComputer())
+            return null;
+        final TraversalSideEffects sideEffects = traversal.getSideEffects();
+        if (!sideEffects.keys().isEmpty() || sideEffects.getSackInitialValue().isPresent())
+            return null;
+        final StringBuilder builder = new StringBuilder();
+        return TraversalCache.addSteps(traversal, builder, slots) ? new Shape(builder.toString(), traversal) : null;
+    }
+
+    private static boolean addSteps(final Traversal.Admin<?, ?> traversal, final StringBuilder builder, final List<Object> slots) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaMapStep ||
+                    step instanceof LambdaFlatMapStep ||
+                    step instanceof LambdaFilterStep ||
+                    step instanceof LambdaSideEffectStep ||
+                    (step instanceof ReducingBarrierStep && ((ReducingBarrierStep) step).getBiFunction() instanceof FoldStep.FoldBiFunction))
+                return false;
+            if (step instanceof GraphStep || step instanceof HasContainerHolder) {
+                builder.append(step.getClass().getName()).append('(');
+                if (step instanceof GraphStep) {
+                    final Object[] ids = ((GraphStep) step).getIds();
+                    builder.append(((GraphStep) step).getReturnClass().getSimpleName());
+                    for (final Object id : ids) {
+                        builder.append(",?").append(TraversalCache.getType(id));
+                    }
+                    if (ids.length > 0)
+                        slots.add(ids);
+                }
+                if (step instanceof HasContainerHolder) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                        if (!(hasContainer.predicate instanceof Enum))
+                            return false;
+                        builder.append('[').append(hasContainer.key).append(',').append(hasContainer.predicate)
+                                .append(",?").append(TraversalCache.getType(hasContainer.value)).append(']');
+                        if (null != hasContainer.value)
+                            slots.add(hasContainer);
+                    }
+                }
+                builder.append(')');
+                step.getLabel().ifPresent(label -> builder.append('@').append(label));
+            } else if (step instanceof StartStep && null != ((StartStep) step).getStart()) {
+                return false; // the start of a start step (e.g. the injections of inject()) is not a parameter slot
+            } else {
+                // the values of other steps are part of the shape (i.e. they are not parameter slots)
+                final String description = step.toString();
+                if (description.contains(LAMBDA))
+                    return false;
+                builder.append(description);
+                if (step instanceof IsStep)
+                    builder.append(':').append(TraversalCache.getType(((IsStep) step).getValue()));
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!TraversalCache.addChild(child, builder, slots))
+                        return false;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (!TraversalCache.addChild(child, builder, slots))
+                        return false;
+                }
+            }
+            builder.append(',');
+        }
+        return true;
+    }
+
+    private static boolean addChild(final Traversal.Admin<?, ?> child, final StringBuilder builder, final List<Object> slots) {
+        if (child instanceof MapTraversal ||
+                child instanceof MapTraverserTraversal ||
+                child instanceof FilterTraversal ||
+                child instanceof FilterTraverserTraversal)
+            return false;
+        builder.append('[');
+        if (child instanceof ConstantTraversal)
+            builder.append(child).append(':').append(TraversalCache.getType(child.next()));
+        else if (!TraversalCache.addSteps(child, builder, slots))
+            return false;
+        builder.append(']');
+        return true;
+    }
+
+    private static String getType(final Object value) {
+        return null == value ? "null" : value.getClass().getName();
+    }
+
+    // the parameter slots of a strategy-applied traversal in the order of its steps
+    private static List<Object> getSlots(final Traversal.Admin<?, ?> traversal, final List<Object> slots) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof GraphStep)
+                slots.add(((GraphStep) step).getIds());
+            if (step instanceof HasContainerHolder)
+                slots.addAll(((HasContainerHolder) step).getHasContainers());
+            if (step instanceof TraversalParent) {
+                ((TraversalParent) step).getGlobalChildren().forEach(child -> TraversalCache.getSlots(child, slots));
+                ((TraversalParent) step).getLocalChildren().forEach(child -> TraversalCache.getSlots(child, slots));
+            }
+        }
+        return slots;
+    }
+
+    private static int indexOf(final List<Object> slots, final Object slot) {
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i) == slot)
+                return i;
+        }
+        return -1;
+    }
+
+    private static final class Shape {
+
+        private final String steps;
+        private final Graph graph;
+        private final List<TraversalStrategy> strategies;
+        private final Class engineClass;
+        private final int hashCode;
+
+        private Shape(final String steps, final Traversal.Admin<?, ?> traversal) {
+            this.steps = steps;
+            this.graph = traversal.getGraph().orElse(null);
+            this.strategies = traversal.getStrategies().toList();
+            this.engineClass = traversal.getEngine().getClass();
+            this.hashCode = this.steps.hashCode() ^ System.identityHashCode(this.graph);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Shape &&
+                    ((Shape) object).steps.equals(this.steps) &&
+                    ((Shape) object).graph == this.graph &&
+                    ((Shape) object).engineClass.equals(this.engineClass) &&
+                    ((Shape) object).strategies.equals(this.strategies);
+        }
+    }
+
+    private static final class Template {
+
+        private final Traversal.Admin<?, ?> traversal;
+        // the index of each parameter slot of the shape within the slots of the strategy-applied traversal
+        private final int[] positions;
+
+        private Template(final Traversal.Admin<?, ?> compiled, final List<Object> slots) {
+            final List<Object> compiledSlots = TraversalCache.getSlots(compiled, new ArrayList<>());
+            final int[] positions = new int[slots.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = TraversalCache.indexOf(compiledSlots, slots.get(i));
+            }
+            // the clone is taken before the compiled traversal is iterated by the caller
+            final Traversal.Admin<?, ?> template = compiled.clone();
+            final List<Object> templateSlots = TraversalCache.getSlots(template, new ArrayList<>());
+            boolean reusable = templateSlots.size() == compiledSlots.size();
+            for (int i = 0; reusable && i < positions.length; i++) {
+                reusable = -1 != positions[i] && templateSlots.get(positions[i]) != compiledSlots.get(positions[i]);
+            }
+            this.traversal = reusable ? template : null;
+            this.positions = positions;
+        }
+
+        private boolean isReusable() {
+            return null != this.traversal;
+        }
+
+        private Traversal.Admin<?, ?> bind(final List<Object> values) {
+            final Traversal.Admin<?, ?> clone = this.traversal.clone();
+            final List<Object> slots = TraversalCache.getSlots(clone, new ArrayList<>());
+            for (int i = 0; i < this.positions.length; i++) {
+                final Object slot = slots.get(this.positions[i]);
+                if (slot instanceof HasContainer)
+                    ((HasContainer) slot).value = ((HasContainer) values.get(i)).value;
+                else
+                    System.arraycopy(values.get(i), 0, slot, 0, ((Object[]) slot).length);
+            }
+            return clone;
+        }
+    }
+}
@@ -25,6 +25,10 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.PropertiesS
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.StepPosition;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.FilterTraverserTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.MapTraverserTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.util.BulkSet;
@@ -145,28 +149,22 @@ public final class TraversalHelper {
 
     public static String makeStepString(final Step<?, ?> step, final Object... arguments) {
         final StringBuilder builder = new StringBuilder(step.getClass().getSimpleName());
-        final List<String> strings = Stream.of(arguments)
-                .filter(o -> null != o)
-                .filter(o -> {
-                    if (o instanceof TraversalRing) {
-                        return ((TraversalRing) o).size() > 0;
-                    } else if (o instanceof Collection) {
-                        return ((Collection) o).size() > 0;
-                    } else if (o instanceof Map) {
-                        return ((Map) o).size() > 0;
-                    } else {
-                        return o.toString().length() > 0;
-                    }
-                })
-                .map(o -> {
-                    final String string = o.toString();
-                    return string.contains("$") ? "lambda" : string;
-                }).collect(Collectors.toList());
-        if (strings.size() > 0) {
-            builder.append('(');
-            builder.append(String.join(",", strings));
-            builder.append(')');
+        boolean first = true;
+        for (final Object argument : arguments) {
+            if (null == argument ||
+                    (argument instanceof TraversalRing && ((TraversalRing) argument).size() == 0) ||
+                    (argument instanceof Collection && ((Collection) argument).isEmpty()) ||
+                    (argument instanceof Map && ((Map) argument).isEmpty()))
+                continue;
+            final String string = argument.toString();
+            if (string.length() == 0)
+                continue;
+            builder.append(first ? '(' : ',');
+            builder.append(string.contains("$") ? "lambda" : string);
+            first = false;
         }
+        if (!first)
+            builder.append(')');
         step.getLabel().ifPresent(label -> builder.append('@').append(label));
         //builder.append("^").append(step.getId());
         return builder.toString();
@@ -221,15 +219,56 @@ public final class TraversalHelper {
         return false;
     }
 
-    public static <S> void addToCollection(final Collection<S> collection, final S s, final long bulk) {
+    /**
+     * Determine whether the step, or a step of its child traversals, may retain the traversers that it processes
+     * (see {@link Step#retainsTraversers()}).
+     */
+    public static boolean retainsTraversers(final Step<?, ?> step) {
+        if (step.retainsTraversers())
+            return true;
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                if (TraversalHelper.retainsTraversers(globalChild))
+                    return true;
+            }
+            for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                if (TraversalHelper.retainsTraversers(localChild))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determine whether a step of the traversal (or of its children) may retain the traversers that it processes.
+     * A lambda traversal (e.g. {@code by{it}}) is assumed to retain what it is handed.
+     */
+    public static boolean retainsTraversers(final Traversal.Admin<?, ?> traversal) {
+        if (traversal instanceof MapTraversal || traversal instanceof MapTraverserTraversal ||
+                traversal instanceof FilterTraversal || traversal instanceof FilterTraverserTraversal)
+            return true;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (TraversalHelper.retainsTraversers(step))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Add the object to the collection with the provided bulk.
+     *
+     * @return whether the collection now holds an object that it did not hold before
+     */
+    public static <S> boolean addToCollection(final Collection<S> collection, final S s, final long bulk) {
         if (collection instanceof BulkSet) {
-            ((BulkSet<S>) collection).add(s, bulk);
+            return ((BulkSet<S>) collection).add(s, bulk);
         } else if (collection instanceof Set) {
-            collection.add(s);
+            return collection.add(s);
         } else {
             for (long i = 0; i < bulk; i++) {
                 collection.add(s);
             }
+            return bulk > 0;
         }
     }
 
@@ -291,6 +330,26 @@ public final class TraversalHelper {
         }
     }
 
+    /**
+     * Densely index the steps of the traversal and all of its nested traversals starting at the provided index.
+     *
+     * @return the next unassigned index
+     */
+    public static int reIndexSteps(final Traversal.Admin<?, ?> traversal, int index) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            step.setIndex(index++);
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    index = TraversalHelper.reIndexSteps(globalChild, index);
+                }
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    index = TraversalHelper.reIndexSteps(localChild, index);
+                }
+            }
+        }
+        return index;
+    }
+
     public static Traversal.Admin<?, ?> getRootTraversal(Traversal.Admin<?, ?> traversal) {
         while (!((traversal.getParent()) instanceof EmptyStep)) {
             traversal = traversal.getParent().asStep().getTraversal();
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code TraversalPublisher} exposes the results of a {@link Traversal} (or any other {@link Iterator}) to a
+ * {@link Subscriber} that pulls them on demand. When the subscriber requests {@code n} results, a task is submitted
+ * to the provided {@link Executor} which iterates the traversal until {@code n} results have been emitted (or the
+ * traversal is exhausted) and then returns the thread to the executor. Thus, no thread is held while the subscriber
+ * has no demand (e.g. while a batch of results is being written to a slow client). The traversal is never iterated
+ * by two threads at once and each result is emitted by the thread that iterated it.
+ * <p/>
+ * The {@link Subscriber} and {@link Subscription} interfaces follow the Reactive Streams specification and so,
+ * they can be bridged to a Reactive Streams implementation without buffering. A publisher supports a single subscriber.
+ * <p/>
+ * <pre>
+ * new TraversalPublisher(g.V().out(), executor).subscribe(subscriber); // subscriber.onSubscribe() requests the first batch
+ * </pre>
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TraversalPublisher<E> {
+
+    private final Iterator<E> iterator;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    public TraversalPublisher(final Iterator<E> iterator, final Executor executor) {
+        this.iterator = iterator;
+        this.executor = executor;
+    }
+
+    public void subscribe(final Subscriber<? super E> subscriber) {
+        if (!this.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("A traversal publisher only supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    public interface Subscriber<E> {
+
+        public void onSubscribe(final Subscription subscription);
+
+        public void onNext(final E e);
+
+        public void onError(final Throwable throwable);
+
+        public void onComplete();
+    }
+
+    public interface Subscription {
+
+        /**
+         * Request {@code n} more results. The demand of multiple requests is additive and a demand of
+         * {@link Long#MAX_VALUE} is unbounded.
+         */
+        public void request(final long n);
+
+        /**
+         * Stop emitting results. Results may still be emitted by an iteration that is in progress.
+         */
+        public void cancel();
+    }
+
+    ////////////
+
+    private final class IteratorSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super E> subscriber;
+        private final AtomicLong demand = new AtomicLong(0l);
+        private volatile boolean cancelled = false;
+
+        private IteratorSubscription(final Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0l) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException("The requested number of results must be positive: " + n));
+                return;
+            }
+            // only the request that raises the demand from zero schedules an iteration
+            if (0l == this.addDemand(n) && !this.cancelled)
+                TraversalPublisher.this.executor.execute(this);
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        @Override
+        public void run() {
+            long requested = this.demand.get();
+            long emitted = 0l;
+            try {
+                while (true) {
+                    while (emitted < requested) {
+                        if (this.cancelled)
+                            return;
+                        if (!TraversalPublisher.this.iterator.hasNext()) {
+                            this.cancelled = true;
+                            this.subscriber.onComplete();
+                            return;
+                        }
+                        this.subscriber.onNext(TraversalPublisher.this.iterator.next());
+                        emitted++;
+                    }
+                    // requests made while iterating are served by this iteration
+                    requested = Long.MAX_VALUE == requested ? requested : this.demand.addAndGet(-emitted);
+                    emitted = 0l;
+                    if (0l == requested)
+                        return;
+                }
+            } catch (final Throwable t) {
+                this.cancelled = true;
+                this.subscriber.onError(t);
+            }
+        }
+
+        private long addDemand(final long n) {
+            while (true) {
+                final long current = this.demand.get();
+                if (Long.MAX_VALUE == current)
+                    return current;
+                long next = current + n;
+                if (next < 0l)
+                    next = Long.MAX_VALUE;
+                if (this.demand.compareAndSet(current, next))
+                    return current;
+            }
+        }
+    }
+
+    private static final class CancelledSubscription implements Subscription {
+
+        private static final CancelledSubscription INSTANCE = new CancelledSubscription();
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
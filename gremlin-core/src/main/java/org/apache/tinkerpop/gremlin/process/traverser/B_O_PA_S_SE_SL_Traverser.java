@@ -50,14 +50,14 @@ public class B_O_PA_S_SE_SL_Traverser<T> extends AbstractPathTraverser<T> {
 
     @Override
     public int hashCode() {
-        return this.t.hashCode() + this.future.hashCode() + this.loops;
+        return this.t.hashCode() + this.future + this.loops;
     }
 
     @Override
     public boolean equals(final Object object) {
         return object instanceof B_O_PA_S_SE_SL_Traverser
                 && ((B_O_PA_S_SE_SL_Traverser) object).get().equals(this.t)
-                && ((B_O_PA_S_SE_SL_Traverser) object).getStepId().equals(this.getStepId())
+                && ((B_O_PA_S_SE_SL_Traverser) object).getStepIndex() == this.getStepIndex()
                 && ((B_O_PA_S_SE_SL_Traverser) object).loops() == this.loops()
                 && (null == this.sack);
     }
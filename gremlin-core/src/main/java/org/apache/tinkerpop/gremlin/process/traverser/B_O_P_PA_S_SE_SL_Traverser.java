@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process.traverser;
 
+import org.apache.tinkerpop.gremlin.process.Path;
 import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.traverser.util.AbstractPathTraverser;
 import org.apache.tinkerpop.gremlin.process.util.path.ImmutablePath;
@@ -33,11 +34,15 @@ public class B_O_P_PA_S_SE_SL_Traverser<T> extends AbstractPathTraverser<T> {
     }
 
     public B_O_P_PA_S_SE_SL_Traverser(final T t, final Step<T, ?> step) {
+        this(t, step, ImmutablePath.make());
+    }
+
+    public B_O_P_PA_S_SE_SL_Traverser(final T t, final Step<T, ?> step, final Path headPath) {
         super(t, step);
         final Optional<String> stepLabel = step.getLabel();
         this.path = stepLabel.isPresent() ?
-                ImmutablePath.make().extend(t, stepLabel.get()) :
-                ImmutablePath.make().extend(t);
+                headPath.extend(t, stepLabel.get()) :
+                headPath.extend(t);
     }
 
     @Override
@@ -48,11 +53,11 @@ public class B_O_P_PA_S_SE_SL_Traverser<T> extends AbstractPathTraverser<T> {
     @Override
     public boolean equals(final Object object) {
         return (object instanceof B_O_P_PA_S_SE_SL_Traverser)
-                && ((B_O_P_PA_S_SE_SL_Traverser) object).path().equals(this.path) // TODO: path equality
                 && ((B_O_P_PA_S_SE_SL_Traverser) object).get().equals(this.t)
-                && ((B_O_P_PA_S_SE_SL_Traverser) object).getStepId().equals(this.getStepId())
+                && ((B_O_P_PA_S_SE_SL_Traverser) object).getStepIndex() == this.getStepIndex()
                 && ((B_O_P_PA_S_SE_SL_Traverser) object).loops() == this.loops()
-                && (null == this.sack);
+                && (null == this.sack)
+                && ((B_O_P_PA_S_SE_SL_Traverser) object).path().equals(this.path);
     }
 
 }
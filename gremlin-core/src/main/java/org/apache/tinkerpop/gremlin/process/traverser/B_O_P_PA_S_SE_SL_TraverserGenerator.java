@@ -18,11 +18,16 @@
  */
 package org.apache.tinkerpop.gremlin.process.traverser;
 
+import org.apache.tinkerpop.gremlin.process.Path;
 import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.util.path.ImmutablePath;
 
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -37,15 +42,26 @@ public class B_O_P_PA_S_SE_SL_TraverserGenerator implements TraverserGenerator {
             TraverserRequirement.SINGLE_LOOP,
             TraverserRequirement.PATH_ACCESS,
             TraverserRequirement.PATH,
+            TraverserRequirement.LABELED_PATH,
             TraverserRequirement.SACK,
             TraverserRequirement.SIDE_EFFECTS);
 
+    // the head of the paths of the generated traversers which interns the step labels of the traversal
+    private final Path headPath;
+
     private B_O_P_PA_S_SE_SL_TraverserGenerator() {
+        this.headPath = ImmutablePath.make();
+    }
+
+    private B_O_P_PA_S_SE_SL_TraverserGenerator(final Traversal.Admin<?, ?> traversal) {
+        final Set<String> labels = new LinkedHashSet<>();
+        addLabels(traversal, labels);
+        this.headPath = ImmutablePath.make(labels);
     }
 
     @Override
     public <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk) {
-        final B_O_P_PA_S_SE_SL_Traverser<S> traverser = new B_O_P_PA_S_SE_SL_Traverser<>(start, startStep);
+        final B_O_P_PA_S_SE_SL_Traverser<S> traverser = new B_O_P_PA_S_SE_SL_Traverser<>(start, startStep, this.headPath);
         traverser.setBulk(initialBulk);
         return traverser;
     }
@@ -58,4 +74,21 @@ public class B_O_P_PA_S_SE_SL_TraverserGenerator implements TraverserGenerator {
     public static B_O_P_PA_S_SE_SL_TraverserGenerator instance() {
         return INSTANCE;
     }
+
+    /**
+     * Get a generator whose traversers intern the step labels of the traversal (and its children) in their paths.
+     */
+    public static B_O_P_PA_S_SE_SL_TraverserGenerator instance(final Traversal.Admin<?, ?> traversal) {
+        return new B_O_P_PA_S_SE_SL_TraverserGenerator(traversal);
+    }
+
+    private static void addLabels(final Traversal.Admin<?, ?> traversal, final Set<String> labels) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            step.getLabel().ifPresent(labels::add);
+            if (step instanceof TraversalParent) {
+                ((TraversalParent) step).getGlobalChildren().forEach(child -> addLabels(child, labels));
+                ((TraversalParent) step).getLocalChildren().forEach(child -> addLabels(child, labels));
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ import org.apache.tinkerpop.gremlin.process.Traverser;
 public class B_O_Traverser<T> extends O_Traverser<T> {
 
     protected long bulk = 1l;
-    protected String future = HALT;
+    protected int future = HALT_INDEX;
 
     protected B_O_Traverser() {
     }
@@ -52,19 +52,19 @@ public class B_O_Traverser<T> extends O_Traverser<T> {
     }
 
     @Override
-    public String getStepId() {
+    public int getStepIndex() {
         return this.future;
     }
 
     @Override
-    public void setStepId(final String stepId) {
-        this.future = stepId;
+    public void setStepIndex(final int stepIndex) {
+        this.future = stepIndex;
     }
 
     @Override
     public boolean equals(final Object object) {
         return object instanceof B_O_Traverser &&
                 ((B_O_Traverser) object).t.equals(this.t) &&
-                ((B_O_Traverser) object).future.equals(this.future);
+                ((B_O_Traverser) object).future == this.future;
     }
 }
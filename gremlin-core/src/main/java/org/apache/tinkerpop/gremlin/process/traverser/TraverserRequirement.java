@@ -35,5 +35,6 @@ public enum TraverserRequirement {
     PATH_ACCESS,
     SACK,
     SIDE_EFFECTS,
+    LABELED_PATH,
     // NESTED_TRAVERSALS
 }
@@ -37,7 +37,7 @@ public abstract class AbstractPathTraverser<T> implements Traverser<T>, Traverse
 
     protected T t;
     protected Object sack = null;
-    protected String future = HALT;
+    protected int future = HALT_INDEX;
     protected short loops = 0;  // an optimization hack to use a short internally to save bits :)
     protected transient TraversalSideEffects sideEffects;
     protected long bulk = 1l;
@@ -116,13 +116,13 @@ public abstract class AbstractPathTraverser<T> implements Traverser<T>, Traverse
     /////////////////
 
     @Override
-    public String getStepId() {
+    public int getStepIndex() {
         return this.future;
     }
 
     @Override
-    public void setStepId(final String stepId) {
-        this.future = stepId;
+    public void setStepIndex(final int stepIndex) {
+        this.future = stepIndex;
     }
 
     /////////////////
@@ -142,8 +142,13 @@ public abstract class AbstractPathTraverser<T> implements Traverser<T>, Traverse
 
     @Override
     public Traverser.Admin<T> detach() {
+        return this.detach(true);
+    }
+
+    @Override
+    public Traverser.Admin<T> detach(final boolean withPathProperties) {
         this.t = DetachedFactory.detach(this.t, false);
-        this.path = DetachedFactory.detach(this.path, true);
+        this.path = DetachedFactory.detach(this.path, withPathProperties);
         return this;
     }
 
@@ -178,6 +183,15 @@ public abstract class AbstractPathTraverser<T> implements Traverser<T>, Traverse
         }
     }
 
+    @Override
+    public <R> Traverser.Admin<R> recycle(final R r, final Step<T, R> step) {
+        final AbstractPathTraverser<R> recycled = (AbstractPathTraverser<R>) this;
+        recycled.t = r;
+        final Optional<String> stepLabel = step.getLabel();
+        recycled.path = stepLabel.isPresent() ? recycled.path.clone().extend(r, stepLabel.get()) : recycled.path.clone().extend(r);
+        return recycled;
+    }
+
     @Override
     public Traverser.Admin<T> split() {
         try {
@@ -203,7 +217,7 @@ public abstract class AbstractPathTraverser<T> implements Traverser<T>, Traverse
 
     @Override
     public int hashCode() {
-        return this.t.hashCode() + this.future.hashCode() + this.loops;
+        return this.t.hashCode() + this.future + this.loops;
     }
 
     @Override
@@ -62,6 +62,13 @@ public abstract class AbstractTraverser<T> implements Traverser<T>, Traverser.Ad
         }
     }
 
+    @Override
+    public <R> Admin<R> recycle(final R r, final Step<T, R> step) {
+        final AbstractTraverser<R> recycled = (AbstractTraverser<R>) this;
+        recycled.t = r;
+        return recycled;
+    }
+
     @Override
     public Admin<T> split() {
         try {
@@ -87,12 +94,12 @@ public abstract class AbstractTraverser<T> implements Traverser<T>, Traverser.Ad
     }
 
     @Override
-    public String getStepId() {
+    public int getStepIndex() {
         throw new UnsupportedOperationException("This traverser does not support futures: " + this.getClass().getCanonicalName());
     }
 
     @Override
-    public void setStepId(final String stepId) {
+    public void setStepIndex(final int stepIndex) {
 
     }
 
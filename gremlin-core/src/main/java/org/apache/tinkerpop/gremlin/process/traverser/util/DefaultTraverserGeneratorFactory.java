@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.traverser.util;
 
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_LP_PA_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_PA_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_P_PA_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_TraverserGenerator;
@@ -56,8 +57,11 @@ public class DefaultTraverserGeneratorFactory implements TraverserGeneratorFacto
         if (B_O_PA_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
             return B_O_PA_S_SE_SL_TraverserGenerator.instance();
 
+        if (B_O_LP_PA_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
+            return B_O_LP_PA_S_SE_SL_TraverserGenerator.instance();
+
         if (B_O_P_PA_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
-            return B_O_P_PA_S_SE_SL_TraverserGenerator.instance();
+            return B_O_P_PA_S_SE_SL_TraverserGenerator.instance(traversal);
 
         throw new IllegalStateException("The provided traverser generator factory does not support the requirements of the traversal: " + this.getClass().getCanonicalName() + requirements);
     }
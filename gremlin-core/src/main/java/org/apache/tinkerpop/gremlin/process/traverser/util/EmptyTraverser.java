@@ -56,12 +56,12 @@ public final class EmptyTraverser<T> implements Traverser<T>, Traverser.Admin<T>
     }
 
     @Override
-    public String getStepId() {
-        return HALT;
+    public int getStepIndex() {
+        return HALT_INDEX;
     }
 
     @Override
-    public void setStepId(final String stepId) {
+    public void setStepIndex(final int stepIndex) {
 
     }
 
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.detached.Attachable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An external merge sort for {@link Traverser} objects. Sorted runs are detached and spilled to temporary files
+ * and are later lazily merged (along with a final in-memory run) back into a single sorted stream.
+ * This allows a collecting barrier to sort more traversers than can be held in memory at once.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class ExternalTraverserSort<S> implements AutoCloseable {
+
+    private static final int RESET_INTERVAL = 256;
+
+    private final Comparator<Traverser<S>> comparator;
+    private final List<File> runFiles = new ArrayList<>();
+    private final List<ObjectInputStream> openRuns = new ArrayList<>();
+
+    public ExternalTraverserSort(final Comparator<Traverser<S>> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Write the provided sorted traversers to a temporary file and clear the set.
+     *
+     * @param sortedRun the traversers to spill which must already be sorted by the comparator of this sort
+     */
+    public void spill(final TraverserSet<S> sortedRun) {
+        try {
+            final File file = File.createTempFile("tinkerpop-sort-", ".run");
+            file.deleteOnExit();
+            this.runFiles.add(file);
+            try (final ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                int counter = 0;
+                for (final Traverser.Admin<S> traverser : sortedRun) {
+                    output.writeObject(traverser.detach());
+                    if (++counter % RESET_INTERVAL == 0)
+                        output.reset(); // do not let the stream hold a reference to every written traverser
+                }
+                output.writeObject(null);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        sortedRun.clear();
+    }
+
+    public int getRunCount() {
+        return this.runFiles.size();
+    }
+
+    /**
+     * Merge the spilled runs and the provided in-memory run into a single sorted iterator. Spilled traversers have
+     * their side-effects reset and, if a graph is provided, their objects re-attached to that graph.
+     * Once the iterator is exhausted, the temporary files are deleted.
+     *
+     * @param memoryRun   the traversers that were not spilled which must already be sorted
+     * @param sideEffects the side-effects of the traversal the traversers are a part of
+     * @param graph       the graph to attach spilled objects to (can be {@code null})
+     * @return the merged traversers in sorted order
+     */
+    public Iterator<Traverser.Admin<S>> merge(final TraverserSet<S> memoryRun, final TraversalSideEffects sideEffects, final Graph graph) {
+        final PriorityQueue<Run<S>> queue = new PriorityQueue<>(this.runFiles.size() + 1, (a, b) -> {
+            final int comparison = this.comparator.compare(a.head, b.head);
+            return 0 == comparison ? Integer.compare(a.index, b.index) : comparison;
+        });
+        int index = 0;
+        for (final File file : this.runFiles) {
+            final Run<S> run = new Run<>(index++, new SpilledRunIterator(file, sideEffects, graph));
+            if (run.advance()) queue.add(run);
+        }
+        final Run<S> run = new Run<>(index, memoryRun.iterator());
+        if (run.advance()) queue.add(run);
+
+        return new Iterator<Traverser.Admin<S>>() {
+            @Override
+            public boolean hasNext() {
+                if (queue.isEmpty()) {
+                    ExternalTraverserSort.this.close();
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                if (!this.hasNext()) throw FastNoSuchElementException.instance();
+                final Run<S> next = queue.poll();
+                final Traverser.Admin<S> traverser = next.head;
+                if (next.advance()) queue.add(next);
+                return traverser;
+            }
+        };
+    }
+
+    /**
+     * Close any open runs and delete all the temporary files of this sort.
+     */
+    @Override
+    public void close() {
+        for (final ObjectInputStream input : this.openRuns) {
+            try {
+                input.close();
+            } catch (final IOException e) {
+                // the file is deleted next regardless
+            }
+        }
+        this.openRuns.clear();
+        this.runFiles.forEach(File::delete);
+        this.runFiles.clear();
+    }
+
+    ///////////////
+
+    private static final class Run<S> {
+
+        private final int index;
+        private final Iterator<Traverser.Admin<S>> iterator;
+        private Traverser.Admin<S> head;
+
+        private Run(final int index, final Iterator<Traverser.Admin<S>> iterator) {
+            this.index = index;
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            if (this.iterator.hasNext()) {
+                this.head = this.iterator.next();
+                return true;
+            }
+            this.head = null;
+            return false;
+        }
+    }
+
+    private final class SpilledRunIterator implements Iterator<Traverser.Admin<S>> {
+
+        private final File file;
+        private final TraversalSideEffects sideEffects;
+        private final Graph graph;
+        private ObjectInputStream input;
+        private Traverser.Admin<S> nextTraverser;
+        private boolean done = false;
+
+        private SpilledRunIterator(final File file, final TraversalSideEffects sideEffects, final Graph graph) {
+            this.file = file;
+            this.sideEffects = sideEffects;
+            this.graph = graph;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null != this.nextTraverser) return true;
+            if (this.done) return false;
+            try {
+                if (null == this.input) {
+                    this.input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+                    ExternalTraverserSort.this.openRuns.add(this.input);
+                }
+                this.nextTraverser = (Traverser.Admin<S>) this.input.readObject();
+            } catch (final IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            if (null == this.nextTraverser) {
+                this.done = true;
+                return false;
+            }
+            this.nextTraverser.setSideEffects(this.sideEffects);
+            if (null != this.graph && this.nextTraverser.get() instanceof Attachable)
+                this.nextTraverser.set((S) ((Attachable) this.nextTraverser.get()).attach(this.graph));
+            return true;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            if (!this.hasNext()) throw FastNoSuchElementException.instance();
+            final Traverser.Admin<S> traverser = this.nextTraverser;
+            this.nextTraverser = null;
+            return traverser;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.Path;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@code MemoryBudget} accounts for the approximate number of bytes held by the barrier and side-effect structures
+ * of a traversal (e.g. the {@link TraverserSet} of a collecting barrier, the set of a global dedup or the maps of
+ * group and groupCount). It is registered with the {@link TraversalSideEffects} of the traversal and thus, is shared
+ * by the traversal and its children. When an allocation would exceed the budget, the traversal fails with an
+ * {@link IllegalStateException}. If the budget allows spilling, then the structures that can spill to disk
+ * (e.g. {@code order()} and {@code group()} with a reduce traversal) spill instead and only the other structures fail.
+ * Barriers return their bytes when they are reset or spill, while side-effects and grouped values hold their bytes for
+ * the life of the traversal. Budgets only apply to traversals executed on the standard engine.
+ * The sizes are estimates of the retained heap and are not meant to be exact.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class MemoryBudget implements Serializable, Cloneable {
+
+    /**
+     * The approximate overhead of a reference held in a hash based collection (the entry and its share of the table).
+     */
+    public static final long ENTRY_BYTES = 48l;
+    /**
+     * The approximate size of a traverser excluding its object and its path.
+     */
+    public static final long TRAVERSER_BYTES = 48l;
+
+    private final long maxBytes;
+    private final boolean spill;
+    private AtomicLong usedBytes = new AtomicLong(0l);
+
+    public MemoryBudget(final long maxBytes, final boolean spill) {
+        if (maxBytes < 1l)
+            throw new IllegalArgumentException("The memory budget must be greater than zero: " + maxBytes);
+        this.maxBytes = maxBytes;
+        this.spill = spill;
+    }
+
+    public MemoryBudget(final long maxBytes) {
+        this(maxBytes, false);
+    }
+
+    /**
+     * Account for the provided number of bytes.
+     *
+     * @param bytes the number of bytes to account for
+     * @return the number of bytes that were accounted for
+     * @throws IllegalStateException if the budget would be exceeded
+     */
+    public long allocate(final long bytes) throws IllegalStateException {
+        if (!this.tryAllocate(bytes))
+            throw Exceptions.memoryBudgetExceeded(this.maxBytes);
+        return bytes;
+    }
+
+    /**
+     * Account for the provided number of bytes if doing so does not exceed the budget.
+     *
+     * @param bytes the number of bytes to account for
+     * @return whether the bytes were accounted for
+     */
+    public boolean tryAllocate(final long bytes) {
+        if (this.usedBytes.addAndGet(bytes) > this.maxBytes) {
+            this.usedBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    public void release(final long bytes) {
+        this.usedBytes.addAndGet(-bytes);
+    }
+
+    public long getUsedBytes() {
+        return this.usedBytes.get();
+    }
+
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Whether structures that can spill to disk should spill rather than exceed the budget.
+     */
+    public boolean isSpilling() {
+        return this.spill;
+    }
+
+    /**
+     * A clone has the same budget but none of it is used.
+     */
+    @Override
+    @SuppressWarnings("CloneDoesntDeclareCloneNotSupportedException")
+    public MemoryBudget clone() {
+        try {
+            final MemoryBudget clone = (MemoryBudget) super.clone();
+            clone.usedBytes = new AtomicLong(0l);
+            return clone;
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "memoryBudget[" + this.usedBytes.get() + '/' + this.maxBytes + (this.spill ? ",spill]" : "]");
+    }
+
+    /**
+     * Get the memory budget of the traversal or {@code null} if the traversal does not have one.
+     */
+    public static MemoryBudget of(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getSideEffects().getMemoryBudget().orElse(null);
+    }
+
+    /**
+     * Estimate the number of bytes retained by an object held in a hash based collection. Elements and properties
+     * are presumed to be held by the graph and thus, only their reference is accounted for. The contents of
+     * collections are estimated by their size and not by their objects.
+     */
+    public static long sizeOf(final Object object) {
+        if (null == object)
+            return ENTRY_BYTES;
+        else if (object instanceof String)
+            return ENTRY_BYTES + 40l + (2l * ((String) object).length());
+        else if (object instanceof Element || object instanceof Property || object instanceof Number || object instanceof Boolean || object instanceof Enum)
+            return ENTRY_BYTES + 16l;
+        else if (object instanceof BulkSet)
+            return ENTRY_BYTES + 64l + (ENTRY_BYTES * ((BulkSet) object).uniqueSize());
+        else if (object instanceof Collection)
+            return ENTRY_BYTES + 32l + (16l * ((Collection) object).size());
+        else if (object instanceof Map)
+            return ENTRY_BYTES + 64l + (ENTRY_BYTES * ((Map) object).size());
+        else if (object instanceof Path)
+            return ENTRY_BYTES + 32l + (16l * ((Path) object).size());
+        else
+            return ENTRY_BYTES + 16l;
+    }
+
+    /**
+     * Estimate the number of bytes retained by a traverser held in a {@link TraverserSet}.
+     */
+    public static long sizeOfTraverser(final Traverser<?> traverser) {
+        return TRAVERSER_BYTES + sizeOf(traverser.get());
+    }
+
+    public static class Exceptions {
+
+        public static IllegalStateException memoryBudgetExceeded(final long maxBytes) {
+            return new IllegalStateException("The traversal exceeded its memory budget of " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.Step;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.CountLocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.MaxLocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.MeanLocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.MinLocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.RangeLocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.SumLocalStep;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * A {@code PartialAggregate} incrementally folds values (with their bulk) into a constant-size aggregate.
+ * This allows a reduction over a group of values to be computed without first collecting the values into a
+ * {@link BulkSet}. Partial aggregates of the same type can be merged and thus, can be computed in parts.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public abstract class PartialAggregate<V, R> implements Serializable {
+
+    public abstract void add(final V value, final long bulk);
+
+    public abstract void merge(final PartialAggregate<V, R> other);
+
+    public abstract R get();
+
+    /**
+     * Whether the result of {@link PartialAggregate#get()} must still be passed through the reduce traversal.
+     */
+    public boolean requiresReduce() {
+        return false;
+    }
+
+    /**
+     * Add each value of the collection to the aggregate respecting the bulk of {@link BulkSet} values.
+     */
+    public void addAll(final Collection<V> values) {
+        if (values instanceof BulkSet)
+            ((BulkSet<V>) values).forEach(this::add);
+        else
+            values.forEach(value -> this.add(value, 1l));
+    }
+
+    /**
+     * Add the value to the aggregate unrolling it if it is an {@link Iterator} or {@link Iterable}.
+     */
+    public void addUnrollIterator(final Object value, final long bulk) {
+        if (value instanceof Iterator)
+            ((Iterator<V>) value).forEachRemaining(v -> this.add(v, bulk));
+        else if (value instanceof Iterable)
+            ((Iterable<V>) value).forEach(v -> this.add(v, bulk));
+        else
+            this.add((V) value, bulk);
+    }
+
+    /**
+     * Determine if the reduce traversal can be computed incrementally. This is true when the traversal is a single
+     * {@code count(local)}, {@code sum(local)}, {@code min(local)}, {@code max(local)}, {@code mean(local)},
+     * or bounded {@code range(local)}.
+     *
+     * @param reduceTraversal the traversal that reduces a collection of values
+     * @return a supplier of partial aggregates or {@code null} if the reduce traversal must see all the values
+     */
+    public static <V, R> Supplier<PartialAggregate<V, R>> getSupplier(final Traversal.Admin<?, ?> reduceTraversal) {
+        if (null == reduceTraversal || reduceTraversal.getSteps().size() != 1)
+            return null;
+        final Step<?, ?> step = reduceTraversal.getStartStep();
+        if (step instanceof CountLocalStep)
+            return new PartialAggregateSupplier<>(Type.COUNT, -1l);
+        else if (step instanceof SumLocalStep)
+            return new PartialAggregateSupplier<>(Type.SUM, -1l);
+        else if (step instanceof MinLocalStep)
+            return new PartialAggregateSupplier<>(Type.MIN, -1l);
+        else if (step instanceof MaxLocalStep)
+            return new PartialAggregateSupplier<>(Type.MAX, -1l);
+        else if (step instanceof MeanLocalStep)
+            return new PartialAggregateSupplier<>(Type.MEAN, -1l);
+        else if (step instanceof RangeLocalStep && ((RangeLocalStep) step).getHighRange() != -1)
+            return new PartialAggregateSupplier<>(Type.RANGE, ((RangeLocalStep) step).getHighRange());
+        else
+            return null;
+    }
+
+    ////////////
+
+    private enum Type {
+        COUNT, SUM, MIN, MAX, MEAN, RANGE
+    }
+
+    private static final class PartialAggregateSupplier<V, R> implements Supplier<PartialAggregate<V, R>>, Serializable {
+
+        private final Type type;
+        private final long high;
+
+        private PartialAggregateSupplier(final Type type, final long high) {
+            this.type = type;
+            this.high = high;
+        }
+
+        @Override
+        public PartialAggregate<V, R> get() {
+            switch (this.type) {
+                case COUNT:
+                    return (PartialAggregate) new CountAggregate<>();
+                case SUM:
+                    return (PartialAggregate) new SumAggregate();
+                case MIN:
+                    return (PartialAggregate) new MinMaxAggregate(true);
+                case MAX:
+                    return (PartialAggregate) new MinMaxAggregate(false);
+                case MEAN:
+                    return (PartialAggregate) new MeanAggregate();
+                default:
+                    return (PartialAggregate) new RangeAggregate<>(this.high);
+            }
+        }
+    }
+
+    public static final class CountAggregate<V> extends PartialAggregate<V, Long> {
+
+        private long count = 0l;
+
+        @Override
+        public void add(final V value, final long bulk) {
+            this.count = this.count + bulk;
+        }
+
+        @Override
+        public void merge(final PartialAggregate<V, Long> other) {
+            this.count = this.count + ((CountAggregate<V>) other).count;
+        }
+
+        @Override
+        public Long get() {
+            return this.count;
+        }
+    }
+
+    public static final class SumAggregate extends PartialAggregate<Number, Number> {
+
+        private Number sum = null;
+
+        @Override
+        public void add(final Number value, final long bulk) {
+            if (null == this.sum) {
+                this.sum = bulk == 1l ? value : value.doubleValue() * bulk;
+            } else {
+                this.sum = this.sum.doubleValue() + (value.doubleValue() * bulk);
+            }
+        }
+
+        @Override
+        public void merge(final PartialAggregate<Number, Number> other) {
+            final Number otherSum = ((SumAggregate) other).sum;
+            if (null != otherSum)
+                this.add(otherSum, 1l);
+        }
+
+        @Override
+        public Number get() {
+            return null == this.sum ? 0.0d : this.sum;
+        }
+    }
+
+    public static final class MinMaxAggregate extends PartialAggregate<Number, Number> {
+
+        private final boolean min;
+        private Number value = null;
+
+        public MinMaxAggregate(final boolean min) {
+            this.min = min;
+        }
+
+        @Override
+        public void add(final Number value, final long bulk) {
+            if (null == this.value ||
+                    (this.min && this.value.doubleValue() > value.doubleValue()) ||
+                    (!this.min && this.value.doubleValue() < value.doubleValue()))
+                this.value = value;
+        }
+
+        @Override
+        public void merge(final PartialAggregate<Number, Number> other) {
+            final Number otherValue = ((MinMaxAggregate) other).value;
+            if (null != otherValue)
+                this.add(otherValue, 1l);
+        }
+
+        @Override
+        public Number get() {
+            return null == this.value ? Double.NaN : this.value;
+        }
+    }
+
+    public static final class MeanAggregate extends PartialAggregate<Number, Double> {
+
+        private double sum = 0.0d;
+        private long count = 0l;
+
+        @Override
+        public void add(final Number value, final long bulk) {
+            this.sum = this.sum + (value.doubleValue() * bulk);
+            this.count = this.count + bulk;
+        }
+
+        @Override
+        public void merge(final PartialAggregate<Number, Double> other) {
+            this.sum = this.sum + ((MeanAggregate) other).sum;
+            this.count = this.count + ((MeanAggregate) other).count;
+        }
+
+        @Override
+        public Double get() {
+            return 0l == this.count ? Double.NaN : this.sum / this.count;
+        }
+    }
+
+    /**
+     * Retains only the values that can be within the first {@code high} positions of the collection.
+     * The retained values are still processed by the reduce traversal.
+     */
+    public static final class RangeAggregate<V> extends PartialAggregate<V, BulkSet<V>> {
+
+        private final long high;
+        private final BulkSet<V> values = new BulkSet<>();
+        private long size = 0l;
+
+        public RangeAggregate(final long high) {
+            this.high = high;
+        }
+
+        public long getHighRange() {
+            return this.high;
+        }
+
+        @Override
+        public void add(final V value, final long bulk) {
+            if (this.size < this.high || this.values.contains(value)) {
+                this.values.add(value, bulk);
+                this.size = this.size + bulk;
+            }
+        }
+
+        @Override
+        public void merge(final PartialAggregate<V, BulkSet<V>> other) {
+            ((RangeAggregate<V>) other).values.forEach(this::add);
+        }
+
+        @Override
+        public BulkSet<V> get() {
+            return this.values;
+        }
+
+        @Override
+        public boolean requiresReduce() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedElement;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedProperty;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * A hash partitioned spill of map entries to temporary files. Entries are written to the partition of their key
+ * and are later read back one partition at a time with entries of the same key merged together.
+ * As such, only the entries of a single partition need to be held in memory at once.
+ * Elements and properties are detached (with their properties) when spilled and re-attached to the graph (if provided)
+ * when read back.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class PartitionedSpill<K, V> implements AutoCloseable {
+
+    private final File[] files;
+    private final ObjectOutputStream[] outputs;
+    private boolean spilled = false;
+
+    public PartitionedSpill(final int partitions) {
+        if (partitions < 1)
+            throw new IllegalArgumentException("The number of partitions must be greater than zero: " + partitions);
+        this.files = new File[partitions];
+        this.outputs = new ObjectOutputStream[partitions];
+    }
+
+    /**
+     * Write the entries of the map to their partitions and clear the map.
+     */
+    public void spill(final Map<K, V> map) {
+        try {
+            for (final Map.Entry<K, V> entry : map.entrySet()) {
+                final ObjectOutputStream output = this.getOutput(this.getPartition(entry.getKey()));
+                output.writeObject(detach(entry.getKey()));
+                output.writeObject(detach(entry.getValue()));
+            }
+            for (final ObjectOutputStream output : this.outputs) {
+                if (null != output) output.reset(); // do not let the streams hold a reference to every written entry
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        map.clear();
+        this.spilled = true;
+    }
+
+    public boolean isSpilled() {
+        return this.spilled;
+    }
+
+    /**
+     * Read the spilled entries back one partition at a time. Entries with the same key are combined with the merger.
+     * Once all the partitions have been consumed, the temporary files are deleted.
+     *
+     * @param merger   combines the values of two entries with the same key
+     * @param graph    the graph to attach spilled elements to (can be {@code null})
+     * @param consumer consumes each partition in turn
+     */
+    public void forEachPartition(final BinaryOperator<V> merger, final Graph graph, final Consumer<Map<K, V>> consumer) {
+        try {
+            for (final ObjectOutputStream output : this.outputs) {
+                if (null != output) {
+                    output.writeObject(null);
+                    output.close();
+                }
+            }
+            for (int i = 0; i < this.files.length; i++) {
+                this.outputs[i] = null;
+                if (null == this.files[i]) continue;
+                final Map<K, V> partition = new HashMap<>();
+                try (final ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(this.files[i])))) {
+                    Object key;
+                    while (null != (key = input.readObject())) {
+                        partition.merge((K) attach(key, graph), (V) attach(input.readObject(), graph), merger);
+                    }
+                }
+                this.files[i].delete();
+                this.files[i] = null;
+                consumer.accept(partition);
+            }
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            this.close();
+        }
+    }
+
+    /**
+     * Close any open partitions and delete all the temporary files of this spill.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < this.files.length; i++) {
+            if (null != this.outputs[i]) {
+                try {
+                    this.outputs[i].close();
+                } catch (final IOException e) {
+                    // the file is deleted next regardless
+                }
+                this.outputs[i] = null;
+            }
+            if (null != this.files[i]) {
+                this.files[i].delete();
+                this.files[i] = null;
+            }
+        }
+        this.spilled = false;
+    }
+
+    private int getPartition(final K key) {
+        return null == key ? 0 : (key.hashCode() & Integer.MAX_VALUE) % this.files.length;
+    }
+
+    private ObjectOutputStream getOutput(final int partition) throws IOException {
+        if (null == this.outputs[partition]) {
+            this.files[partition] = File.createTempFile("tinkerpop-partition-", ".spill");
+            this.files[partition].deleteOnExit();
+            this.outputs[partition] = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(this.files[partition])));
+        }
+        return this.outputs[partition];
+    }
+
+    private static Object detach(final Object object) {
+        if (object instanceof BulkSet) {
+            final BulkSet<Object> detached = new BulkSet<>();
+            ((BulkSet<Object>) object).forEach((value, bulk) -> detached.add(DetachedFactory.detach(value, true), bulk));
+            return detached;
+        } else if (object instanceof PartialAggregate.RangeAggregate) {
+            final PartialAggregate.RangeAggregate<Object> aggregate = (PartialAggregate.RangeAggregate<Object>) object;
+            final PartialAggregate.RangeAggregate<Object> detached = new PartialAggregate.RangeAggregate<>(aggregate.getHighRange());
+            aggregate.get().forEach((value, bulk) -> detached.add(DetachedFactory.detach(value, true), bulk));
+            return detached;
+        } else
+            return DetachedFactory.detach(object, true);
+    }
+
+    private static Object attach(final Object object, final Graph graph) {
+        if (null == graph)
+            return object;
+        else if (object instanceof BulkSet) {
+            final BulkSet<Object> attached = new BulkSet<>();
+            ((BulkSet<Object>) object).forEach((value, bulk) -> attached.add(attach(value, graph), bulk));
+            return attached;
+        } else if (object instanceof PartialAggregate.RangeAggregate) {
+            final PartialAggregate.RangeAggregate<Object> aggregate = (PartialAggregate.RangeAggregate<Object>) object;
+            final PartialAggregate.RangeAggregate<Object> attached = new PartialAggregate.RangeAggregate<>(aggregate.getHighRange());
+            aggregate.get().forEach((value, bulk) -> attached.add(attach(value, graph), bulk));
+            return attached;
+        } else if (object instanceof DetachedElement)
+            return ((DetachedElement) object).attach(graph);
+        else if (object instanceof DetachedProperty)
+            return ((DetachedProperty) object).attach(graph);
+        else
+            return object;
+    }
+}
@@ -22,12 +22,10 @@ import org.apache.tinkerpop.gremlin.process.Traverser;
 
 import java.io.Serializable;
 import java.util.AbstractSet;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -38,6 +36,8 @@ import java.util.Spliterator;
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
 
     public TraverserSet() {
@@ -134,10 +134,27 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
     }
 
     public void sort(final Comparator<Traverser<S>> comparator) {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.values());
-        Collections.sort(list, comparator);
+        this.sort(comparator, false);
+    }
+
+    /**
+     * Sort the traversers of this set. If parallel sorting is allowed and the set is larger than
+     * {@link TraverserSet#PARALLEL_SORT_THRESHOLD}, then the sort is executed on the common fork-join pool.
+     * In that case, the comparator must be safe to use from multiple threads.
+     *
+     * @param comparator the comparator to sort the traversers by
+     * @param parallel   whether the sort may be executed in parallel
+     */
+    public void sort(final Comparator<Traverser<S>> comparator, final boolean parallel) {
+        final Traverser.Admin<S>[] array = this.map.values().toArray(new Traverser.Admin[this.map.size()]);
+        if (parallel && array.length >= PARALLEL_SORT_THRESHOLD)
+            Arrays.parallelSort(array, comparator);
+        else
+            Arrays.sort(array, comparator);
         this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+        for (final Traverser.Admin<S> traverser : array) {
+            this.map.put(traverser, traverser);
+        }
     }
 
 }
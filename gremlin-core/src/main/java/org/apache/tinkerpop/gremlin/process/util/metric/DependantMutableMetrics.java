@@ -26,6 +26,8 @@ package org.apache.tinkerpop.gremlin.process.util.metric;
  */
 public class DependantMutableMetrics extends MutableMetrics {
     private long prevDur = 0L;
+    private long prevCpuDur = 0L;
+    private long prevAllocatedBytes = 0L;
     private DependantMutableMetrics upStreamMetrics;
 
     private DependantMutableMetrics() {
@@ -43,11 +45,18 @@ public class DependantMutableMetrics extends MutableMetrics {
     }
 
     public void stop() {
+        final boolean timing = super.isTiming();
         super.stop();
-        // root step will not have an upstream metrics
-        if (upStreamMetrics != null) {
-            // subtract time that is "double counted" by upstream metrics
+        // root step will not have an upstream metrics and calls that were not sampled did not time the upstream metrics
+        if (upStreamMetrics != null && timing) {
+            // subtract time (and allocations) that is "double counted" by upstream metrics
             super.durationNs -= upStreamMetrics.getAndResetIncrementalDur();
+            final long incrementalCpuDur = upStreamMetrics.getAndResetIncrementalCpuDur();
+            if (0L != incrementalCpuDur)
+                super.incrementCount(TraversalMetrics.CPU_DURATION_ID, -incrementalCpuDur);
+            final long incrementalAllocatedBytes = upStreamMetrics.getAndResetIncrementalAllocatedBytes();
+            if (0L != incrementalAllocatedBytes)
+                super.incrementCount(TraversalMetrics.ALLOCATED_BYTES_ID, -incrementalAllocatedBytes);
         }
     }
 
@@ -56,4 +65,18 @@ public class DependantMutableMetrics extends MutableMetrics {
         prevDur = super.durationNs;
         return incrementalDur;
     }
+
+    public long getAndResetIncrementalCpuDur() {
+        final long cpuDur = super.counts.containsKey(TraversalMetrics.CPU_DURATION_ID) ? super.counts.get(TraversalMetrics.CPU_DURATION_ID).get() : 0L;
+        final long incrementalCpuDur = cpuDur - prevCpuDur;
+        prevCpuDur = cpuDur;
+        return incrementalCpuDur;
+    }
+
+    public long getAndResetIncrementalAllocatedBytes() {
+        final long allocatedBytes = super.counts.containsKey(TraversalMetrics.ALLOCATED_BYTES_ID) ? super.counts.get(TraversalMetrics.ALLOCATED_BYTES_ID).get() : 0L;
+        final long incrementalAllocatedBytes = allocatedBytes - prevAllocatedBytes;
+        prevAllocatedBytes = allocatedBytes;
+        return incrementalAllocatedBytes;
+    }
 }
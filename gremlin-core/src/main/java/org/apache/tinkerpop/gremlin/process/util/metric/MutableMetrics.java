@@ -31,6 +31,11 @@ public class MutableMetrics extends ImmutableMetrics implements Cloneable {
     // Note: if you add new members then you probably need to add them to the copy constructor;
 
     private long tempTime = -1l;
+    private long tempCpuTime = -1l;
+    private long tempAllocatedBytes = -1l;
+    private int sampleInterval = 1;
+    private boolean threadResources = false;
+    private long calls = 0l;
 
     protected MutableMetrics() {
         // necessary for gryo serialization
@@ -46,18 +51,72 @@ public class MutableMetrics extends ImmutableMetrics implements Cloneable {
         this.nested.put(metrics.getId(), metrics);
     }
 
+    /**
+     * Only time one out of every sample interval calls and extrapolate the measurements of the timed calls. The counts
+     * of traversers are not sampled.
+     *
+     * @param sampleInterval the number of calls per timed call
+     */
+    public void setSampleInterval(final int sampleInterval) {
+        if (sampleInterval < 1)
+            throw new IllegalArgumentException("The sample interval must be greater than zero: " + sampleInterval);
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    /**
+     * Also measure the CPU time and the allocated bytes of the timed calls if the JVM supports it (see
+     * {@link ThreadResources}). As reading them costs about as much as a short step, they are not measured by default.
+     *
+     * @param threadResources whether to measure the CPU time and the allocated bytes
+     */
+    public void setThreadResources(final boolean threadResources) {
+        this.threadResources = threadResources;
+    }
+
+    public boolean getThreadResources() {
+        return this.threadResources;
+    }
+
     public void start() {
         if (-1 != this.tempTime) {
             throw new IllegalStateException("Internal Error: Concurrent Metrics start. Stop timer before starting timer.");
         }
+        if (1 != this.sampleInterval && 0 != this.calls++ % this.sampleInterval)
+            return;
+        if (this.threadResources) {
+            if (ThreadResources.isCpuTimeSupported())
+                this.tempCpuTime = ThreadResources.getCpuTime();
+            if (ThreadResources.isAllocationSupported())
+                this.tempAllocatedBytes = ThreadResources.getAllocatedBytes();
+        }
         this.tempTime = System.nanoTime();
     }
 
     public void stop() {
-        if (-1 == this.tempTime)
+        if (-1 == this.tempTime) {
+            if (1 != this.sampleInterval)
+                return; // the call was not sampled
             throw new IllegalStateException("Internal Error: Metrics has not been started. Start timer before stopping timer");
-        this.durationNs = this.durationNs + (System.nanoTime() - this.tempTime);
+        }
+        this.durationNs = this.durationNs + this.sampleInterval * (System.nanoTime() - this.tempTime);
+        if (-1 != this.tempCpuTime)
+            this.incrementCount(TraversalMetrics.CPU_DURATION_ID, this.sampleInterval * (ThreadResources.getCpuTime() - this.tempCpuTime));
+        if (-1 != this.tempAllocatedBytes)
+            this.incrementCount(TraversalMetrics.ALLOCATED_BYTES_ID, this.sampleInterval * (ThreadResources.getAllocatedBytes() - this.tempAllocatedBytes));
         this.tempTime = -1;
+        this.tempCpuTime = -1;
+        this.tempAllocatedBytes = -1;
+    }
+
+    /**
+     * Whether the current call is being timed.
+     */
+    protected boolean isTiming() {
+        return -1 != this.tempTime;
     }
 
     public void incrementCount(String key, final long incr) {
@@ -29,7 +29,7 @@ import java.util.concurrent.TimeUnit;
  */
 public final class StandardTraversalMetrics implements TraversalMetrics, Serializable {
     // toString() specific headers
-    private static final String[] HEADERS = {"Step", "Count", "Traversers", "Time (ms)", "% Dur"};
+    private static final String[] HEADERS = {"Step", "Count", "Traversers", "Time (ms)", "% Dur", "CPU (ms)", "Alloc (KB)"};
 
     private boolean dirty = true;
     private final Map<String, MutableMetrics> metrics = new HashMap<>();
@@ -99,15 +99,15 @@ public final class StandardTraversalMetrics implements TraversalMetrics, Seriali
 
         // Append headers
         final StringBuilder sb = new StringBuilder("Traversal Metrics\n")
-                .append(String.format("%-50s %21s %11s %15s %8s", HEADERS));
+                .append(String.format("%-50s %21s %11s %15s %8s %15s %15s", HEADERS));
 
-        sb.append("\n=============================================================================================================");
+        sb.append("\n=============================================================================================================================================");
 
         appendMetrics(computedMetrics.values(), sb, 0);
 
         // Append total duration
-        sb.append(String.format("%n%50s %21s %11s %15.3f %8s",
-                ">TOTAL", "-", "-", getDuration(TimeUnit.MICROSECONDS) / 1000.0, "-"));
+        sb.append(String.format("%n%50s %21s %11s %15.3f %8s %15s %15s",
+                ">TOTAL", "-", "-", getDuration(TimeUnit.MICROSECONDS) / 1000.0, "-", "-", "-"));
 
         return sb.toString();
     }
@@ -123,13 +123,19 @@ public final class StandardTraversalMetrics implements TraversalMetrics, Seriali
             final long itemCount = m.getCount(TraversalMetrics.ELEMENT_COUNT_ID);
             final long traverserCount = m.getCount(TraversalMetrics.TRAVERSER_COUNT_ID);
 
+            final Map<String, Long> counts = m.getCounts();
+            final String cpuDur = counts.containsKey(TraversalMetrics.CPU_DURATION_ID) ?
+                    String.format("%.3f", counts.get(TraversalMetrics.CPU_DURATION_ID) / 1000000.0) : "-";
+            final String allocated = counts.containsKey(TraversalMetrics.ALLOCATED_BYTES_ID) ?
+                    String.format("%.1f", counts.get(TraversalMetrics.ALLOCATED_BYTES_ID) / 1024.0) : "-";
+
             Double percentDur = (Double) m.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY);
             if (percentDur != null) {
-                sb.append(String.format("%n%-50s %21d %11d %15.3f %8.2f",
-                        rowName, itemCount, traverserCount, m.getDuration(TimeUnit.MICROSECONDS) / 1000.0, percentDur));
+                sb.append(String.format("%n%-50s %21d %11d %15.3f %8.2f %15s %15s",
+                        rowName, itemCount, traverserCount, m.getDuration(TimeUnit.MICROSECONDS) / 1000.0, percentDur, cpuDur, allocated));
             } else {
-                sb.append(String.format("%n%-50s %21d %11d %15.3f",
-                        rowName, itemCount, traverserCount, m.getDuration(TimeUnit.MICROSECONDS) / 1000.0));
+                sb.append(String.format("%n%-50s %21d %11d %15.3f %8s %15s %15s",
+                        rowName, itemCount, traverserCount, m.getDuration(TimeUnit.MICROSECONDS) / 1000.0, "-", cpuDur, allocated));
             }
             appendMetrics(m.getNested(), sb, indent + 1);
         }
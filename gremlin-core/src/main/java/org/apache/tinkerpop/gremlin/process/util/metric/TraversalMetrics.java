@@ -45,11 +45,33 @@ public interface TraversalMetrics {
      */
     public static final String TRAVERSER_COUNT_ID = "traverserCount";
 
+    /**
+     * The MetricsId used to obtain the CPU time (in nanoseconds) via Metrics.getCount(String countKey). Only present if
+     * the JVM supports measuring the CPU time of the current thread.
+     */
+    public static final String CPU_DURATION_ID = "cpuDuration";
+
+    /**
+     * The MetricsId used to obtain the allocated bytes via Metrics.getCount(String countKey). Only present if the JVM
+     * supports measuring the bytes allocated by the current thread.
+     */
+    public static final String ALLOCATED_BYTES_ID = "allocatedBytes";
+
     /**
      * The annotation key used to obtain the percent duration via Metrics.getAnnotation(String key)
      */
     public static final String PERCENT_DURATION_KEY = "percentDur";
 
+    /**
+     * The annotation key used to obtain the number of index lookups of a graph step via Metrics.getAnnotation(String key).
+     */
+    public static final String INDEX_LOOKUPS_KEY = "indexLookups";
+
+    /**
+     * The annotation key used to obtain the number of full scans of a graph step via Metrics.getAnnotation(String key).
+     */
+    public static final String SCANS_KEY = "scans";
+
     /**
      * Get the total duration taken by the Traversal.
      *
@@ -22,49 +22,75 @@ import org.apache.tinkerpop.gremlin.process.Path;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
 /**
+ * An {@code ImmutablePath} is a linked list of path segments where each extension shares the segments of the path
+ * it extends. The labels known when the head of the path is made (e.g. the step labels of a traversal) are interned
+ * by that head and stored as a bitset per segment, any other label is stored by name. The size (depth) of the path
+ * is stored in each segment and the hash code of the path objects is computed incrementally. As such, extending a
+ * path, computing its size and its hash code are constant time. Equality first compares sizes and hash codes and
+ * stops at the first segment shared by both paths.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, Serializable, Cloneable {
 
-    private Path previousPath = HeadPath.instance();
-    private Object currentObject;
-    private Set<String> currentLabels = new HashSet<>();
+    private final Path previousPath;
+    private final Object currentObject;
+    private final int size;
+    private final int hashCode;
+    private final LabelTable labelTable;
+    // the interned labels are stored in the bitset, the rest (if any) in the set
+    private long currentLabels = 0l;
+    private Set<String> overflowLabels = null;
+    private transient Object[] objects = null;
 
     protected ImmutablePath() {
-
+        this(HeadPath.instance(), null);
     }
 
     public static Path make() {
         return HeadPath.instance();
     }
 
+    /**
+     * Make an empty path that interns the provided labels (at most 64) in the paths extending it.
+     */
+    public static Path make(final Collection<String> labels) {
+        return labels.isEmpty() ? HeadPath.instance() : new HeadPath(new LabelTable(labels));
+    }
+
     @SuppressWarnings("CloneDoesntCallSuperClone,CloneDoesntDeclareCloneNotSupportedException")
     @Override
     public ImmutablePath clone() {
         return this;
     }
 
-    private ImmutablePath(final Object currentObject, final String... currentLabels) {
-        this(HeadPath.instance(), currentObject, currentLabels);
-    }
-
     private ImmutablePath(final Path previousPath, final Object currentObject, final String... currentLabels) {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
-        if (currentLabels.length > 0)
-            Stream.of(currentLabels).forEach(this.currentLabels::add);
+        this.size = previousPath.size() + 1;
+        this.hashCode = (31 * previousPath.hashCode()) + (null == currentObject ? 0 : currentObject.hashCode());
+        this.labelTable = previousPath instanceof ImmutablePath ?
+                ((ImmutablePath) previousPath).labelTable :
+                ((HeadPath) previousPath).labelTable;
+        for (final String label : currentLabels) {
+            this.addLabel(label);
+        }
     }
 
     @Override
     public int size() {
-        return this.previousPath.size() + 1;
+        return this.size;
     }
 
     @Override
@@ -74,33 +100,118 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
     @Override
     public <A> A get(final int index) {
-        return (this.size() - 1) == index ? (A) this.currentObject : this.previousPath.get(index);
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        return (A) this.getObjects()[index];
+    }
+
+    @Override
+    public <A> A get(final String label) throws IllegalArgumentException {
+        final int id = this.labelTable.id(label);
+        Object object = null;
+        List<Object> list = null;
+        ImmutablePath path = this;
+        while (null != path) {
+            if (path.hasCurrentLabel(id, label)) {
+                if (null == object)
+                    object = path.currentObject;
+                else {
+                    if (null == list) {
+                        list = new ArrayList<>(2);
+                        list.add(object);
+                    }
+                    list.add(path.currentObject);
+                }
+            }
+            path = path.previousPath instanceof ImmutablePath ? (ImmutablePath) path.previousPath : null;
+        }
+        if (null == object)
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        if (null == list)
+            return (A) object;
+        Collections.reverse(list);
+        return (A) list;
     }
 
     @Override
     public boolean hasLabel(final String label) {
-        return this.currentLabels.contains(label) || this.previousPath.hasLabel(label);
+        final int id = this.labelTable.id(label);
+        ImmutablePath path = this;
+        while (null != path) {
+            if (path.hasCurrentLabel(id, label))
+                return true;
+            path = path.previousPath instanceof ImmutablePath ? (ImmutablePath) path.previousPath : null;
+        }
+        return false;
     }
 
     @Override
     public void addLabel(final String label) {
-        this.currentLabels.add(label);
+        final int id = this.labelTable.id(label);
+        if (-1 != id)
+            this.currentLabels = this.currentLabels | (1l << id);
+        else {
+            if (null == this.overflowLabels)
+                this.overflowLabels = new HashSet<>();
+            this.overflowLabels.add(label);
+        }
     }
 
     @Override
     public List<Object> objects() {
-        final List<Object> objectPath = new ArrayList<>();
-        objectPath.addAll(this.previousPath.objects());
-        objectPath.add(this.currentObject);
-        return Collections.unmodifiableList(objectPath);
+        return Collections.unmodifiableList(Arrays.asList(this.getObjects()));
     }
 
     @Override
     public List<Set<String>> labels() {
-        final List<Set<String>> labelPath = new ArrayList<>();
-        labelPath.addAll(this.previousPath.labels());
-        labelPath.add(this.currentLabels);
-        return Collections.unmodifiableList(labelPath);
+        final Set<String>[] labels = new Set[this.size];
+        ImmutablePath path = this;
+        for (int i = this.size - 1; i >= 0; i--) {
+            labels[i] = path.getCurrentLabels();
+            path = path.previousPath instanceof ImmutablePath ? (ImmutablePath) path.previousPath : null;
+        }
+        return Collections.unmodifiableList(Arrays.asList(labels));
+    }
+
+    @Override
+    public boolean isSimple() {
+        final Set<Object> objects = new HashSet<>(this.size * 2);
+        for (final Object object : this.getObjects()) {
+            if (!objects.add(object))
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object)
+            return true;
+        if (!(object instanceof ImmutablePath))
+            return false;
+        ImmutablePath a = this;
+        ImmutablePath b = (ImmutablePath) object;
+        if (a.size != b.size || a.hashCode != b.hashCode)
+            return false;
+        final boolean sameLabelTable = a.labelTable == b.labelTable;
+        while (a != b) { // a shared prefix is equal by identity
+            if (!(null == a.currentObject ? null == b.currentObject : a.currentObject.equals(b.currentObject)))
+                return false;
+            if (sameLabelTable ?
+                    a.currentLabels != b.currentLabels || !(null == a.overflowLabels ? null == b.overflowLabels : a.overflowLabels.equals(b.overflowLabels)) :
+                    !a.getCurrentLabels().equals(b.getCurrentLabels()))
+                return false;
+            if (!(a.previousPath instanceof ImmutablePath) || !(b.previousPath instanceof ImmutablePath))
+                return a.previousPath.equals(b.previousPath);
+            a = (ImmutablePath) a.previousPath;
+            b = (ImmutablePath) b.previousPath;
+        }
+        return true;
     }
 
     @Override
@@ -108,11 +219,85 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
         return this.objects().toString();
     }
 
-    private static class HeadPath implements Path {
-        private static final HeadPath INSTANCE = new HeadPath();
+    private Object[] getObjects() {
+        // the objects of a path never change and thus, can be cached
+        if (null == this.objects) {
+            final Object[] objects = new Object[this.size];
+            ImmutablePath path = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                objects[i] = path.currentObject;
+                path = path.previousPath instanceof ImmutablePath ? (ImmutablePath) path.previousPath : null;
+            }
+            this.objects = objects;
+        }
+        return this.objects;
+    }
+
+    private boolean hasCurrentLabel(final int id, final String label) {
+        return -1 != id ?
+                0l != (this.currentLabels & (1l << id)) :
+                null != this.overflowLabels && this.overflowLabels.contains(label);
+    }
 
-        private HeadPath() {
+    private Set<String> getCurrentLabels() {
+        if (0l == this.currentLabels && null == this.overflowLabels)
+            return Collections.emptySet();
+        final Set<String> labels = new LinkedHashSet<>();
+        long bits = this.currentLabels;
+        while (0l != bits) {
+            final int id = Long.numberOfTrailingZeros(bits);
+            labels.add(this.labelTable.name(id));
+            bits = bits & (bits - 1);
+        }
+        if (null != this.overflowLabels)
+            labels.addAll(this.overflowLabels);
+        return labels;
+    }
+
+    /**
+     * The interned labels of the paths extending the same head. The table never changes once made and thus, it can
+     * be read by any thread without locking.
+     */
+    private static final class LabelTable implements Serializable {
+        private static final LabelTable EMPTY = new LabelTable(Collections.emptyList());
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final String[] names;
+
+        private LabelTable(final Collection<String> labels) {
+            final List<String> names = new ArrayList<>(Math.min(labels.size(), 64));
+            for (final String label : labels) {
+                if (names.size() == 64)
+                    break;
+                if (!this.ids.containsKey(label)) {
+                    this.ids.put(label, names.size());
+                    names.add(label);
+                }
+            }
+            this.names = names.toArray(new String[names.size()]);
+        }
+
+        private int id(final String label) {
+            final Integer id = this.ids.get(label);
+            return null == id ? -1 : id;
+        }
 
+        private String name(final int id) {
+            return this.names[id];
+        }
+
+        private Object readResolve() {
+            return 0 == this.names.length ? EMPTY : this;
+        }
+    }
+
+    private static class HeadPath implements Path, Serializable {
+        private static final HeadPath INSTANCE = new HeadPath(LabelTable.EMPTY);
+
+        private final LabelTable labelTable;
+
+        private HeadPath(final LabelTable labelTable) {
+            this.labelTable = labelTable;
         }
 
         @Override
@@ -122,7 +307,7 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
 
         @Override
         public Path extend(final Object object, final String... labels) {
-            return new ImmutablePath(object, labels);
+            return new ImmutablePath(this, object, labels);
         }
 
         @Override
@@ -169,11 +354,20 @@ public class ImmutablePath implements Path, Serializable, Cloneable {
             return INSTANCE;
         }
 
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
         @Override
         public boolean equals(final Object object) {
             return object instanceof HeadPath;
         }
 
+        private Object readResolve() {
+            return 0 == this.labelTable.names.length ? INSTANCE : this;
+        }
+
         @Override
         public String toString() {
             return Collections.emptyList().toString();
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util.path;
+
+import org.apache.tinkerpop.gremlin.process.Path;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@code LabeledPath} only retains the objects of the path that have labels and the current head of the path.
+ * When the path is extended, an unlabeled head is dropped. The labeled objects are stored in an {@link ImmutablePath}
+ * and thus, paths that are extended from the same path share their labeled objects. Unlike {@link SparsePath},
+ * a {@code LabeledPath} is not shared by the traversers of a traversal and can be used with nested traversals and
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} messaging. Labels that are no longer needed
+ * can be removed with {@link LabeledPath#retract(Set)}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class LabeledPath implements Path, Serializable {
+
+    private final Path labeledPath;
+    private final Object currentObject;
+    private final boolean empty;
+    private Set<String> currentLabels = null;
+
+    protected LabeledPath() {
+        this.labeledPath = ImmutablePath.make();
+        this.currentObject = null;
+        this.empty = true;
+    }
+
+    private LabeledPath(final Path labeledPath, final Object currentObject, final String... currentLabels) {
+        this.labeledPath = labeledPath;
+        this.currentObject = currentObject;
+        this.empty = false;
+        for (final String label : currentLabels) {
+            this.addLabel(label);
+        }
+    }
+
+    public static LabeledPath make() {
+        return new LabeledPath();
+    }
+
+    /**
+     * Create a {@code LabeledPath} from the labeled objects (and the head) of the provided path.
+     */
+    public static LabeledPath from(final Path path) {
+        if (path instanceof LabeledPath)
+            return (LabeledPath) path;
+        final List<Object> objects = path.objects();
+        final List<Set<String>> labels = path.labels();
+        LabeledPath labeledPath = LabeledPath.make();
+        for (int i = 0; i < objects.size(); i++) {
+            labeledPath = labeledPath.extend(objects.get(i), labels.get(i).toArray(new String[labels.get(i).size()]));
+        }
+        return labeledPath;
+    }
+
+    @Override
+    public int size() {
+        return this.empty ? 0 : this.labeledPath.size() + 1;
+    }
+
+    @Override
+    public LabeledPath extend(final Object object, final String... labels) {
+        return new LabeledPath(this.empty || null == this.currentLabels ?
+                this.labeledPath :
+                this.labeledPath.extend(this.currentObject, this.currentLabels.toArray(new String[this.currentLabels.size()])), object, labels);
+    }
+
+    /**
+     * Remove all the labels of the path that are not in the provided set. Objects left without labels are removed
+     * from the path (save the head). If no labels are removed, then this path is returned.
+     *
+     * @param keepLabels the labels to retain
+     * @return a path with only the retained labels
+     */
+    public LabeledPath retract(final Set<String> keepLabels) {
+        final List<Set<String>> labels = this.labeledPath.labels();
+        boolean retract = null != this.currentLabels && !keepLabels.containsAll(this.currentLabels);
+        for (int i = 0; !retract && i < labels.size(); i++) {
+            retract = !keepLabels.containsAll(labels.get(i));
+        }
+        if (!retract)
+            return this;
+        final List<Object> objects = this.labeledPath.objects();
+        Path path = ImmutablePath.make();
+        for (int i = 0; i < objects.size(); i++) {
+            final String[] retainedLabels = labels.get(i).stream().filter(keepLabels::contains).toArray(String[]::new);
+            if (retainedLabels.length > 0)
+                path = path.extend(objects.get(i), retainedLabels);
+        }
+        return null == this.currentLabels ?
+                new LabeledPath(path, this.currentObject) :
+                new LabeledPath(path, this.currentObject, this.currentLabels.stream().filter(keepLabels::contains).toArray(String[]::new));
+    }
+
+    @Override
+    public <A> A get(final String label) throws IllegalArgumentException {
+        if (null == this.currentLabels || !this.currentLabels.contains(label))
+            return this.labeledPath.get(label);
+        return this.labeledPath.hasLabel(label) ? Path.super.get(label) : (A) this.currentObject;
+    }
+
+    @Override
+    public boolean hasLabel(final String label) {
+        return (null != this.currentLabels && this.currentLabels.contains(label)) || this.labeledPath.hasLabel(label);
+    }
+
+    @Override
+    public void addLabel(final String label) {
+        if (this.empty)
+            throw new UnsupportedOperationException("An empty path can not have labels added to it");
+        if (null == this.currentLabels)
+            this.currentLabels = new LinkedHashSet<>();
+        this.currentLabels.add(label);
+    }
+
+    @Override
+    public List<Object> objects() {
+        if (this.empty)
+            return Collections.emptyList();
+        final List<Object> objects = new ArrayList<>(this.labeledPath.objects());
+        objects.add(this.currentObject);
+        return Collections.unmodifiableList(objects);
+    }
+
+    @Override
+    public List<Set<String>> labels() {
+        if (this.empty)
+            return Collections.emptyList();
+        final List<Set<String>> labels = new ArrayList<>(this.labeledPath.labels());
+        labels.add(null == this.currentLabels ? Collections.emptySet() : Collections.unmodifiableSet(this.currentLabels));
+        return Collections.unmodifiableList(labels);
+    }
+
+    @SuppressWarnings("CloneDoesntCallSuperClone,CloneDoesntDeclareCloneNotSupportedException")
+    @Override
+    public LabeledPath clone() {
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * this.labeledPath.hashCode()) + (null == this.currentObject ? 0 : this.currentObject.hashCode());
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object)
+            return true;
+        if (!(object instanceof LabeledPath))
+            return false;
+        final LabeledPath other = (LabeledPath) object;
+        return this.empty == other.empty &&
+                (null == this.currentObject ? null == other.currentObject : this.currentObject.equals(other.currentObject)) &&
+                (null == this.currentLabels || this.currentLabels.isEmpty() ?
+                        null == other.currentLabels || other.currentLabels.isEmpty() :
+                        this.currentLabels.equals(other.currentLabels)) &&
+                this.labeledPath.equals(other.labeledPath);
+    }
+
+    @Override
+    public String toString() {
+        return this.objects().toString();
+    }
+}
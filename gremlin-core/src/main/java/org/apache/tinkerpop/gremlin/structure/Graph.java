@@ -187,6 +187,14 @@ public interface Graph extends AutoCloseable {
         return new DefaultIo(this);
     }
 
+    /**
+     * Gets the {@link Statistics} of the graph if the {@code Graph} implementation maintains them. Statistics are
+     * used to estimate the cost of a traversal prior to its execution.
+     */
+    public default Optional<Statistics> statistics() {
+        return Optional.empty();
+    }
+
     /**
      * Constructs a {@link StrategyGraph} from one or more {@link GraphStrategy} objects.  If more than one
      * {@link GraphStrategy} is supplied they are folded into a single {@link SequenceStrategy}.
@@ -416,6 +424,48 @@ public interface Graph extends AutoCloseable {
 
     }
 
+    /**
+     * Cardinality statistics of a {@code Graph}. The values need not be exact as they are only used to estimate
+     * the cost of a traversal (e.g. the order in which {@code match()} evaluates its patterns).
+     */
+    public interface Statistics {
+
+        /**
+         * The number of vertices with the provided label or the total number of vertices if the label is
+         * {@code null}.
+         */
+        public long vertexCount(final String label);
+
+        /**
+         * The number of edges with the provided label or the total number of edges if the label is {@code null}.
+         */
+        public long edgeCount(final String label);
+
+        /**
+         * The expected fraction of vertices that have a property with the provided key equal to some value.
+         */
+        public double selectivity(final String key);
+
+        /**
+         * The average number of incident edges per vertex in the provided direction with any of the provided
+         * labels (or with any label if no labels are provided).
+         */
+        public default double averageDegree(final Direction direction, final String... edgeLabels) {
+            final long vertexCount = this.vertexCount(null);
+            if (0l == vertexCount)
+                return 0.0d;
+            long edgeCount = 0l;
+            if (edgeLabels.length == 0)
+                edgeCount = this.edgeCount(null);
+            else {
+                for (final String edgeLabel : edgeLabels) {
+                    edgeCount = edgeCount + this.edgeCount(edgeLabel);
+                }
+            }
+            return (direction.equals(Direction.BOTH) ? 2.0d : 1.0d) * edgeCount / vertexCount;
+        }
+    }
+
     /**
      * Gets the {@link Features} exposed by the underlying {@code Graph} implementation.
      */
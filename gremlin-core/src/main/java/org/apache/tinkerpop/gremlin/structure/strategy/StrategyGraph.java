@@ -128,6 +128,11 @@ public class StrategyGraph implements Graph, StrategyWrapped, WrappedGraph<Graph
         return this.baseGraph.features();
     }
 
+    @Override
+    public Optional<Statistics> statistics() {
+        return this.baseGraph.statistics();
+    }
+
     @Override
     public Iterator<Vertex> vertices(final Object... vertexIds) {
         return new StrategyVertex.StrategyVertexIterator(compose(s -> s.getGraphIteratorsVertexIteratorStrategy(this.graphContext, strategy), this.baseGraph::vertices).apply(vertexIds), this);
@@ -34,13 +34,27 @@ import java.util.Iterator;
  */
 public class StrategyGraphStep<E extends Element> extends GraphStep<E> {
 
-    private final GraphTraversal<?, E> graphTraversal;
+    private final StrategyGraph strategyGraph;
+    private GraphTraversal<?, E> graphTraversal;
 
     public StrategyGraphStep(final Traversal.Admin traversal, final StrategyGraph strategyGraph, final Class<E> returnClass, final GraphTraversal<?, E> graphTraversal) {
         super(traversal, returnClass);
+        this.strategyGraph = strategyGraph;
         this.graphTraversal = graphTraversal;
-        this.setIteratorSupplier(() -> (Iterator) (Vertex.class.isAssignableFrom(this.returnClass) ?
-                new StrategyVertex.StrategyVertexIterator((Iterator) this.graphTraversal, strategyGraph) :
-                new StrategyEdge.StrategyEdgeIterator((Iterator) this.graphTraversal, strategyGraph)));
+        this.setIteratorSupplier(this::strategyIterator);
+    }
+
+    private Iterator<E> strategyIterator() {
+        return (Iterator) (Vertex.class.isAssignableFrom(this.returnClass) ?
+                new StrategyVertex.StrategyVertexIterator((Iterator) this.graphTraversal, this.strategyGraph) :
+                new StrategyEdge.StrategyEdgeIterator((Iterator) this.graphTraversal, this.strategyGraph));
+    }
+
+    @Override
+    public StrategyGraphStep<E> clone() {
+        final StrategyGraphStep<E> clone = (StrategyGraphStep<E>) super.clone();
+        clone.graphTraversal = (GraphTraversal<?, E>) this.graphTraversal.asAdmin().clone();
+        clone.setIteratorSupplier(clone::strategyIterator);
+        return clone;
     }
 }
@@ -18,7 +18,14 @@
  */
 package org.apache.tinkerpop.gremlin.process;
 
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.ComparatorHolderRemovalStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.strategy.TraversalVerificationStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -76,6 +83,16 @@ public class TraversalStrategiesTest {
         assertEquals(b, s.get(1));
         assertEquals(c, s.get(2));
 
+        //Dependency well defined across an unrelated strategy
+        final TraversalStrategy unrelated = new CountingStrategy();
+        s = Stream.of(b, unrelated, a)
+                .collect(Collectors.toList());
+        TraversalStrategies.sortStrategies(s);
+        assertEquals(3, s.size());
+        assertEquals(unrelated, s.get(0));
+        assertEquals(a, s.get(1));
+        assertEquals(b, s.get(2));
+
         //Circular dependency => throws exception
         s = Stream.of(c, k, a, b)
                 .collect(Collectors.toList());
@@ -108,6 +125,28 @@ public class TraversalStrategiesTest {
         }
     }
 
+    @Test
+    public void shouldOnlyApplyApplicableStrategies() {
+        final CountingStrategy everywhere = new CountingStrategy();
+        final RootCountingStrategy rootOnly = new RootCountingStrategy();
+        final TraversalStrategies strategies = new DefaultTraversalStrategies().addStrategies(everywhere, rootOnly);
+        final Traversal.Admin<?, ?> traversal = __.out().local(__.out().local(__.out())).asAdmin();
+        traversal.setStrategies(strategies);
+        traversal.applyStrategies();
+        assertEquals(3, everywhere.count);
+        assertEquals(1, rootOnly.count);
+    }
+
+    @Test
+    public void shouldNotAlterTraversalWhenInapplicableStrategyIsAppliedDirectly() {
+        final Traversal.Admin<?, ?> traversal = __.out().order().local(__.out().profile()).asAdmin();
+        final Traversal.Admin<?, ?> child = ((TraversalParent) traversal.getSteps().get(2)).getLocalChildren().get(0);
+        ComparatorHolderRemovalStrategy.instance().apply(traversal);
+        TraversalVerificationStrategy.instance().apply(traversal);
+        ProfileStrategy.instance().apply(child);
+        assertEquals(3, traversal.getSteps().size());
+        assertEquals(2, child.getSteps().size());
+    }
 
     public static class StrategyA extends DummyStrategy {
 
@@ -178,6 +217,24 @@ public class TraversalStrategiesTest {
 
     }
 
+    public static class CountingStrategy extends DummyStrategy {
+
+        int count = 0;
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            this.count++;
+        }
+    }
+
+    public static class RootCountingStrategy extends CountingStrategy {
+
+        @Override
+        public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+            return traversal.getParent() instanceof EmptyStep;
+        }
+    }
+
     private static class DummyStrategy extends AbstractTraversalStrategy {
 
         @Override
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.traversal;
+
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TraverserExecutorTest {
+
+    @Test
+    public void shouldNotRequirePathPropertiesForUnmodulatedPaths() {
+        assertFalse(TraverserExecutor.requiresPathProperties(__.out().out().path().asAdmin()));
+        assertFalse(TraverserExecutor.requiresPathProperties(__.as("a").out().select("a").values("name").asAdmin()));
+        assertFalse(TraverserExecutor.requiresPathProperties(__.out().values("name").asAdmin()));
+    }
+
+    @Test
+    public void shouldRequirePathPropertiesForModulatedPaths() {
+        assertTrue(TraverserExecutor.requiresPathProperties(__.out().out().path().by("name").asAdmin()));
+        assertTrue(TraverserExecutor.requiresPathProperties(__.as("a").out().as("b").select().by("name").asAdmin()));
+        assertTrue(TraverserExecutor.requiresPathProperties(__.local(__.out().tree().by("name")).asAdmin()));
+    }
+
+    @Test
+    public void shouldRequirePathPropertiesForLambdas() {
+        assertTrue(TraverserExecutor.requiresPathProperties(__.out().map(traverser -> traverser.path()).asAdmin()));
+        assertTrue(TraverserExecutor.requiresPathProperties(__.out().filter(traverser -> true).asAdmin()));
+    }
+}
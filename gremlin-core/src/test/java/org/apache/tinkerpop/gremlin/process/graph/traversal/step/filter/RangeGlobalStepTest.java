@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class RangeGlobalStepTest {
+
+    private static Iterator<Integer> countingIterator(final int size, final AtomicInteger pulls) {
+        return IntStream.range(0, size).peek(i -> pulls.incrementAndGet()).iterator();
+    }
+
+    @Test
+    public void shouldNotPullMoreStartsThanTheHighRange() {
+        final AtomicInteger pulls = new AtomicInteger(0);
+        final Traversal traversal = __.inject(1, 2, 3, 4, 5, 6).sideEffect(traverser -> pulls.incrementAndGet()).limit(2);
+        assertEquals(Arrays.asList(1, 2), traversal.toList());
+        assertEquals(2, pulls.get());
+    }
+
+    @Test
+    public void shouldNotExpandFlatMapsBeyondTheHighRange() {
+        final AtomicInteger pulls = new AtomicInteger(0);
+        final Traversal traversal = __.inject(1).flatMap(traverser -> countingIterator(10, pulls)).range(1, 3);
+        assertEquals(Arrays.asList(1, 2), traversal.toList());
+        assertEquals(3, pulls.get());
+    }
+
+    @Test
+    public void shouldTerminateChildTraversalsPerLocalStart() {
+        final AtomicInteger pulls = new AtomicInteger(0);
+        final Traversal traversal = __.inject(1, 2, 3).local(__.flatMap(traverser -> countingIterator(10, pulls)).limit(2));
+        assertEquals(Arrays.asList(0, 1, 0, 1, 0, 1), traversal.toList());
+        assertEquals(6, pulls.get());
+    }
+
+    @Test
+    public void shouldTerminateChildTraversalsOfTheSatisfiedRange() {
+        final AtomicInteger pulls = new AtomicInteger(0);
+        final Traversal traversal = __.inject(1, 2, 3).local(__.flatMap(traverser -> countingIterator(10, pulls))).limit(4);
+        assertEquals(Arrays.asList(0, 1, 2, 3), traversal.toList());
+        assertEquals(4, pulls.get());
+    }
+}
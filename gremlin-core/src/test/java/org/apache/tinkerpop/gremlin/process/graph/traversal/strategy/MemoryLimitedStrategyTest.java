@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.util.MemoryBudget;
+import org.apache.tinkerpop.gremlin.structure.Order;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class MemoryLimitedStrategyTest {
+
+    private static Integer[] numbers(final int count) {
+        return IntStream.range(0, count).map(i -> count - i).boxed().toArray(Integer[]::new);
+    }
+
+    private static Traversal applyMemoryLimitedStrategy(final Traversal traversal, final MemoryLimitedStrategy strategy) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(strategy);
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+        return traversal;
+    }
+
+    @Test
+    public void shouldFailWhenDedupExceedsTheBudget() {
+        try {
+            applyMemoryLimitedStrategy(__.inject(numbers(1000)).dedup(), new MemoryLimitedStrategy(1000l)).iterate();
+            fail("The traversal should have exceeded its memory budget");
+        } catch (final IllegalStateException e) {
+            assertEquals(MemoryBudget.Exceptions.memoryBudgetExceeded(1000l).getMessage(), e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldCompleteWithinTheBudget() {
+        final Traversal traversal = applyMemoryLimitedStrategy(__.inject(numbers(1000)).dedup().order(), new MemoryLimitedStrategy(1000000l));
+        assertEquals(1000, traversal.toList().size());
+        assertTrue(traversal.asAdmin().getSideEffects().getMemoryBudget().get().getUsedBytes() > 0l);
+    }
+
+    @Test
+    public void shouldSpillOrderWhenTheBudgetAllowsSpilling() {
+        final List sorted = applyMemoryLimitedStrategy(__.inject(numbers(1000)).order().by(Order.incr), new MemoryLimitedStrategy(5000l, true)).toList();
+        assertEquals(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()), sorted);
+    }
+
+    @Test
+    public void shouldSpillGroupWhenTheBudgetAllowsSpilling() {
+        final Traversal traversal = applyMemoryLimitedStrategy(__.inject(numbers(1000)).group().by(__.<Integer, Integer>map(t -> t.get() % 10)).by().by(__.unfold().sum()), new MemoryLimitedStrategy(5000l, true));
+        final Map<Integer, Number> sums = (Map<Integer, Number>) traversal.next();
+        assertEquals(10, sums.size());
+        assertEquals(50500.0d, sums.get(0).doubleValue(), 0.0d);
+        for (int i = 1; i < 10; i++) {
+            assertEquals(49500.0d + 100 * i, sums.get(i).doubleValue(), 0.0d);
+        }
+        assertTrue(traversal.asAdmin().getSideEffects().getMemoryBudget().get().getUsedBytes() < 5000l);
+    }
+
+    @Test
+    public void shouldReleaseBarrierMemoryOnReset() {
+        final Traversal traversal = applyMemoryLimitedStrategy(__.inject(numbers(100)).order(), new MemoryLimitedStrategy(1000000l));
+        traversal.iterate();
+        assertTrue(traversal.asAdmin().getSideEffects().getMemoryBudget().get().getUsedBytes() > 0l);
+        traversal.asAdmin().reset();
+        assertEquals(0l, traversal.asAdmin().getSideEffects().getMemoryBudget().get().getUsedBytes());
+    }
+}
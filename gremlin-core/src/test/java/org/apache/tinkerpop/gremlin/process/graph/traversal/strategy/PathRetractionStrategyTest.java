@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.BackStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.SelectOneStep;
+import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathLabelAccessor;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_LP_PA_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_P_PA_S_SE_SL_TraverserGenerator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class PathRetractionStrategyTest {
+
+    private static void applyPathRetractionStrategy(final Traversal traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(EngineDependentStrategy.instance(), PathRetractionStrategy.instance());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    @Test
+    public void shouldOnlyKeepLabelsReferencedDownstream() {
+        final Traversal traversal = __.as("a").out().as("b").out().as("c").back("a").out().back("b");
+        applyPathRetractionStrategy(traversal);
+        final List<BackStep> backSteps = TraversalHelper.getStepsOfClass(BackStep.class, traversal.asAdmin());
+        assertEquals(Collections.singleton("b"), backSteps.get(0).getKeepLabels());
+        assertEquals(Collections.emptySet(), backSteps.get(1).getKeepLabels());
+        assertEquals(B_O_LP_PA_S_SE_SL_TraverserGenerator.class, traversal.asAdmin().getTraverserGenerator().getClass());
+    }
+
+    @Test
+    public void shouldKeepLabelsReferencedByParentInChildTraversals() {
+        final Traversal traversal = __.as("a").repeat((Traversal) __.out().as("b").back("a").out()).times(2).back("b");
+        applyPathRetractionStrategy(traversal);
+        final BackStep backStep = TraversalHelper.getStepsOfAssignableClassRecursively(BackStep.class, traversal.asAdmin()).stream()
+                .filter(step -> !step.getTraversal().equals(traversal.asAdmin())).findAny().get();
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), backStep.getKeepLabels());
+    }
+
+    @Test
+    public void shouldNotRetractLabelsWhenPathIsRequired() {
+        final Traversal traversal = __.as("a").out().select("a").path();
+        applyPathRetractionStrategy(traversal);
+        assertNull(TraversalHelper.getStepsOfClass(SelectOneStep.class, traversal.asAdmin()).get(0).getKeepLabels());
+        assertEquals(B_O_P_PA_S_SE_SL_TraverserGenerator.class, traversal.asAdmin().getTraverserGenerator().getClass());
+    }
+
+    @Test
+    public void shouldNotRetractLabelsWhenLambdasAccessThePath() {
+        final Traversal traversal = __.as("a").out().as("b").back("a").map(traverser -> traverser.path("b"));
+        applyPathRetractionStrategy(traversal);
+        assertNull(((PathLabelAccessor) TraversalHelper.getStepsOfClass(BackStep.class, traversal.asAdmin()).get(0)).getKeepLabels());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.graph.traversal.strategy;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.LocalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraverserRecycler;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_P_PA_S_SE_SL_Traverser;
+import org.apache.tinkerpop.gremlin.process.traverser.O_Traverser;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TraverserRecyclingStrategyTest {
+
+    private static void applyTraverserRecyclingStrategy(final Traversal traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(EngineDependentStrategy.instance(), TraverserRecyclingStrategy.instance());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    private static List<Boolean> getRecycleTraversers(final Traversal traversal) {
+        final List<Boolean> recycleTraversers = new ArrayList<>();
+        TraversalHelper.getStepsOfAssignableClass(TraverserRecycler.class, traversal.asAdmin())
+                .forEach(step -> recycleTraversers.add(step.getRecycleTraversers()));
+        return recycleTraversers;
+    }
+
+    @Test
+    public void shouldRecycleTraversersOfNestedMapAndFlatMapSteps() {
+        final Traversal traversal = __.out().local(__.outE().inV().id()).repeat((Traversal) __.out().out()).times(2).values("name").id();
+        applyTraverserRecyclingStrategy(traversal);
+        assertEquals(Arrays.asList(true, true, false), getRecycleTraversers(traversal));
+        final LocalStep<?, ?> localStep = TraversalHelper.getStepsOfClass(LocalStep.class, traversal.asAdmin()).get(0);
+        assertEquals(Arrays.asList(true, true, false), getRecycleTraversers(localStep.getLocalChildren().get(0)));
+        final RepeatStep<?> repeatStep = TraversalHelper.getStepsOfClass(RepeatStep.class, traversal.asAdmin()).get(0);
+        assertEquals(Arrays.asList(true, true), getRecycleTraversers(repeatStep.getGlobalChildren().get(0)));
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersOfTheEndStep() {
+        final Traversal traversal = __.out().out();
+        applyTraverserRecyclingStrategy(traversal);
+        assertEquals(Arrays.asList(true, false), getRecycleTraversers(traversal));
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersBeforeABarrier() {
+        final Traversal traversal = __.out().out().order().out().count();
+        applyTraverserRecyclingStrategy(traversal);
+        assertEquals(Arrays.asList(true, false, false), getRecycleTraversers(traversal));
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersBeforeASideEffect() {
+        for (final Traversal traversal : Arrays.<Traversal>asList(
+                __.out().out().store("x").out(),
+                __.out().out().aggregate("x").out(),
+                __.out().out().groupCount("x").out(),
+                __.out().out().tree("x").out())) {
+            applyTraverserRecyclingStrategy(traversal);
+            assertEquals(Arrays.asList(true, false, false), getRecycleTraversers(traversal));
+        }
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersBeforeADedupOrAPath() {
+        for (final Traversal traversal : Arrays.<Traversal>asList(
+                __.out().out().dedup().out(),
+                __.out().out().path().unfold())) {
+            applyTraverserRecyclingStrategy(traversal);
+            final List<Boolean> recycleTraversers = getRecycleTraversers(traversal);
+            assertEquals(Arrays.asList(true, false), recycleTraversers.subList(0, 2));
+        }
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersThatAreHandedToARetainingStepByTheirParent() {
+        final Traversal traversal = __.repeat((Traversal) __.out().out()).times(2).dedup();
+        applyTraverserRecyclingStrategy(traversal);
+        final RepeatStep<?> repeatStep = TraversalHelper.getStepsOfClass(RepeatStep.class, traversal.asAdmin()).get(0);
+        assertEquals(Arrays.asList(true, false), getRecycleTraversers(repeatStep.getGlobalChildren().get(0)));
+    }
+
+    @Test
+    public void shouldRecycleTraversersByDefault() {
+        final Traversal.Admin<?, ?> traversal = __.out().out().asAdmin();
+        traversal.setStrategies(TraversalStrategies.GlobalCache.getStrategies(Graph.class));
+        traversal.applyStrategies();
+        assertEquals(Arrays.asList(true, false), getRecycleTraversers(traversal));
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersWhenLambdasAccessTheTraverser() {
+        final Traversal traversal = __.out().local(__.filter(traverser -> true)).out();
+        applyTraverserRecyclingStrategy(traversal);
+        TraversalHelper.getStepsOfAssignableClassRecursively(TraverserRecycler.class, traversal.asAdmin())
+                .forEach(step -> assertFalse(((TraverserRecycler) step).getRecycleTraversers()));
+    }
+
+    @Test
+    public void shouldReuseTheTraverserWhenRecycled() {
+        final Traverser.Admin<String> traverser = new O_Traverser<>("marko");
+        final Traverser.Admin<Integer> recycled = traverser.recycle(5, (MapStep) TraversalHelper.getStepsOfAssignableClass(MapStep.class, __.id().asAdmin()).get(0));
+        assertSame(traverser, recycled);
+        assertEquals(5, recycled.get().intValue());
+    }
+
+    @Test
+    public void shouldNotAlterTheSplitPathsOfRecycledTraversers() {
+        final FlatMapStep step = TraversalHelper.getStepsOfAssignableClass(FlatMapStep.class, __.out().asAdmin()).get(0);
+        final Traverser.Admin<String> traverser = new B_O_P_PA_S_SE_SL_Traverser<>("marko", EmptyStep.instance());
+        final Traverser.Admin<String> split = traverser.split("josh", step);
+        final Traverser.Admin<String> recycled = traverser.recycle("vadas", step);
+        assertEquals(Arrays.asList("marko", "josh"), split.path().objects());
+        assertEquals(Arrays.asList("marko", "vadas"), recycled.path().objects());
+    }
+}
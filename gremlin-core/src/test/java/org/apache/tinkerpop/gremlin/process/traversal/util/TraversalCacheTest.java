@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.structure.Compare;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TraversalCacheTest {
+
+    private static Object getHasValue(final Traversal.Admin<?, ?> traversal) {
+        return ((HasStep<?>) TraversalHelper.getStepsOfClass(HasStep.class, traversal).get(0)).getHasContainers().get(0).value;
+    }
+
+    @Test
+    public void shouldRebindCloneOfTemplateOfSameShape() {
+        final TraversalCache cache = new TraversalCache();
+        final Traversal.Admin<?, ?> first = cache.compile(__.out("knows").has("name", "marko").asAdmin());
+        assertTrue(first.isLocked());
+        final Traversal.Admin<?, ?> second = cache.compile(__.out("knows").has("name", "stephen").asAdmin());
+        final Traversal.Admin<?, ?> third = cache.compile(__.out("knows").has("name", "josh").asAdmin());
+        assertTrue(second.isLocked());
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+        assertEquals("marko", getHasValue(first));
+        assertEquals("stephen", getHasValue(second));
+        assertEquals("josh", getHasValue(third));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldDistinguishParametersByType() {
+        final TraversalCache cache = new TraversalCache();
+        final List<Traversal<?, ?>> traversals = Arrays.asList(
+                __.is(1), __.is("1"), __.is(1l),
+                __.local(__.is(1)), __.local(__.is("1")),
+                __.has("age", 1), __.has("age", "1"), __.has("age", 1l));
+        for (final Traversal<?, ?> traversal : traversals) {
+            cache.compile(traversal.asAdmin());
+        }
+        assertEquals(traversals.size(), cache.size());
+        assertEquals(1, ((IsStep<?>) TraversalHelper.getStepsOfClass(IsStep.class, cache.compile(__.is(1).asAdmin())).get(0)).getValue());
+        assertEquals(2l, getHasValue(cache.compile(__.has("age", 2l).asAdmin())));
+        assertEquals(traversals.size(), cache.size());
+    }
+
+    @Test
+    public void shouldNotReuseTraversalOfDifferentShape() {
+        final TraversalCache cache = new TraversalCache();
+        cache.compile(__.out("knows").has("name", "marko").asAdmin());
+        cache.compile(__.out("created").has("name", "marko").asAdmin());
+        cache.compile(__.out("knows").has("age", Compare.gt, 30).asAdmin());
+        cache.compile(__.out("knows").has("name", "marko").as("a").asAdmin());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void shouldNotReuseTraversalWithLambdas() {
+        final TraversalCache cache = new TraversalCache();
+        final Traversal.Admin<?, ?> first = cache.compile(__.out().filter(traverser -> true).asAdmin());
+        assertTrue(first.isLocked());
+        cache.compile(__.out().local(__.map(traverser -> 1)).asAdmin());
+        cache.compile(__.out().values("name").order().by((a, b) -> 0).asAdmin());
+        cache.compile(__.out().has("name", (a, b) -> true, "marko").asAdmin());
+        cache.compile(__.out().is((a, b) -> true, 1).asAdmin());
+        cache.compile(__.out().values("age").fold(0, (a, b) -> a).asAdmin());
+        cache.compile(__.inject(1).asAdmin());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TraversalPublisherTest {
+
+    @Test
+    public void shouldOnlyIterateRequestedResults() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Object> results = new ArrayList<>();
+        final TraversalPublisher.Subscription[] subscription = new TraversalPublisher.Subscription[1];
+        final boolean[] complete = {false};
+        new TraversalPublisher<>(__.inject(1, 2, 3, 4, 5), tasks::add).subscribe(new TraversalPublisher.Subscriber<Object>() {
+            @Override
+            public void onSubscribe(final TraversalPublisher.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(final Object o) {
+                results.add(o);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                complete[0] = true;
+            }
+        });
+        assertTrue(tasks.isEmpty());
+        subscription[0].request(2);
+        subscription[0].request(1);
+        assertEquals(1, tasks.size()); // the second request is served by the scheduled iteration
+        tasks.remove(0).run();
+        assertEquals(Arrays.asList(1, 2, 3), results);
+        subscription[0].request(10);
+        tasks.remove(0).run();
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), results);
+        assertTrue(complete[0]);
+    }
+
+    @Test
+    public void shouldRequestMoreResultsFromSubscriber() throws Exception {
+        final BlockingQueue<Object> results = new ArrayBlockingQueue<>(10);
+        new TraversalPublisher<>(__.inject(1, 2, 3, 4, 5), Runnable::run).subscribe(new TraversalPublisher.Subscriber<Object>() {
+            private TraversalPublisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final TraversalPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final Object o) {
+                results.add(o);
+                this.subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                results.add(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                results.add("done");
+            }
+        });
+        final List<Object> drained = new ArrayList<>();
+        while (drained.size() < 6) {
+            drained.add(results.poll(1, TimeUnit.SECONDS));
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, "done"), drained);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_Traverser;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class ExternalTraverserSortTest {
+
+    private static final Comparator<Traverser<Integer>> COMPARATOR = (a, b) -> a.get().compareTo(b.get());
+
+    @Test
+    public void shouldSortLargeTraverserSetInParallel() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        final Random random = new Random();
+        for (int i = 0; i < TraverserSet.PARALLEL_SORT_THRESHOLD * 4; i++) {
+            traverserSet.add(new B_O_Traverser<>(random.nextInt(), 1l));
+        }
+        traverserSet.sort(COMPARATOR, true);
+        int last = Integer.MIN_VALUE;
+        for (final Traverser.Admin<Integer> traverser : traverserSet) {
+            assertFalse(traverser.get() < last);
+            last = traverser.get();
+        }
+    }
+
+    @Test
+    public void shouldMergeSpilledRunsInOrderAndRetainBulk() {
+        final ExternalTraverserSort<Integer> externalSort = new ExternalTraverserSort<>(COMPARATOR);
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        final Random random = new Random();
+        long totalBulk = 0l;
+        for (int i = 0; i < 10000; i++) {
+            final long bulk = random.nextInt(3) + 1;
+            totalBulk = totalBulk + bulk;
+            traverserSet.add(new B_O_Traverser<>(random.nextInt(5000), bulk));
+            if (traverserSet.size() >= 1000) {
+                traverserSet.sort(COMPARATOR);
+                externalSort.spill(traverserSet);
+                assertEquals(0, traverserSet.size());
+            }
+        }
+        traverserSet.sort(COMPARATOR);
+        assertTrue(externalSort.getRunCount() > 1);
+
+        final Iterator<Traverser.Admin<Integer>> iterator = externalSort.merge(traverserSet, EmptyTraversalSideEffects.instance(), null);
+        int last = Integer.MIN_VALUE;
+        long mergedBulk = 0l;
+        while (iterator.hasNext()) {
+            final Traverser.Admin<Integer> traverser = iterator.next();
+            assertFalse(traverser.get() < last);
+            last = traverser.get();
+            mergedBulk = mergedBulk + traverser.bulk();
+        }
+        assertEquals(totalBulk, mergedBulk);
+        assertEquals(0, externalSort.getRunCount());
+    }
+
+    @Test
+    public void shouldSpillOrderGlobalStepBeyondItsSpillThreshold() {
+        final Traversal traversal = __.inject((Object[]) IntStream.range(0, 1000).map(i -> 1000 - i).boxed().toArray(Integer[]::new)).order();
+        final OrderGlobalStep<Integer> orderGlobalStep = TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal.asAdmin()).get(0);
+        orderGlobalStep.setSpillThreshold(100);
+        final List<Integer> sorted = traversal.toList();
+        assertEquals(IntStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList()), sorted);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class PartialAggregateTest {
+
+    @Test
+    public void shouldAggregateWithBulk() {
+        final PartialAggregate<Number, Long> count = new PartialAggregate.CountAggregate<>();
+        final PartialAggregate<Number, Number> sum = new PartialAggregate.SumAggregate();
+        final PartialAggregate<Number, Number> min = new PartialAggregate.MinMaxAggregate(true);
+        final PartialAggregate<Number, Number> max = new PartialAggregate.MinMaxAggregate(false);
+        final PartialAggregate<Number, Double> mean = new PartialAggregate.MeanAggregate();
+        for (final PartialAggregate aggregate : new PartialAggregate[]{count, sum, min, max, mean}) {
+            aggregate.add(2, 3l);
+            aggregate.add(4, 1l);
+            aggregate.add(1, 4l);
+        }
+        assertEquals(8l, count.get().longValue());
+        assertEquals(14.0d, sum.get().doubleValue(), 0.0d);
+        assertEquals(1, min.get());
+        assertEquals(4, max.get());
+        assertEquals(1.75d, mean.get(), 0.0d);
+    }
+
+    @Test
+    public void shouldMergeAggregates() {
+        final PartialAggregate<Number, Double> meanA = new PartialAggregate.MeanAggregate();
+        final PartialAggregate<Number, Double> meanB = new PartialAggregate.MeanAggregate();
+        meanA.add(1, 2l);
+        meanB.add(4, 1l);
+        meanA.merge(meanB);
+        assertEquals(2.0d, meanA.get(), 0.0d);
+    }
+
+    @Test
+    public void shouldOnlyRetainValuesWithinRange() {
+        final PartialAggregate.RangeAggregate<String> range = new PartialAggregate.RangeAggregate<>(3l);
+        range.add("marko", 2l);
+        range.add("stephen", 1l);
+        range.add("josh", 1l);
+        range.add("marko", 1l);
+        assertTrue(range.requiresReduce());
+        assertEquals(2, range.get().uniqueSize());
+        assertFalse(range.get().contains("josh"));
+        assertEquals(3l, range.get().get("marko"));
+    }
+
+    @Test
+    public void shouldMergeSpilledPartitions() {
+        final PartitionedSpill<String, Object> spill = new PartitionedSpill<>(4);
+        final Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 100; j++) {
+                final PartialAggregate<Object, Long> count = new PartialAggregate.CountAggregate<>();
+                count.add(j, j);
+                map.put("key" + j, count);
+            }
+            spill.spill(map);
+            assertTrue(map.isEmpty());
+        }
+        assertTrue(spill.isSpilled());
+        final Map<String, Long> counts = new HashMap<>();
+        spill.forEachPartition((a, b) -> {
+            ((PartialAggregate) a).merge((PartialAggregate) b);
+            return a;
+        }, null, partition -> partition.forEach((key, count) -> counts.put(key, ((PartialAggregate<Object, Long>) count).get())));
+        assertEquals(100, counts.size());
+        for (int j = 0; j < 100; j++) {
+            assertEquals(j * 3l, counts.get("key" + j).longValue());
+        }
+        assertFalse(spill.isSpilled());
+    }
+
+    @Test
+    public void shouldSpillGroupBeyondItsSpillThreshold() {
+        final Traversal<Object, Map<Integer, Number>> traversal = __.inject((Object[]) IntStream.range(0, 1000).boxed().toArray(Integer[]::new))
+                .<Integer, Number>group().by(__.<Integer, Integer>map(t -> t.get() % 10)).by().by(__.unfold().sum());
+        final GroupStep groupStep = TraversalHelper.getStepsOfClass(GroupStep.class, traversal.asAdmin()).get(0);
+        groupStep.setSpillThreshold(50);
+        final Map<Integer, Number> sums = traversal.next();
+        assertEquals(10, sums.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(49500.0d + 100 * i, sums.get(i).doubleValue(), 0.0d);
+        }
+    }
+}
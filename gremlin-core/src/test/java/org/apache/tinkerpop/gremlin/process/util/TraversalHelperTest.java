@@ -20,20 +20,28 @@ package org.apache.tinkerpop.gremlin.process.util;
 
 import org.apache.tinkerpop.gremlin.process.Step;
 import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.Traverser;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.branch.LocalStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.filter.LambdaFilterStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.IdentityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalMatrix;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_Traverser;
 import org.apache.tinkerpop.gremlin.structure.PropertyType;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.apache.tinkerpop.gremlin.process.graph.traversal.__.*;
 import static org.junit.Assert.*;
 
@@ -87,6 +95,41 @@ public class TraversalHelperTest {
         validateToyTraversal(traversal);
     }
 
+    @Test
+    public void shouldDenselyIndexStepsOfNestedTraversalsWhenLocked() {
+        final Traversal.Admin<?, ?> traversal = __.out().union(__.out().in(), __.in()).local(__.outE().count()).asAdmin();
+        traversal.applyStrategies();
+        final List<Step> steps = TraversalHelper.getStepsOfAssignableClassRecursively(Step.class, traversal);
+        final Set<Integer> indices = new HashSet<>();
+        steps.forEach(step -> indices.add(step.getIndex()));
+        assertEquals(steps.size(), indices.size());
+        for (int i = 0; i < steps.size(); i++) {
+            assertTrue(indices.contains(i));
+        }
+        final TraversalMatrix<?, ?> matrix = new TraversalMatrix<>(traversal);
+        for (final Step step : steps) {
+            if (!(step.getTraversal().getParent() instanceof LocalStep)) {
+                assertSame(step, matrix.getStepByIndex(step.getIndex()));
+                assertSame(step, matrix.getStepById(step.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void shouldResolveDeprecatedStepIdsThroughTheTraversalMatrix() {
+        final Traversal.Admin<?, ?> traversal = __.out().union(__.out().in(), __.in()).asAdmin();
+        traversal.applyStrategies();
+        final TraversalMatrix<?, ?> matrix = new TraversalMatrix<>(traversal);
+        final Traverser.Admin<Object> traverser = new B_O_Traverser<>(new Object(), 1l);
+        final Step<?, ?> step = traversal.getSteps().get(1);
+        traverser.setStepId(step.getId(), matrix);
+        assertEquals(step.getIndex(), traverser.getStepIndex());
+        assertEquals(step.getId(), traverser.getStepId(matrix));
+        traverser.setStepId(Traverser.Admin.HALT, matrix);
+        assertTrue(traverser.isHalted());
+        assertEquals(Traverser.Admin.HALT, traverser.getStepId(matrix));
+    }
+
     private static void validateToyTraversal(final Traversal traversal) {
         assertEquals(traversal.asAdmin().getSteps().size(), 3);
 
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util.metric;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Bob Briody (http://bobbriody.com)
+ */
+public class MutableMetricsTest {
+
+    @Test
+    public void shouldOnlyTimeSampledCalls() {
+        final MutableMetrics metrics = new MutableMetrics("0", "step");
+        metrics.setSampleInterval(3);
+        for (int i = 0; i < 6; i++) {
+            metrics.start();
+            assertEquals(0 == i % 3, metrics.isTiming());
+            metrics.stop();
+            assertFalse(metrics.isTiming());
+        }
+    }
+
+    @Test
+    public void shouldExtrapolateSampledDurations() throws Exception {
+        final MutableMetrics metrics = new MutableMetrics("0", "step");
+        metrics.setSampleInterval(10);
+        metrics.start();
+        Thread.sleep(10);
+        metrics.stop();
+        assertTrue(metrics.getDuration(TimeUnit.MILLISECONDS) >= 100);
+    }
+
+    @Test
+    public void shouldNotMeasureThreadResourcesByDefault() {
+        final MutableMetrics metrics = new MutableMetrics("0", "step");
+        metrics.start();
+        metrics.stop();
+        assertFalse(metrics.getCounts().containsKey(TraversalMetrics.CPU_DURATION_ID));
+        assertFalse(metrics.getCounts().containsKey(TraversalMetrics.ALLOCATED_BYTES_ID));
+    }
+
+    @Test
+    public void shouldMeasureThreadResourcesWhenRequestedAndSupported() {
+        final MutableMetrics metrics = new MutableMetrics("0", "step");
+        metrics.setThreadResources(true);
+        metrics.start();
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i);
+        }
+        metrics.stop();
+        assertEquals(ThreadResources.isCpuTimeSupported(), metrics.getCounts().containsKey(TraversalMetrics.CPU_DURATION_ID));
+        assertEquals(ThreadResources.isAllocationSupported(), metrics.getCounts().containsKey(TraversalMetrics.ALLOCATED_BYTES_ID));
+        if (ThreadResources.isAllocationSupported())
+            assertTrue(metrics.getCount(TraversalMetrics.ALLOCATED_BYTES_ID) > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNonPositiveSampleInterval() {
+        new MutableMetrics("0", "step").setSampleInterval(0);
+    }
+}
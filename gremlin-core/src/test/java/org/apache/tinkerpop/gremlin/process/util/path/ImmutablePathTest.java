@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util.path;
+
+import org.apache.tinkerpop.gremlin.process.Path;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class ImmutablePathTest {
+
+    @Test
+    public void shouldShareSegmentsAndCompareByValue() {
+        final Path prefix = ImmutablePath.make().extend("marko", "a").extend("josh");
+        final Path pathA = prefix.extend("lop", "b");
+        final Path pathB = prefix.extend("lop", "b");
+        final Path pathC = ImmutablePath.make().extend("marko", "a").extend("josh").extend("lop", "b");
+        assertEquals(3, pathA.size());
+        assertEquals(pathA, pathB);
+        assertEquals(pathA, pathC);
+        assertEquals(pathA.hashCode(), pathC.hashCode());
+        assertNotEquals(pathA, prefix.extend("lop", "c"));
+        assertNotEquals(pathA, prefix.extend("ripple", "b"));
+        assertNotEquals(pathA, prefix);
+        assertEquals("josh", pathA.get(1));
+        assertEquals(Arrays.asList("marko", "josh", "lop"), pathA.objects());
+    }
+
+    @Test
+    public void shouldGetMultiLabeledObjectsInPathOrder() {
+        final Path path = ImmutablePath.make().extend("marko", "a").extend("stephen", "b").extend("matthias", "a", "c");
+        assertEquals(Arrays.asList("marko", "matthias"), path.get("a"));
+        assertEquals("stephen", path.get("b"));
+        assertTrue(path.hasLabel("c"));
+        assertFalse(path.hasLabel("d"));
+        assertTrue(path.labels().get(2).contains("a"));
+        assertTrue(path.labels().get(2).contains("c"));
+        assertTrue(path.labels().get(1).contains("b"));
+        assertTrue(path.isSimple());
+        assertFalse(path.extend("marko").isSimple());
+    }
+
+    @Test
+    public void shouldCompareLabelsInternedByDifferentHeads() {
+        final Path interned = ImmutablePath.make(Arrays.asList("a", "b")).extend("marko", "a").extend("josh", "b", "c");
+        final Path notInterned = ImmutablePath.make().extend("marko", "a").extend("josh", "b", "c");
+        assertEquals(interned, notInterned);
+        assertEquals(notInterned, interned);
+        assertEquals(interned.hashCode(), notInterned.hashCode());
+        assertEquals(interned.labels(), notInterned.labels());
+        assertEquals("josh", interned.get("c"));
+        assertNotEquals(interned, ImmutablePath.make().extend("marko", "a").extend("josh", "b"));
+        assertNotEquals(interned, ImmutablePath.make(Arrays.asList("a", "b")).extend("marko", "a").extend("josh", "c"));
+    }
+
+    @Test
+    public void shouldOnlyEqualImmutablePaths() {
+        final Path path = ImmutablePath.make().extend("marko", "a");
+        final Path mutablePath = MutablePath.make().extend("marko", "a");
+        assertNotEquals(path, mutablePath);
+        assertNotEquals(mutablePath, path);
+    }
+
+    @Test
+    public void shouldSerializeInternedAndOtherLabels() throws Exception {
+        final Path path = ImmutablePath.make(Arrays.asList("a")).extend("marko", "a").extend("josh", "b");
+        path.addLabel("c");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(path);
+        }
+        final Path read;
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (Path) inputStream.readObject();
+        }
+        assertEquals(path, read);
+        assertEquals("josh", read.get("c"));
+        final List<Object> objects = read.objects();
+        assertEquals(Arrays.asList("marko", "josh"), objects);
+    }
+}
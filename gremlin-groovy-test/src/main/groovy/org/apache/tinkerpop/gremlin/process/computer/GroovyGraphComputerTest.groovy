@@ -191,6 +191,24 @@ public abstract class GroovyGraphComputerTest {
                     .create());
         }
 
+        @Override
+        public GraphComputer get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(final int failIteration) {
+            g.getGraphComputer().get().program(LambdaVertexProgram.build().
+                    setup("gremlin-groovy", "a.set('total', 0l)").
+                    execute("gremlin-groovy", """
+                        if (c.getIteration() == ${failIteration})
+                            throw new IllegalStateException("The vertex program failed at iteration ${failIteration}");
+                        int counter = c.isInitialIteration() ? 1 : a.value('counter');
+                        b.receiveMessages(MessageScope.Global.instance()).each { counter = counter + it };
+                        a.property(VertexProperty.Cardinality.single, 'counter', counter);
+                        c.incr('total', counter);
+                        b.sendMessage(MessageScope.Global.of(a.vertices(Direction.OUT).toList()), counter);
+                    """).
+                    terminate("gremlin-groovy", "a.getIteration() == 4").
+                    elementComputeKeys("counter").
+                    memoryComputeKeys("total").create());
+        }
+
         @Override
         public GraphComputer get_g_compute_programXTraversalVertexProgram_build_traversalXg_V_both_hasXlabel_personX_age_groupCountXaXX_create() {
             g.getGraphComputer().get().program(TraversalVertexProgram.build().
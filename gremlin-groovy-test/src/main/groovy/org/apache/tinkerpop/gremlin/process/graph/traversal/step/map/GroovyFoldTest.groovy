@@ -40,6 +40,11 @@ public abstract class GroovyFoldTest {
             g.V.fold
         }
 
+        @Override
+        public Traversal<Vertex, List<Vertex>> get_g_V_outXknowsX_fold() {
+            g.V.out('knows').fold
+        }
+
         @Override
         public Traversal<Vertex, Vertex> get_g_V_fold_unfold() {
             g.V.fold.unfold
@@ -58,6 +63,11 @@ public abstract class GroovyFoldTest {
             ComputerTestHelper.compute("g.V.fold", g)
         }
 
+        @Override
+        public Traversal<Vertex, List<Vertex>> get_g_V_outXknowsX_fold() {
+            ComputerTestHelper.compute("g.V.out('knows').fold", g)
+        }
+
         @Override
         @Test
         @org.junit.Ignore("Traversal not supported by ComputerTraversalEngine.computer")
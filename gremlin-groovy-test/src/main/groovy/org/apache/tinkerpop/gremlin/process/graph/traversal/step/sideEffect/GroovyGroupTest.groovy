@@ -40,6 +40,11 @@ public abstract class GroovyGroupTest {
             g.V.group('a').by('name').cap('a')
         }
 
+        @Override
+        public Traversal<Vertex, Map<String, Collection<Vertex>>> get_g_V_group_byXlabelX() {
+            g.V.group.by(T.label)
+        }
+
         @Override
         public Traversal<Vertex, Map<String, Collection<String>>> get_g_V_hasXlangX_groupXaX_byXlangX_byXnameX_out_capXaX() {
             g.V.has('lang').group('a').by('lang').by('name').out.cap('a')
@@ -74,6 +79,11 @@ public abstract class GroovyGroupTest {
             ComputerTestHelper.compute("g.V.group('a').by('name').cap('a')", g)
         }
 
+        @Override
+        public Traversal<Vertex, Map<String, Collection<Vertex>>> get_g_V_group_byXlabelX() {
+            ComputerTestHelper.compute("g.V.group.by(T.label)", g)
+        }
+
         @Override
         public Traversal<Vertex, Map<String, Collection<String>>> get_g_V_hasXlangX_groupXaX_byXlangX_byXnameX_out_capXaX() {
             ComputerTestHelper.compute("g.V.has('lang').group('a').by('lang').by('name').out.cap('a')", g)
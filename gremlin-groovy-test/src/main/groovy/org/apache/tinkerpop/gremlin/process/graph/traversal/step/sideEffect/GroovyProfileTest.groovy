@@ -41,6 +41,16 @@ public abstract class GroovyProfileTest {
             g.V.out.out.profile();
         }
 
+        @Override
+        Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX2X() {
+            g.V.out.out.profile(2);
+        }
+
+        @Override
+        Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX1_trueX() {
+            g.V.out.out.profile(1, true);
+        }
+
         @Override
         public Traversal<Vertex, StandardTraversalMetrics> get_g_V_repeat_both_profile() {
             g.V.repeat(__.both()).times(3).profile();
@@ -70,6 +80,15 @@ public abstract class GroovyProfileTest {
             ComputerTestHelper.compute("g.V.out.out.profile()", g);
         }
 
+        @Override
+        Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX2X() {
+            ComputerTestHelper.compute("g.V.out.out.profile(2)", g);
+        }
+
+        @Override
+        Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX1_trueX() {
+            ComputerTestHelper.compute("g.V.out.out.profile(1, true)", g);
+        }
 
         @Override
         public Traversal<Vertex, StandardTraversalMetrics> get_g_V_repeat_both_profile() {
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import org.apache.tinkerpop.gremlin.process.T;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPublisher;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
@@ -46,6 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -72,6 +74,12 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
             T.label.getAccessor(), T.value.getAccessor());
     private static final String invalidBindingKeysJoined = String.join(",", invalidBindingsKeys);
 
+    /**
+     * Extending classes written against the synchronous {@link #handleIterator(Context, Iterator)} keep having it
+     * called.
+     */
+    private final boolean overridesHandleIterator = overridesHandleIterator(getClass());
+
     /**
      * Provides an operation for evaluating a Gremlin script.
      */
@@ -150,17 +158,13 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
             return null;
         });
 
-        final CompletableFuture<Void> iterationFuture = evalFuture.thenAcceptAsync(o -> {
+        final CompletableFuture<Void> iterationFuture = evalFuture.thenCompose(o -> {
             final Iterator itty = IteratorUtils.asIterator(o);
 
             logger.info("Preparing to iterate results from - {} - in thread [{}]", msg, Thread.currentThread().getName());
 
-            try {
-                handleIterator(context, itty);
-            } catch (TimeoutException te) {
-                throw new RuntimeException(te);
-            }
-        }, executor);
+            return handleIterator(context, itty, executor);
+        });
 
         iterationFuture.handleAsync((r, ex) -> {
             // iteration has completed
@@ -184,15 +188,61 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
     }
 
     /**
-     * Called by {@link #evalOpInternal} when iterating a result set. Implementers should respect the
-     * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
+     * Called by {@link #evalOpInternal} when iterating a result set. The results are pulled from the iterator in
+     * batches by way of a {@link TraversalPublisher} such that the next batch is only iterated once the previous batch
+     * has been written to the client. No thread is held while a batch is being written, but consecutive batches may
+     * be iterated by different threads of the executor. When {@link #requiresThreadAffinity} is {@code true} or when
+     * an extending class overrides the deprecated {@link #handleIterator(Context, Iterator)}, the results are instead
+     * iterated by that method on a single thread of the executor. Implementers should respect the
+     * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if it begins
+     * to take too long to do so, completing the returned future with a {@link java.util.concurrent.TimeoutException}
+     * in such cases.
+     *
+     * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
+     * @param itty The result to iterator
+     * @param executor The executor to iterate the results on
+     * @return a future that is completed once all the results have been written
+     */
+    protected CompletableFuture<Void> handleIterator(final Context context, final Iterator itty, final Executor executor) {
+        if (this.overridesHandleIterator || requiresThreadAffinity(context)) {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    handleIterator(context, itty);
+                } catch (TimeoutException te) {
+                    throw new RuntimeException(te);
+                }
+            }, executor);
+        }
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        new TraversalPublisher<Object>(itty, executor).subscribe(new ResponseSubscriber(context, future));
+        return future;
+    }
+
+    /**
+     * Determines if the results of a request must be iterated by a single thread.  By default, this is the case when
+     * any of the configured graphs supports transactions as transactions (e.g. those of Neo4j) are typically bound to
+     * the thread that opened them.
+     *
+     * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
+     */
+    protected boolean requiresThreadAffinity(final Context context) {
+        return context.getGraphs().getGraphs().values().stream().anyMatch(g -> g.features().graph().supportsTransactions());
+    }
+
+    /**
+     * Called by {@link #handleIterator(Context, Iterator, Executor)} when the results must be iterated by a single
+     * thread. The results are iterated and written in batches while holding the calling thread. Implementers should
+     * respect the {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
      * it begins to take too long to do so, throwing a {@link java.util.concurrent.TimeoutException} in such
      * cases.
      *
      * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
      * @param itty The result to iterator
      * @throws TimeoutException if the time taken to serialize the entire result set exceeds the allowable time.
+     * @deprecated As of release 3.0.0, replaced by {@link #handleIterator(Context, Iterator, Executor)}.
      */
+    @Deprecated
     protected void handleIterator(final Context context, final Iterator itty) throws TimeoutException {
         final ChannelHandlerContext ctx = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
@@ -226,4 +276,93 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
 
         stopWatch.stop();
     }
+
+    private static boolean overridesHandleIterator(final Class<?> clazz) {
+        for (Class<?> c = clazz; !c.equals(AbstractEvalOpProcessor.class); c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("handleIterator", Context.class, Iterator.class);
+                return true;
+            } catch (NoSuchMethodException nsme) {
+                // keep looking up the hierarchy
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes pages of results to the client and requests the next page when the previous page has been written.
+     */
+    private static final class ResponseSubscriber implements TraversalPublisher.Subscriber<Object> {
+
+        private final ChannelHandlerContext ctx;
+        private final RequestMessage msg;
+        private final Settings settings;
+        private final CompletableFuture<Void> future;
+        private final int resultIterationBatchSize;
+
+        // timer for the total serialization time
+        private final StopWatch stopWatch = new StopWatch();
+        private TraversalPublisher.Subscription subscription;
+        private List<Object> aggregate;
+
+        private ResponseSubscriber(final Context context, final CompletableFuture<Void> future) {
+            this.ctx = context.getChannelHandlerContext();
+            this.msg = context.getRequestMessage();
+            this.settings = context.getSettings();
+            this.future = future;
+            // the batch size can be overridden by the request
+            this.resultIterationBatchSize = (Integer) this.msg.optionalArgs(Tokens.ARGS_BATCH_SIZE).orElse(this.settings.resultIterationBatchSize);
+            this.aggregate = new ArrayList<>(this.resultIterationBatchSize);
+        }
+
+        @Override
+        public void onSubscribe(final TraversalPublisher.Subscription subscription) {
+            this.subscription = subscription;
+            this.stopWatch.start();
+            subscription.request(this.resultIterationBatchSize);
+        }
+
+        @Override
+        public void onNext(final Object result) {
+            this.aggregate.add(result);
+
+            // send back a page of results if batch size is met and request the next page once it is written
+            if (this.aggregate.size() == this.resultIterationBatchSize) {
+                this.ctx.writeAndFlush(ResponseMessage.build(this.msg)
+                        .code(ResponseStatusCode.SUCCESS)
+                        .result(this.aggregate).create()).addListener(f -> {
+                    if (f.isSuccess())
+                        this.subscription.request(this.resultIterationBatchSize);
+                    else
+                        this.fail(f.cause());
+                });
+                this.aggregate = new ArrayList<>(this.resultIterationBatchSize);
+            }
+
+            if (this.stopWatch.getTime() > this.settings.serializedResponseTimeout)
+                this.fail(new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting"));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            // send back the remaining results as the last page
+            if (!this.aggregate.isEmpty()) {
+                this.ctx.writeAndFlush(ResponseMessage.build(this.msg)
+                        .code(ResponseStatusCode.SUCCESS)
+                        .result(this.aggregate).create());
+            }
+            this.stopWatch.stop();
+            this.future.complete(null);
+        }
+
+        private void fail(final Throwable throwable) {
+            this.subscription.cancel();
+            this.future.completeExceptionally(throwable);
+        }
+    }
 }
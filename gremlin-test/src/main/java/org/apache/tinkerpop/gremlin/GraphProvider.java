@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversalSource
 import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_PA_S_SE_SL_Traverser;
+import org.apache.tinkerpop.gremlin.process.traverser.B_O_LP_PA_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_P_PA_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traverser.B_O_Traverser;
 import org.apache.tinkerpop.gremlin.process.traverser.O_Traverser;
@@ -73,6 +74,7 @@ public interface GraphProvider {
         add(GraphTraversalSource.class);
         add(B_O_PA_S_SE_SL_Traverser.class);
         add(B_O_P_PA_S_SE_SL_Traverser.class);
+        add(B_O_LP_PA_S_SE_SL_Traverser.class);
         add(B_O_Traverser.class);
         add(O_Traverser.class);
     }};
@@ -255,6 +257,7 @@ public interface GraphProvider {
      * <li>{@link Graph.Variables}</li>
      * <li>{@link GraphTraversal}</li>
      * <li>{@link org.apache.tinkerpop.gremlin.process.traverser.B_O_P_PA_S_SE_SL_Traverser}</li>
+     * <li>{@link org.apache.tinkerpop.gremlin.process.traverser.B_O_LP_PA_S_SE_SL_Traverser}</li>
      * <li>{@link Property}</li>
      * <li>{@link org.apache.tinkerpop.gremlin.process.traverser.B_O_PA_S_SE_SL_Traverser}</li>
      * <li>{@link Traversal}</li>
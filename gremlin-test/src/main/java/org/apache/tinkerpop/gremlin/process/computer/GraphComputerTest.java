@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.process.computer;
 
 import org.apache.tinkerpop.gremlin.ExceptionCoverage;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.UseEngine;
@@ -27,7 +28,9 @@ import org.apache.tinkerpop.gremlin.process.computer.lambda.LambdaMapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.lambda.LambdaVertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.StreamFactory;
@@ -37,9 +40,11 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
@@ -86,6 +91,8 @@ public abstract class GraphComputerTest extends AbstractGremlinProcessTest {
 
     public abstract GraphComputer get_g_compute_programXTraversalVertexProgram_build_traversalXg_V_both_hasXlabel_personX_age_groupCountXaXX_create();
 
+    public abstract GraphComputer get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(final int failIteration);
+
     @Test
     @LoadGraphWith(MODERN)
     public void shouldHaveStandardStringRepresentation() {
@@ -127,6 +134,59 @@ public abstract class GraphComputerTest extends AbstractGremlinProcessTest {
         assertEquals(StringFactory.graphComputerString(computer), computer.toString());
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldFailIfCheckpointIsNotSupportedOrNotValid() {
+        final GraphComputer computer = get_g_compute();
+        final String location = System.getProperty("java.io.tmpdir");
+        if (!computer.features().supportsCheckpoints()) {
+            try {
+                computer.checkpoint(location, 1);
+                fail("GraphComputer.checkpoint() should throw an exception if checkpoints are not supported");
+            } catch (Exception ex) {
+                validateException(GraphComputer.Exceptions.checkpointsNotSupported(), ex);
+            }
+        } else {
+            try {
+                computer.checkpoint(location, 0);
+                fail("GraphComputer.checkpoint() should throw an exception if the number of iterations is not positive");
+            } catch (Exception ex) {
+                validateException(GraphComputer.Exceptions.checkpointIterationsMustBePositive(0), ex);
+            }
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldResumeFromCheckpoint() throws Exception {
+        if (!get_g_compute().features().supportsCheckpoints())
+            return;
+
+        // a computation that is never interrupted
+        final ComputerResult expected = get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(-1).submit().get();
+
+        // a computation that fails at iteration 3 after it checkpointed every iteration
+        final String location = TestHelper.makeTestDataPath(GraphComputerTest.class, "checkpoint-" + graph.getClass().getSimpleName()).getAbsolutePath();
+        try {
+            get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(3).checkpoint(location, 1).submit().get();
+            fail("The vertex program should have failed at iteration 3");
+        } catch (ExecutionException ex) {
+            // the computation was interrupted
+        }
+
+        // the resumed computation fails if it executes the initial iteration rather than resuming from iteration 3
+        final ComputerResult resumed = get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(0).checkpoint(location, 1).submit().get();
+
+        assertEquals(expected.memory().getIteration(), resumed.memory().getIteration());
+        assertEquals(expected.memory().<Long>get("total"), resumed.memory().<Long>get("total"));
+        final Map<Object, Integer> expectedCounters = new HashMap<>();
+        expected.graph().traversal().V().forEachRemaining(v -> expectedCounters.put(v.id(), v.<Integer>value("counter")));
+        final Map<Object, Integer> resumedCounters = new HashMap<>();
+        resumed.graph().traversal().V().forEachRemaining(v -> resumedCounters.put(v.id(), v.<Integer>value("counter")));
+        assertEquals(6, expectedCounters.size());
+        assertEquals(expectedCounters, resumedCounters);
+    }
+
     @Test
     @LoadGraphWith(MODERN)
     public void shouldNotAllowBadGraphComputers() {
@@ -487,6 +547,28 @@ public abstract class GraphComputerTest extends AbstractGremlinProcessTest {
                     .create());
         }
 
+        @Override
+        public GraphComputer get_g_compute_setupXtotalX_executeXcounter_sumXmessagesX_failXiterationXX_terminateX4X_elementKeysXcounterX_memoryKeysXtotalX(final int failIteration) {
+            return graph.compute().program(LambdaVertexProgram.build().
+                    setup(memory -> memory.set("total", 0l)).
+                    execute((vertex, messenger, memory) -> {
+                        if (memory.getIteration() == failIteration)
+                            throw new IllegalStateException("The vertex program failed at iteration " + failIteration);
+                        int counter = memory.isInitialIteration() ? 1 : vertex.<Integer>value("counter");
+                        for (final Object message : messenger.receiveMessages(MessageScope.Global.instance())) {
+                            counter = counter + (Integer) message;
+                        }
+                        vertex.property(VertexProperty.Cardinality.single, "counter", counter);
+                        memory.incr("total", counter);
+                        final List<Vertex> adjacentVertices = new ArrayList<>();
+                        vertex.vertices(Direction.OUT).forEachRemaining(adjacentVertices::add);
+                        messenger.sendMessage(MessageScope.Global.of(adjacentVertices), counter);
+                    }).
+                    terminate(memory -> memory.getIteration() == 4).
+                    elementComputeKeys("counter").
+                    memoryComputeKeys("total").create());
+        }
+
         @Override
         public GraphComputer get_g_compute_programXTraversalVertexProgram_build_traversalXg_V_both_hasXlabel_personX_age_groupCountXaXX_create() {
             /*return graph.compute().program(TraversalVertexProgram.build().
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.structure.Operator;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -45,6 +46,8 @@ public abstract class FoldTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, List<Vertex>> get_g_V_fold();
 
+    public abstract Traversal<Vertex, List<Vertex>> get_g_V_outXknowsX_fold();
+
     public abstract Traversal<Vertex, Vertex> get_g_V_fold_unfold();
 
     public abstract Traversal<Vertex, Integer> get_g_V_age_foldX0_plusX();
@@ -60,6 +63,19 @@ public abstract class FoldTest extends AbstractGremlinProcessTest {
         assertEquals(6, vertices.size());
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_outXknowsX_fold() {
+        final Traversal<Vertex, List<Vertex>> traversal = get_g_V_outXknowsX_fold();
+        printTraversalForm(traversal);
+        final List<Vertex> list = traversal.next();
+        assertFalse(traversal.hasNext());
+        assertEquals(2, list.size());
+        final Set<Object> ids = new HashSet<>();
+        list.forEach(v -> ids.add(v.id()));
+        assertEquals(new HashSet<>(Arrays.asList(convertToVertexId("vadas"), convertToVertexId("josh"))), ids);
+    }
+
     @Test
     @LoadGraphWith(MODERN)
     @IgnoreEngine(TraversalEngine.Type.COMPUTER)
@@ -96,6 +112,11 @@ public abstract class FoldTest extends AbstractGremlinProcessTest {
             return g.V().fold();
         }
 
+        @Override
+        public Traversal<Vertex, List<Vertex>> get_g_V_outXknowsX_fold() {
+            return g.V().out("knows").fold();
+        }
+
         @Override
         public Traversal<Vertex, Vertex> get_g_V_fold_unfold() {
             return g.V().fold().unfold();
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.Bindings;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.CrossJoinEnumerator;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.Enumerator;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.HashJoinEnumerator;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.InnerJoinEnumerator;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.IteratorEnumerator;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.match.MatchStep;
@@ -648,6 +649,78 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
                 new Bindings<String>().put("letter", "c").put("number", "4"));
     }
 
+    @Test
+    public void testHashJoin() throws Exception {
+        String[] a1 = new String[]{"a", "b", "c"};
+        String[] a2 = new String[]{"1", "2", "3", "4"};
+        String[] a3 = new String[]{"2", "4", "6", "8", "10"};
+
+        Enumerator<String> e1 = new IteratorEnumerator<>("letter", Arrays.asList(a1).iterator());
+        Enumerator<String> e2 = new IteratorEnumerator<>("number", Arrays.asList(a2).iterator());
+        Enumerator<String> e3 = new IteratorEnumerator<>("number", Arrays.asList(a3).iterator());
+        Enumerator<String> e4 = new CrossJoinEnumerator<>(e1, e3);
+
+        Set<String> shared = new HashSet<String>() {{
+            add("number");
+        }};
+
+        // the same six solutions as the inner join, whichever side the hash table is built from
+        Enumerator<String> join = new HashJoinEnumerator<>(e2, e4, shared);
+        assertEquals(6, exhaust(join));
+        assertEquals(6, join.size());
+        assertResults(join,
+                new Bindings<String>().put("letter", "a").put("number", "2"),
+                new Bindings<String>().put("letter", "a").put("number", "4"),
+                new Bindings<String>().put("letter", "b").put("number", "2"),
+                new Bindings<String>().put("letter", "b").put("number", "4"),
+                new Bindings<String>().put("letter", "c").put("number", "2"),
+                new Bindings<String>().put("letter", "c").put("number", "4"));
+
+        join = new HashJoinEnumerator<>(e4, e2, shared);
+        assertEquals(6, exhaust(join));
+        assertResults(join,
+                new Bindings<String>().put("letter", "a").put("number", "2"),
+                new Bindings<String>().put("letter", "a").put("number", "4"),
+                new Bindings<String>().put("letter", "b").put("number", "2"),
+                new Bindings<String>().put("letter", "b").put("number", "4"),
+                new Bindings<String>().put("letter", "c").put("number", "2"),
+                new Bindings<String>().put("letter", "c").put("number", "4"));
+
+        // nothing joins with an empty side
+        Enumerator<String> empty = new IteratorEnumerator<>("number", Collections.<String>emptyList().iterator());
+        assertEquals(0, exhaust(new HashJoinEnumerator<>(empty, e4, shared)));
+        assertEquals(0, exhaust(new HashJoinEnumerator<>(e4, empty, shared)));
+    }
+
+    @Test
+    public void testJoinChoosesEnumeratorByCardinality() throws Exception {
+        Enumerator<String> e1 = new IteratorEnumerator<>("letter", Arrays.asList("a", "b", "c").iterator());
+        Enumerator<String> e2 = new IteratorEnumerator<>("number", Arrays.asList("1", "2", "3", "4").iterator());
+        Enumerator<String> e3 = new IteratorEnumerator<>("number", Arrays.asList("2", "4", "6", "8", "10").iterator());
+        Set<String> letter = new HashSet<>(Arrays.asList("letter"));
+        Set<String> number = new HashSet<>(Arrays.asList("number"));
+        Set<String> letterAndNumber = new HashSet<>(Arrays.asList("letter", "number"));
+
+        // no shared variables
+        assertTrue(MatchStep.join(e1, e2, letter, number, 3.0, 4.0) instanceof CrossJoinEnumerator);
+        // left*right <= left+right
+        assertTrue(MatchStep.join(e2, e3, number, number, 1.0, 1.0) instanceof InnerJoinEnumerator);
+        assertTrue(MatchStep.join(e2, e3, number, number, 2.0, 2.0) instanceof InnerJoinEnumerator);
+        assertTrue(MatchStep.join(e2, e3, number, number, 1.0, 1000.0) instanceof InnerJoinEnumerator);
+        // left*right > left+right
+        assertTrue(MatchStep.join(e2, e3, number, number, 2.0, 3.0) instanceof HashJoinEnumerator);
+        assertTrue(MatchStep.join(e2, e3, number, letterAndNumber, 4.0, 15.0) instanceof HashJoinEnumerator);
+
+        // both strategies agree on the solutions
+        Enumerator<String> hashJoin = MatchStep.join(e2, new CrossJoinEnumerator<>(e1, e3), number, letterAndNumber, 4.0, 15.0);
+        Enumerator<String> innerJoin = MatchStep.join(e2, new CrossJoinEnumerator<>(e1, e3), number, letterAndNumber, 1.0, 1.0);
+        assertTrue(hashJoin instanceof HashJoinEnumerator);
+        assertTrue(innerJoin instanceof InnerJoinEnumerator);
+        assertEquals(6, exhaust(hashJoin));
+        assertEquals(6, exhaust(innerJoin));
+        assertResults(hashJoin, toBindings(innerJoin).toArray(new Bindings[6]));
+    }
+
     @UseEngine(TraversalEngine.Type.STANDARD)
     public static class Traversals extends MatchTest {
         @Override
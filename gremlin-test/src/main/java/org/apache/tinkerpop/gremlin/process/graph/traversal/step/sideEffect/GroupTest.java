@@ -39,6 +39,8 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, Map<String, Collection<Vertex>>> get_g_V_groupXaX_byXnameX_capXaX();
 
+    public abstract Traversal<Vertex, Map<String, Collection<Vertex>>> get_g_V_group_byXlabelX();
+
     public abstract Traversal<Vertex, Map<String, Collection<String>>> get_g_V_hasXlangX_groupXaX_byXlangX_byXnameX_out_capXaX();
 
     public abstract Traversal<Vertex, Map<String, Long>> get_g_V_hasXlangX_group_byXlangX_byX1X_byXcountXlocalXX();
@@ -62,6 +64,24 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
         });
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_group_byXlabelX() {
+        final Traversal<Vertex, Map<String, Collection<Vertex>>> traversal = get_g_V_group_byXlabelX();
+        printTraversalForm(traversal);
+        final Map<String, Collection<Vertex>> map = traversal.next();
+        assertEquals(2, map.size());
+        final Set<Object> people = new HashSet<>();
+        map.get("person").forEach(v -> people.add(v.id()));
+        assertEquals(4, map.get("person").size());
+        assertEquals(new HashSet<>(Arrays.asList(convertToVertexId("marko"), convertToVertexId("vadas"), convertToVertexId("josh"), convertToVertexId("peter"))), people);
+        final Set<Object> software = new HashSet<>();
+        map.get("software").forEach(v -> software.add(v.id()));
+        assertEquals(2, map.get("software").size());
+        assertEquals(new HashSet<>(Arrays.asList(convertToVertexId("lop"), convertToVertexId("ripple"))), software);
+        assertFalse(traversal.hasNext());
+    }
+
     @Test
     @LoadGraphWith(MODERN)
     public void g_V_hasXlangX_groupXaX_byXlangX_byXnameX_out_capXaX() {
@@ -148,6 +168,11 @@ public abstract class GroupTest extends AbstractGremlinProcessTest {
             return g.V().<String, Collection<Vertex>>group("a").by("name").cap("a");
         }
 
+        @Override
+        public Traversal<Vertex, Map<String, Collection<Vertex>>> get_g_V_group_byXlabelX() {
+            return g.V().<String, Collection<Vertex>>group().by(T.label);
+        }
+
         @Override
         public Traversal<Vertex, Map<String, Collection<String>>> get_g_V_hasXlangX_groupXaX_byXlangX_byXnameX_out_capXaX() {
             return g.V().has("lang").group("a").by("lang").by("name").out().cap("a");
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.process.*;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.__;
 import org.apache.tinkerpop.gremlin.process.util.metric.Metrics;
 import org.apache.tinkerpop.gremlin.process.util.metric.StandardTraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.util.metric.ThreadResources;
 import org.apache.tinkerpop.gremlin.process.util.metric.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
@@ -42,6 +43,10 @@ import static org.junit.Assert.*;
 public abstract class ProfileTest extends AbstractGremlinProcessTest {
     public abstract Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profile();
 
+    public abstract Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX2X();
+
+    public abstract Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX1_trueX();
+
     public abstract Traversal<Vertex, StandardTraversalMetrics> get_g_V_repeat_both_profile();
 
     public abstract Traversal<Vertex, StandardTraversalMetrics> get_g_V_sleep_sleep_profile();
@@ -120,6 +125,56 @@ public abstract class ProfileTest extends AbstractGremlinProcessTest {
         assertEquals(100, totalPercentDuration, 0.000001);
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_out_profileX2X() {
+        final Traversal<Vertex, StandardTraversalMetrics> traversal = get_g_V_out_out_profileX2X();
+        printTraversalForm(traversal);
+
+        traversal.iterate();
+
+        final TraversalMetrics traversalMetrics = traversal.asAdmin().getSideEffects().get(TraversalMetrics.METRICS_KEY);
+        traversalMetrics.toString(); // ensure no exceptions are thrown
+
+        // only the timings are sampled, the counts are exact
+        Metrics metrics = traversalMetrics.getMetrics(0);
+        assertEquals(6, metrics.getCount(TraversalMetrics.TRAVERSER_COUNT_ID));
+        assertEquals(6, metrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+        assertFalse(metrics.getCounts().containsKey(TraversalMetrics.CPU_DURATION_ID));
+        assertFalse(metrics.getCounts().containsKey(TraversalMetrics.ALLOCATED_BYTES_ID));
+
+        metrics = traversalMetrics.getMetrics(1);
+        assertEquals(6, metrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+
+        metrics = traversalMetrics.getMetrics(2);
+        assertEquals(2, metrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+
+        double totalPercentDuration = 0;
+        for (Metrics m : traversalMetrics.getMetrics()) {
+            totalPercentDuration += (Double) m.getAnnotation(TraversalMetrics.PERCENT_DURATION_KEY);
+        }
+        assertEquals(100, totalPercentDuration, 0.000001);
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_out_out_profileX1_trueX() {
+        final Traversal<Vertex, StandardTraversalMetrics> traversal = get_g_V_out_out_profileX1_trueX();
+        printTraversalForm(traversal);
+
+        traversal.iterate();
+
+        final TraversalMetrics traversalMetrics = traversal.asAdmin().getSideEffects().get(TraversalMetrics.METRICS_KEY);
+        traversalMetrics.toString(); // ensure no exceptions are thrown
+
+        assertEquals(3, traversalMetrics.getMetrics().size());
+        for (Metrics metrics : traversalMetrics.getMetrics()) {
+            assertEquals(ThreadResources.isCpuTimeSupported(), metrics.getCounts().containsKey(TraversalMetrics.CPU_DURATION_ID));
+            assertEquals(ThreadResources.isAllocationSupported(), metrics.getCounts().containsKey(TraversalMetrics.ALLOCATED_BYTES_ID));
+        }
+        assertEquals(2, traversalMetrics.getMetrics(2).getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+    }
+
     @Test
     @LoadGraphWith(MODERN)
     @IgnoreEngine(TraversalEngine.Type.COMPUTER)
@@ -235,6 +290,16 @@ public abstract class ProfileTest extends AbstractGremlinProcessTest {
             return (Traversal) g.V().out().out().profile();
         }
 
+        @Override
+        public Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX2X() {
+            return (Traversal) g.V().out().out().profile(2);
+        }
+
+        @Override
+        public Traversal<Vertex, StandardTraversalMetrics> get_g_V_out_out_profileX1_trueX() {
+            return (Traversal) g.V().out().out().profile(1, true);
+        }
+
         @Override
         public Traversal<Vertex, StandardTraversalMetrics> get_g_V_repeat_both_profile() {
             return (Traversal) g.V().repeat(both()).times(3).profile();
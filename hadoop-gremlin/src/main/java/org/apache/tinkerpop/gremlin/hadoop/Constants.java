@@ -48,6 +48,7 @@ public class Constants {
     public static final String GREMLIN_HADOOP_MAP_REDUCE_CLASS = "gremlin.hadoop.mapReduceClass";
     public static final String GREMLIN_HADOOP_HALT = "gremlin.hadoop.halt";
     public static final String MAP_MEMORY = "gremlin.hadoop.mapMemory";
+    public static final String GREMLIN_HADOOP_SPARK_PARTITIONER = "gremlin.hadoop.sparkPartitioner";
 
     public static final String MAPRED_INPUT_DIR = "mapred.input.dir";
 
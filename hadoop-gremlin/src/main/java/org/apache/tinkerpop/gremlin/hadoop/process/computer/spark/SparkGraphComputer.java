@@ -25,6 +25,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.spark.Partitioner;
 import org.apache.spark.SparkConf;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.JavaSparkContext;
@@ -53,6 +54,7 @@ import scala.Tuple2;
 
 import java.io.File;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -70,6 +72,8 @@ public final class SparkGraphComputer implements GraphComputer {
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private VertexProgram vertexProgram;
+    private String checkpointLocation = null;
+    private int checkpointIterations = 0;
 
     public SparkGraphComputer(final HadoopGraph hadoopGraph) {
         this.hadoopGraph = hadoopGraph;
@@ -94,6 +98,15 @@ public final class SparkGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer checkpoint(final String location, final int iterations) {
+        if (iterations <= 0)
+            throw GraphComputer.Exceptions.checkpointIterationsMustBePositive(iterations);
+        this.checkpointLocation = location;
+        this.checkpointIterations = iterations;
+        return this;
+    }
+
     @Override
     public String toString() {
         return StringFactory.graphComputerString(this);
@@ -147,7 +160,17 @@ public final class SparkGraphComputer implements GraphComputer {
                         if (null != this.vertexProgram) {
                             // set up the vertex program and wire up configurations
                             memory = new SparkMemory(this.vertexProgram, this.mapReducers, sparkContext);
-                            this.vertexProgram.setup(memory);
+                            // resume from the checkpoint of a previous submission if one exists
+                            final Optional<JavaPairRDD<Object, SparkPayload<Object>>> checkpointRDD = null == this.checkpointLocation ?
+                                    Optional.empty() :
+                                    SparkHelper.loadCheckpoint(sparkContext, memory, this.checkpointLocation, hadoopConfiguration);
+                            if (checkpointRDD.isPresent())
+                                graphRDD = checkpointRDD.get();
+                            else
+                                this.vertexProgram.setup(memory);
+                            // partition the graph once so that the vertices stay on their partition and only the messages are shuffled
+                            final Partitioner partitioner = SparkHelper.createPartitioner(hadoopConfiguration, graphRDD.partitions().size());
+                            graphRDD = graphRDD.partitionBy(partitioner);
                             memory.broadcastMemory(sparkContext);
                             final HadoopConfiguration vertexProgramConfiguration = new HadoopConfiguration();
                             this.vertexProgram.storeState(vertexProgramConfiguration);
@@ -155,18 +178,28 @@ public final class SparkGraphComputer implements GraphComputer {
                             ConfUtil.mergeApacheIntoHadoopConfiguration(vertexProgramConfiguration, hadoopConfiguration);
 
                             // execute the vertex program
+                            JavaPairRDD<Object, SparkPayload<Object>> viewRDD = null;
                             while (true) {
                                 memory.setInTask(true);
-                                graphRDD = SparkHelper.executeStep(graphRDD, memory, vertexProgramConfiguration);
+                                final JavaPairRDD<Object, SparkPayload<Object>> previousViewRDD = viewRDD;
+                                viewRDD = SparkHelper.executeVertexProgram(graphRDD, memory, vertexProgramConfiguration);
+                                graphRDD = SparkHelper.passMessages(viewRDD, partitioner, vertexProgramConfiguration);
                                 graphRDD.foreachPartition(iterator -> doNothing()); // TODO: i think this is a fast way to execute the rdd (wish there was a "execute()" method).
+                                if (null != previousViewRDD)
+                                    previousViewRDD.unpersist(false); // the new graph rdd no longer reads from the previous iteration
                                 memory.setInTask(false);
                                 if (this.vertexProgram.terminate(memory))
                                     break;
                                 else {
                                     memory.incrIteration();
+                                    // the graph rdd is reloaded from the checkpoint which truncates its lineage
+                                    if (null != this.checkpointLocation && memory.getIteration() % this.checkpointIterations == 0)
+                                        graphRDD = SparkHelper.saveCheckpoint(sparkContext, graphRDD, memory, this.checkpointLocation, hadoopConfiguration).partitionBy(partitioner);
                                     memory.broadcastMemory(sparkContext);
                                 }
                             }
+                            if (null != this.checkpointLocation)
+                                SparkHelper.deleteCheckpoint(this.checkpointLocation, hadoopConfiguration);
                             // write the output graph back to disk
                             SparkHelper.saveGraphRDD(graphRDD, hadoopConfiguration);
                         }
@@ -236,6 +269,11 @@ public final class SparkGraphComputer implements GraphComputer {
             public boolean supportsNonSerializableObjects() {
                 return false;
             }
+
+            @Override
+            public boolean supportsCheckpoints() {
+                return true;
+            }
         };
     }
 }
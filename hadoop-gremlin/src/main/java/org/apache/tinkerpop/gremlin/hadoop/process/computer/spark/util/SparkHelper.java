@@ -19,19 +19,25 @@
 package org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.util;
 
 import org.apache.commons.configuration.Configuration;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.mapreduce.OutputFormat;
 import org.apache.hadoop.mapreduce.lib.output.SequenceFileOutputFormat;
+import org.apache.spark.HashPartitioner;
+import org.apache.spark.Partitioner;
 import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.api.java.function.Function2;
+import org.apache.spark.storage.StorageLevel;
 import org.apache.tinkerpop.gremlin.hadoop.Constants;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkMapEmitter;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkMemory;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkMessagePayload;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkPayload;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkReduceEmitter;
+import org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.SparkVertexPayload;
 import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.ObjectWritable;
 import org.apache.tinkerpop.gremlin.hadoop.structure.io.ObjectWritableIterator;
@@ -41,10 +47,15 @@ import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
+import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import scala.Tuple2;
 
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,60 +67,102 @@ public final class SparkHelper {
     private SparkHelper() {
     }
 
-    public static <M> JavaPairRDD<Object, SparkPayload<M>> executeStep(final JavaPairRDD<Object, SparkPayload<M>> graphRDD, final SparkMemory memory, final Configuration apacheConfiguration) {
-        JavaPairRDD<Object, SparkPayload<M>> current = graphRDD;
-        // execute vertex program
-        current = current.mapPartitionsToPair(partitionIterator -> {     // each partition(Spark)/worker(TP3) has a local copy of the vertex program to reduce object creation
-            final VertexProgram<M> workerVertexProgram = VertexProgram.<VertexProgram<M>>createVertexProgram(apacheConfiguration);
-            final Set<String> elementComputeKeys = workerVertexProgram.getElementComputeKeys();
+    /**
+     * Create the {@link Partitioner} of the graph rdd. The partitioner class is configured by
+     * {@link Constants#GREMLIN_HADOOP_SPARK_PARTITIONER} (default {@link HashPartitioner}) and must have a constructor
+     * that takes the number of partitions. A provider partitioner can thus place the vertices of an edge-cut on the
+     * same partition.
+     */
+    public static Partitioner createPartitioner(final org.apache.hadoop.conf.Configuration hadoopConfiguration, final int numberOfPartitions) {
+        final Class<? extends Partitioner> partitionerClass = hadoopConfiguration.getClass(Constants.GREMLIN_HADOOP_SPARK_PARTITIONER, HashPartitioner.class, Partitioner.class);
+        try {
+            return partitionerClass.getConstructor(int.class).newInstance(numberOfPartitions);
+        } catch (final Exception e) {
+            throw new IllegalStateException("The partitioner must have a constructor that takes the number of partitions: " + partitionerClass.getCanonicalName(), e);
+        }
+    }
+
+    /**
+     * Execute the vertex program on the vertices of the partitioned graph rdd. The returned rdd has the same
+     * partitioning as the graph rdd and is persisted as it is read by both the message pass and the next graph rdd.
+     * Each partition executes its own clone of the executor-cached vertex program between a
+     * {@link VertexProgram#workerIterationStart} and a {@link VertexProgram#workerIterationEnd} (even if it is empty).
+     */
+    public static <M> JavaPairRDD<Object, SparkPayload<M>> executeVertexProgram(final JavaPairRDD<Object, SparkPayload<M>> graphRDD, final SparkMemory memory, final Configuration apacheConfiguration) {
+        final String programKey = SparkProgramCache.getKey(apacheConfiguration);
+        return graphRDD.mapPartitionsToPair(partitionIterator -> {     // each partition(Spark)/worker(TP3) has a local copy of the vertex program to reduce object creation
+            final VertexProgram<M> workerVertexProgram = SparkProgramCache.getVertexProgram(programKey, apacheConfiguration);
+            final ComputerGraph vertexView = ComputerGraph.vertexView(workerVertexProgram.getElementComputeKeys()); // rebound to each vertex of the partition
+            final Optional<Set<Object>> initialVertexIds = workerVertexProgram.getInitialVertexIds();
+            final boolean requiresMessagesToExecute = workerVertexProgram.requiresMessagesToExecute();
             workerVertexProgram.workerIterationStart(memory);
-            return () -> IteratorUtils.<Tuple2<Object, SparkPayload<M>>, Tuple2<Object, SparkPayload<M>>>map(partitionIterator, keyValue -> {
-                workerVertexProgram.execute(ComputerGraph.of(keyValue._2().asVertexPayload().getVertex(), elementComputeKeys), keyValue._2().asVertexPayload(), memory);
-                if (!partitionIterator.hasNext()) workerVertexProgram.workerIterationEnd(memory);  // is this safe?
-                return keyValue;
-            });
-        });
+            return () -> new Iterator<Tuple2<Object, SparkPayload<M>>>() {
+                private boolean workerIterationEnded = false;
 
-        // emit messages by appending them to the graph as message payloads
-        current = current.<Object, SparkPayload<M>>flatMapToPair(keyValue -> () -> {
-            keyValue._2().asVertexPayload().getMessages().clear(); // the graph vertex should not have any incoming messages (should be cleared from the previous stage)
-            return IteratorUtils.concat(
-                    IteratorUtils.of(keyValue),                                                                    // this is a vertex
-                    IteratorUtils.map(keyValue._2().asVertexPayload().getOutgoingMessages().iterator(),
-                            entry -> new Tuple2<>(entry._1(), new SparkMessagePayload<M>(entry._2()))));           // this is a message;
-        });
+                @Override
+                public boolean hasNext() {
+                    if (partitionIterator.hasNext())
+                        return true;
+                    if (!this.workerIterationEnded) {
+                        this.workerIterationEnded = true;
+                        workerVertexProgram.workerIterationEnd(memory);
+                    }
+                    return false;
+                }
 
-        // "message pass" by merging the message payloads with the vertex payloads
-        current = current.reduceByKey(new Function2<SparkPayload<M>, SparkPayload<M>, SparkPayload<M>>() {
-            private Optional<MessageCombiner<M>> messageCombinerOptional = null; // a hack to simulate partition(Spark)/worker(TP3) local variables
-
-            @Override
-            public SparkPayload<M> call(final SparkPayload<M> payloadA, final SparkPayload<M> payloadB) throws Exception {
-                if (null == this.messageCombinerOptional)
-                    this.messageCombinerOptional = VertexProgram.<VertexProgram<M>>createVertexProgram(apacheConfiguration).getMessageCombiner();
-
-                if (payloadA.isVertex()) {
-                    payloadA.addMessages(payloadB.getMessages(), this.messageCombinerOptional);
-                    return payloadA;
-                } else {
-                    payloadB.addMessages(payloadA.getMessages(), this.messageCombinerOptional);
-                    return payloadB;
+                @Override
+                public Tuple2<Object, SparkPayload<M>> next() {
+                    final Tuple2<Object, SparkPayload<M>> keyValue = partitionIterator.next();
+                    final SparkVertexPayload<M> vertexPayload = keyValue._2().asVertexPayload();
+                    // only the initial vertices and then the vertices with incoming messages need to execute (if the vertex program declares them)
+                    if (memory.isInitialIteration() ?
+                            !initialVertexIds.isPresent() || initialVertexIds.get().contains(vertexPayload.getVertex().id()) :
+                            !requiresMessagesToExecute || !vertexPayload.getMessages().isEmpty())
+                        workerVertexProgram.execute(vertexView.bind(vertexPayload.getVertex()), vertexPayload, memory);
+                    return keyValue;
                 }
-            }
-        });
+            };
+        }, true).persist(StorageLevel.MEMORY_AND_DISK());
+    }
 
-        // clear all previous outgoing messages (why can't we do this prior to the shuffle? -- this is probably cause of concurrent modification issues prior to reduceByKey)
-        current = current.mapValues(vertexPayload -> {
-            vertexPayload.asVertexPayload().getOutgoingMessages().clear();
-            return vertexPayload;
-        });
+    /**
+     * Shuffle the outgoing messages of the executed vertices to the partitions of their receiving vertices and then
+     * cogroup them with the co-partitioned vertices. Only the messages are shuffled as the vertices stay on their
+     * partition. The returned graph rdd has a new payload for each vertex with its incoming messages.
+     */
+    public static <M> JavaPairRDD<Object, SparkPayload<M>> passMessages(final JavaPairRDD<Object, SparkPayload<M>> viewRDD, final Partitioner partitioner, final Configuration apacheConfiguration) {
+        final String programKey = SparkProgramCache.getKey(apacheConfiguration);
+        // combine the messages of each receiving vertex (map-side prior to the shuffle)
+        final JavaPairRDD<Object, SparkPayload<M>> messageRDD = viewRDD.<Object, SparkPayload<M>>flatMapToPair(keyValue -> () ->
+                IteratorUtils.map(keyValue._2().asVertexPayload().getOutgoingMessages().iterator(),
+                        entry -> new Tuple2<>(entry._1(), new SparkMessagePayload<M>(entry._2()))))
+                .reduceByKey(partitioner, new Function2<SparkPayload<M>, SparkPayload<M>, SparkPayload<M>>() {
+                    private Optional<MessageCombiner<M>> messageCombinerOptional = null; // a hack to simulate partition(Spark)/worker(TP3) local variables
 
-        return current;
+                    @Override
+                    public SparkPayload<M> call(final SparkPayload<M> payloadA, final SparkPayload<M> payloadB) throws Exception {
+                        if (null == this.messageCombinerOptional)
+                            this.messageCombinerOptional = SparkProgramCache.<VertexProgram<M>>getVertexProgram(programKey, apacheConfiguration).getMessageCombiner();
+                        payloadA.addMessages(payloadB.getMessages(), this.messageCombinerOptional);
+                        return payloadA;
+                    }
+                });
+
+        // "message pass" by cogrouping the message payloads with the vertex payloads (messages to non-existent vertices are dropped)
+        return viewRDD.cogroup(messageRDD, partitioner).<SparkPayload<M>>flatMapValues(payloads -> {
+            final Iterator<SparkPayload<M>> vertexPayloads = payloads._1().iterator();
+            if (!vertexPayloads.hasNext())
+                return Collections.emptyList();
+            final SparkVertexPayload<M> vertexPayload = new SparkVertexPayload<>(vertexPayloads.next().asVertexPayload().getVertex());
+            payloads._2().forEach(messagePayload -> vertexPayload.getMessages().addAll(messagePayload.getMessages()));
+            return Collections.singletonList(vertexPayload);
+        });
     }
 
     public static <K, V, M> JavaPairRDD<K, V> executeMap(final JavaPairRDD<Object, SparkPayload<M>> graphRDD, final MapReduce<K, V, ?, ?, ?> globalMapReduce, final Configuration apacheConfiguration) {
+        final String programKey = SparkProgramCache.getKey(apacheConfiguration);
         JavaPairRDD<K, V> mapRDD = graphRDD.mapPartitionsToPair(partitionIterator -> {
-            final MapReduce<K, V, ?, ?, ?> workerMapReduce = MapReduce.createMapReduce(apacheConfiguration);
+            final MapReduce<K, V, ?, ?, ?> workerMapReduce = SparkProgramCache.getMapReduce(programKey, apacheConfiguration);
             final SparkMapEmitter<K, V> mapEmitter = new SparkMapEmitter<>();
             partitionIterator.forEachRemaining(keyValue -> workerMapReduce.map(keyValue._2().asVertexPayload().getVertex(), mapEmitter));
             return mapEmitter.getEmissions();
@@ -122,8 +175,9 @@ public final class SparkHelper {
     // TODO: public static executeCombine()
 
     public static <K, V, OK, OV> JavaPairRDD<OK, OV> executeReduce(final JavaPairRDD<K, V> mapRDD, final MapReduce<K, V, OK, OV, ?> globalMapReduce, final Configuration apacheConfiguration) {
+        final String programKey = SparkProgramCache.getKey(apacheConfiguration);
         JavaPairRDD<OK, OV> reduceRDD = mapRDD.groupByKey().mapPartitionsToPair(partitionIterator -> {
-            final MapReduce<K, V, OK, OV, ?> workerMapReduce = MapReduce.createMapReduce(apacheConfiguration);
+            final MapReduce<K, V, OK, OV, ?> workerMapReduce = SparkProgramCache.getMapReduce(programKey, apacheConfiguration);
             final SparkReduceEmitter<OK, OV> reduceEmitter = new SparkReduceEmitter<>();
             partitionIterator.forEachRemaining(keyValue -> workerMapReduce.reduce(keyValue._1(), keyValue._2().iterator(), reduceEmitter));
             return reduceEmitter.getEmissions();
@@ -144,6 +198,66 @@ public final class SparkHelper {
         }
     }
 
+    /**
+     * Save the graph rdd (with the messages of the next iteration) and the memory of the computation to a new
+     * checkpoint at the location. The memory is written last and thus, its existence marks a complete checkpoint,
+     * after which the previous checkpoints are deleted. The returned graph rdd is read from the checkpoint.
+     */
+    public static <M> JavaPairRDD<Object, SparkPayload<M>> saveCheckpoint(final JavaSparkContext sparkContext, final JavaPairRDD<Object, SparkPayload<M>> graphRDD, final SparkMemory memory, final String checkpointLocation, final org.apache.hadoop.conf.Configuration hadoopConfiguration) {
+        final Path checkpointPath = new Path(checkpointLocation, Integer.toString(memory.getIteration()));
+        try {
+            final FileSystem fs = FileSystem.get(hadoopConfiguration);
+            fs.delete(checkpointPath, true);
+            graphRDD.saveAsObjectFile(new Path(checkpointPath, Constants.HIDDEN_G).toString());
+            try (final ObjectOutputStream outputStream = new ObjectOutputStream(fs.create(new Path(checkpointPath, Constants.SYSTEM_MEMORY)))) {
+                outputStream.writeObject(new MapMemory(memory));
+            }
+            for (final FileStatus status : fs.listStatus(new Path(checkpointLocation))) {
+                if (!status.getPath().getName().equals(checkpointPath.getName()))
+                    fs.delete(status.getPath(), true);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        return sparkContext.<Tuple2<Object, SparkPayload<M>>>objectFile(new Path(checkpointPath, Constants.HIDDEN_G).toString()).mapToPair(tuple -> tuple);
+    }
+
+    /**
+     * Load the latest complete checkpoint at the location (if one exists) by restoring its memory and returning
+     * its graph rdd.
+     */
+    public static <M> Optional<JavaPairRDD<Object, SparkPayload<M>>> loadCheckpoint(final JavaSparkContext sparkContext, final SparkMemory memory, final String checkpointLocation, final org.apache.hadoop.conf.Configuration hadoopConfiguration) {
+        try {
+            final FileSystem fs = FileSystem.get(hadoopConfiguration);
+            if (!fs.exists(new Path(checkpointLocation)))
+                return Optional.empty();
+            Path checkpointPath = null;
+            for (final FileStatus status : fs.listStatus(new Path(checkpointLocation))) {
+                if (fs.exists(new Path(status.getPath(), Constants.SYSTEM_MEMORY)) &&
+                        (null == checkpointPath || Integer.valueOf(status.getPath().getName()) > Integer.valueOf(checkpointPath.getName())))
+                    checkpointPath = status.getPath();
+            }
+            if (null == checkpointPath)
+                return Optional.empty();
+            try (final ObjectInputStream inputStream = new ObjectInputStream(fs.open(new Path(checkpointPath, Constants.SYSTEM_MEMORY)))) {
+                final MapMemory checkpointMemory = (MapMemory) inputStream.readObject();
+                checkpointMemory.keys().forEach(key -> memory.set(key, checkpointMemory.get(key)));
+                memory.setIteration(checkpointMemory.getIteration());
+            }
+            return Optional.of(sparkContext.<Tuple2<Object, SparkPayload<M>>>objectFile(new Path(checkpointPath, Constants.HIDDEN_G).toString()).mapToPair(tuple -> tuple));
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public static void deleteCheckpoint(final String checkpointLocation, final org.apache.hadoop.conf.Configuration hadoopConfiguration) {
+        try {
+            FileSystem.get(hadoopConfiguration).delete(new Path(checkpointLocation), true);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     public static String getInputLocation(final org.apache.hadoop.conf.Configuration hadoopConfiguration) {
         try {
             return FileSystem.get(hadoopConfiguration).getFileStatus(new Path(hadoopConfiguration.get(Constants.GREMLIN_HADOOP_INPUT_LOCATION))).getPath().toString();
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.process.computer.spark.util;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An executor (JVM) local cache of the {@link VertexProgram} and {@link MapReduce} instances loaded from a
+ * configuration. Loading the state of a program from its configuration can be expensive (e.g. the deserialization
+ * of the traversal of a {@code TraversalVertexProgram}) and thus, it is done once per executor rather than for each
+ * partition of each iteration. Every partition gets its own clone of the cached instance as programs are not thread
+ * safe. The key of a configuration is computed once by the driver with {@link #getKey(Configuration)}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class SparkProgramCache {
+
+    private static final int MAX_SIZE = 16;
+
+    private static final Map<String, VertexProgram<?>> VERTEX_PROGRAMS = new LinkedHashMap<String, VertexProgram<?>>(MAX_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, VertexProgram<?>> eldest) {
+            return this.size() > MAX_SIZE;
+        }
+    };
+
+    private static final Map<String, MapReduce<?, ?, ?, ?, ?>> MAP_REDUCERS = new LinkedHashMap<String, MapReduce<?, ?, ?, ?, ?>>(MAX_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, MapReduce<?, ?, ?, ?, ?>> eldest) {
+            return this.size() > MAX_SIZE;
+        }
+    };
+
+    private SparkProgramCache() {
+    }
+
+    /**
+     * Get the cache key of the configuration which is a digest of its sorted key/value pairs.
+     */
+    public static String getKey(final Configuration configuration) {
+        final List<String> keys = new ArrayList<>();
+        configuration.getKeys().forEachRemaining(keys::add);
+        Collections.sort(keys);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (final String key : keys) {
+                digest.update(key.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '=');
+                digest.update(String.valueOf(configuration.getProperty(key)).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            final StringBuilder builder = new StringBuilder();
+            for (final byte b : digest.digest()) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get a clone of the cached vertex program of the configuration, loading it if it is not cached.
+     */
+    public static <V extends VertexProgram<?>> V getVertexProgram(final String key, final Configuration configuration) {
+        VertexProgram<?> vertexProgram;
+        synchronized (VERTEX_PROGRAMS) {
+            vertexProgram = VERTEX_PROGRAMS.get(key);
+        }
+        if (null == vertexProgram) {
+            vertexProgram = VertexProgram.createVertexProgram(configuration);
+            synchronized (VERTEX_PROGRAMS) {
+                VERTEX_PROGRAMS.put(key, vertexProgram);
+            }
+        }
+        synchronized (vertexProgram) {
+            return (V) vertexProgram.clone();
+        }
+    }
+
+    /**
+     * Get a clone of the cached map reduce of the configuration, loading it if it is not cached.
+     */
+    public static <M extends MapReduce<?, ?, ?, ?, ?>> M getMapReduce(final String key, final Configuration configuration) {
+        MapReduce<?, ?, ?, ?, ?> mapReduce;
+        synchronized (MAP_REDUCERS) {
+            mapReduce = MAP_REDUCERS.get(key);
+        }
+        if (null == mapReduce) {
+            mapReduce = MapReduce.createMapReduce(configuration);
+            synchronized (MAP_REDUCERS) {
+                MAP_REDUCERS.put(key, mapReduce);
+            }
+        }
+        synchronized (mapReduce) {
+            return (M) mapReduce.clone();
+        }
+    }
+}
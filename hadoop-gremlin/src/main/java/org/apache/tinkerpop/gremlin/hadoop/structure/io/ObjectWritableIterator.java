@@ -33,6 +33,9 @@ import java.util.LinkedList;
 import java.util.Queue;
 
 /**
+ * Iterates the key/values of the sequence files of a path. The files are opened one at a time as they are read so
+ * that large outputs can be streamed.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ObjectWritableIterator implements Iterator<KeyValue> {
@@ -40,12 +43,16 @@ public class ObjectWritableIterator implements Iterator<KeyValue> {
     private final ObjectWritable key = new ObjectWritable();
     private final ObjectWritable value = new ObjectWritable();
     private boolean available = false;
-    private final Queue<SequenceFile.Reader> readers = new LinkedList<>();
+    private final FileSystem fs;
+    private final Configuration configuration;
+    private final Queue<Path> paths = new LinkedList<>();
+    private SequenceFile.Reader reader = null;
 
     public ObjectWritableIterator(final Configuration configuration, final Path path) throws IOException {
-        final FileSystem fs = FileSystem.get(configuration);
-        for (final FileStatus status : fs.listStatus(path, HiddenFileFilter.instance())) {
-            this.readers.add(new SequenceFile.Reader(fs, status.getPath(), configuration));
+        this.fs = FileSystem.get(configuration);
+        this.configuration = configuration;
+        for (final FileStatus status : this.fs.listStatus(path, HiddenFileFilter.instance())) {
+            this.paths.add(status.getPath());
         }
     }
 
@@ -56,13 +63,18 @@ public class ObjectWritableIterator implements Iterator<KeyValue> {
                 return true;
             } else {
                 while (true) {
-                    if (this.readers.isEmpty())
-                        return false;
-                    if (this.readers.peek().next(this.key, this.value)) {
+                    if (null == this.reader) {
+                        if (this.paths.isEmpty())
+                            return false;
+                        this.reader = new SequenceFile.Reader(this.fs, this.paths.remove(), this.configuration);
+                    }
+                    if (this.reader.next(this.key, this.value)) {
                         this.available = true;
                         return true;
-                    } else
-                        this.readers.remove();
+                    } else {
+                        this.reader.close();
+                        this.reader = null;
+                    }
                 }
             }
         } catch (final IOException e) {
@@ -72,22 +84,9 @@ public class ObjectWritableIterator implements Iterator<KeyValue> {
 
     @Override
     public KeyValue next() {
-        try {
-            if (this.available) {
-                this.available = false;
-                return new KeyValue<>(this.key.get(), this.value.get());
-            } else {
-                while (true) {
-                    if (this.readers.isEmpty())
-                        throw FastNoSuchElementException.instance();
-                    if (this.readers.peek().next(this.key, this.value)) {
-                        return new KeyValue<>(this.key.get(), this.value.get());
-                    } else
-                        this.readers.remove();
-                }
-            }
-        } catch (final IOException e) {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+        if (!this.hasNext())
+            throw FastNoSuchElementException.instance();
+        this.available = false;
+        return new KeyValue<>(this.key.get(), this.value.get());
     }
-}
\ No newline at end of file
+}
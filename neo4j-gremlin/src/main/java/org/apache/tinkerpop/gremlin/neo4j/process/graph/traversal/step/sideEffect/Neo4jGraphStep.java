@@ -59,7 +59,7 @@ import java.util.stream.Stream;
  */
 public class Neo4jGraphStep<S extends Element> extends GraphStep<S> {
 
-    public final List<HasContainer> hasContainers = new ArrayList<>();
+    public List<HasContainer> hasContainers = new ArrayList<>();
 
     public Neo4jGraphStep(final Traversal.Admin traversal, final Class<S> returnClass, final Object... ids) {
         super(traversal, returnClass, ids);
@@ -204,6 +204,17 @@ public class Neo4jGraphStep<S extends Element> extends GraphStep<S> {
                     TraversalHelper.makeStepString(this, Arrays.toString(this.ids), this.hasContainers);
     }
 
+    @Override
+    public Neo4jGraphStep<S> clone() {
+        final Neo4jGraphStep<S> clone = (Neo4jGraphStep<S>) super.clone();
+        clone.hasContainers = new ArrayList<>(this.hasContainers.size());
+        for (final HasContainer hasContainer : this.hasContainers) {
+            clone.hasContainers.add(hasContainer.clone());
+        }
+        clone.setIteratorSupplier(() -> (Iterator<S>) (Vertex.class.isAssignableFrom(clone.returnClass) ? clone.vertices() : clone.edges()));
+        return clone;
+    }
+
     /*private String makeCypherQuery() {
         final StringBuilder builder = new StringBuilder("MATCH node WHERE ");
         int counter = 0;
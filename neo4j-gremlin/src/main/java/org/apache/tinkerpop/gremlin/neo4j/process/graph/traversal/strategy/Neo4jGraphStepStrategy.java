@@ -38,27 +38,33 @@ public class Neo4jGraphStepStrategy extends AbstractTraversalStrategy {
     private Neo4jGraphStepStrategy() {
     }
 
+    @Override
+    public boolean isApplicable(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getStartStep() instanceof Neo4jGraphStep;
+    }
+
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (traversal.getStartStep() instanceof Neo4jGraphStep) {
-            final Neo4jGraphStep neo4jGraphStep = (Neo4jGraphStep) traversal.getStartStep();
-            Step<?, ?> currentStep = neo4jGraphStep.getNextStep();
-            while (true) {
-                if (currentStep instanceof HasContainerHolder) {
-                    neo4jGraphStep.hasContainers.addAll(((HasContainerHolder) currentStep).getHasContainers());
-                    if (currentStep.getLabel().isPresent()) {
-                        final IdentityStep identityStep = new IdentityStep<>(traversal);
-                        identityStep.setLabel(currentStep.getLabel().get());
-                        TraversalHelper.insertAfterStep(identityStep, currentStep, traversal);
-                    }
-                    traversal.removeStep(currentStep);
-                } else if (currentStep instanceof IdentityStep) {
-                    // do nothing
-                } else {
-                    break;
+        if (!(traversal.getStartStep() instanceof Neo4jGraphStep))
+            return;
+
+        final Neo4jGraphStep neo4jGraphStep = (Neo4jGraphStep) traversal.getStartStep();
+        Step<?, ?> currentStep = neo4jGraphStep.getNextStep();
+        while (true) {
+            if (currentStep instanceof HasContainerHolder) {
+                neo4jGraphStep.hasContainers.addAll(((HasContainerHolder) currentStep).getHasContainers());
+                if (currentStep.getLabel().isPresent()) {
+                    final IdentityStep identityStep = new IdentityStep<>(traversal);
+                    identityStep.setLabel(currentStep.getLabel().get());
+                    TraversalHelper.insertAfterStep(identityStep, currentStep, traversal);
                 }
-                currentStep = currentStep.getNextStep();
+                traversal.removeStep(currentStep);
+            } else if (currentStep instanceof IdentityStep) {
+                // do nothing
+            } else {
+                break;
             }
+            currentStep = currentStep.getNextStep();
         }
     }
 
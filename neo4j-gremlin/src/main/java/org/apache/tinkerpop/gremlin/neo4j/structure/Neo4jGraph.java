@@ -108,6 +108,7 @@ public class Neo4jGraph implements Graph, WrappedGraph<GraphDatabaseService> {
 
     private final Neo4jTransaction neo4jTransaction = new Neo4jTransaction();
     private final Neo4jGraphVariables neo4jGraphVariables;
+    private final Neo4jGraphStatistics statistics = new Neo4jGraphStatistics(this);
 
     protected final boolean supportsMetaProperties;
     protected final boolean supportsMultiProperties;
@@ -314,6 +315,7 @@ public class Neo4jGraph implements Graph, WrappedGraph<GraphDatabaseService> {
     @Override
     public void close() throws Exception {
         this.tx().close();
+        this.statistics.close();
         if (this.baseGraph != null) this.baseGraph.shutdown();
     }
 
@@ -321,6 +323,11 @@ public class Neo4jGraph implements Graph, WrappedGraph<GraphDatabaseService> {
         return StringFactory.graphString(this, baseGraph.toString());
     }
 
+    @Override
+    public Optional<Statistics> statistics() {
+        return Optional.of(this.statistics);
+    }
+
     @Override
     public Features features() {
         return features;
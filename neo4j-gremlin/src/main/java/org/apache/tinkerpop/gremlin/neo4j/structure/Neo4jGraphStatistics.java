@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.neo4j.structure;
+
+import org.apache.tinkerpop.gremlin.process.T;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.tooling.GlobalGraphOperations;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Neo4j does not maintain element counts and thus, the counts are computed by scanning the graph. The scan is
+ * done by a background thread in its own transaction and is repeated at most every
+ * {@link Neo4jGraphStatistics#REFRESH_INTERVAL} milliseconds. The statistics never block the caller (e.g. a strategy
+ * being applied) nor open a transaction on its thread: they answer from the last completed scan and schedule a new
+ * one when that scan is stale or does not cover a requested vertex label or property key. Until the scan
+ * of a label or key completes, its count is the total vertex count and its selectivity is 1.0. Vertex label counts
+ * use the label scan store. The selectivity of a key is estimated from a sample of the vertices.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class Neo4jGraphStatistics implements Graph.Statistics {
+
+    public static final long REFRESH_INTERVAL = 60000l;
+    private static final int SAMPLE_SIZE = 1000;
+
+    private final Neo4jGraph graph;
+    private final Set<String> vertexLabels = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Set<String> keys = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "neo4j-graph-statistics");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Snapshot snapshot = new Snapshot(0l);
+
+    Neo4jGraphStatistics(final Neo4jGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public long vertexCount(final String label) {
+        final Snapshot snapshot = this.snapshot;
+        if (null == label) {
+            this.refreshIfStale(snapshot, false);
+            return snapshot.vertexCount;
+        }
+        final Long count = snapshot.vertexLabelCounts.get(label);
+        if (null == count)
+            this.vertexLabels.add(label);
+        this.refreshIfStale(snapshot, null == count);
+        return null == count ? snapshot.vertexCount : count;
+    }
+
+    @Override
+    public long edgeCount(final String label) {
+        final Snapshot snapshot = this.snapshot;
+        this.refreshIfStale(snapshot, false);
+        return null == label ? snapshot.edgeCount : snapshot.edgeLabelCounts.getOrDefault(label, 0l);
+    }
+
+    @Override
+    public double selectivity(final String key) {
+        final Snapshot snapshot = this.snapshot;
+        final Double selectivity = snapshot.selectivities.get(key);
+        if (null == selectivity)
+            this.keys.add(key);
+        this.refreshIfStale(snapshot, null == selectivity);
+        return null == selectivity ? 1.0d : selectivity;
+    }
+
+    /**
+     * Stop the background scan. Called when the graph is closed.
+     */
+    void close() {
+        this.executor.shutdownNow();
+    }
+
+    private void refreshIfStale(final Snapshot snapshot, final boolean force) {
+        if ((force || System.currentTimeMillis() - snapshot.time >= REFRESH_INTERVAL) && this.refreshing.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        this.snapshot = this.scan();
+                    } catch (final RuntimeException e) {
+                        // the graph was closed or the scan failed, the previous statistics are kept
+                    } finally {
+                        this.refreshing.set(false);
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                this.refreshing.set(false);
+            }
+        }
+    }
+
+    private Snapshot scan() {
+        final Snapshot snapshot = new Snapshot(System.currentTimeMillis());
+        try (final Transaction tx = this.graph.getBaseGraph().beginTx()) {
+            final GlobalGraphOperations operations = GlobalGraphOperations.at(this.graph.getBaseGraph());
+            for (final Node node : operations.getAllNodes()) {
+                if (!node.hasLabel(Neo4jVertexProperty.VERTEX_PROPERTY_LABEL))
+                    snapshot.vertexCount++;
+            }
+            for (final Relationship relationship : operations.getAllRelationships()) {
+                final String label = relationship.getType().name();
+                if (!label.startsWith(Neo4jVertexProperty.VERTEX_PROPERTY_PREFIX)) {
+                    snapshot.edgeCount++;
+                    snapshot.edgeLabelCounts.merge(label, 1l, Long::sum);
+                }
+            }
+            for (final String label : this.vertexLabels) {
+                snapshot.vertexLabelCounts.put(label, this.countVertices(operations, label));
+            }
+            for (final String key : this.keys) {
+                snapshot.selectivities.put(key, this.sampleSelectivity(operations, key, snapshot.vertexCount));
+            }
+            tx.success();
+        }
+        return snapshot;
+    }
+
+    private long countVertices(final GlobalGraphOperations operations, final String label) {
+        final Label[] labels = Neo4jHelper.makeLabels(label);
+        long count = 0l;
+        try (final ResourceIterator<Node> nodes = operations.getAllNodesWithLabel(labels[0]).iterator()) {
+            while (nodes.hasNext()) {
+                final Node node = nodes.next();
+                boolean hasLabels = true;
+                for (int i = 1; i < labels.length && hasLabels; i++) {
+                    hasLabels = node.hasLabel(labels[i]);
+                }
+                if (hasLabels) count++;
+            }
+        }
+        return count;
+    }
+
+    private double sampleSelectivity(final GlobalGraphOperations operations, final String key, final long vertexCount) {
+        if (0l == vertexCount)
+            return 0.0d;
+        int sampled = 0;
+        int withKey = 0;
+        final Set<Object> values = new HashSet<>();
+        for (final Node node : operations.getAllNodes()) {
+            if (sampled >= SAMPLE_SIZE)
+                break;
+            if (node.hasLabel(Neo4jVertexProperty.VERTEX_PROPERTY_LABEL))
+                continue;
+            sampled++;
+            if (node.hasProperty(key)) {
+                withKey++;
+                final Object value = node.getProperty(key);
+                // multi-properties are stored as vertex property nodes and the property only holds a token
+                if (Neo4jVertexProperty.VERTEX_PROPERTY_TOKEN.equals(value)) {
+                    for (final Relationship relationship : node.getRelationships(Direction.OUTGOING, DynamicRelationshipType.withName(Neo4jVertexProperty.VERTEX_PROPERTY_PREFIX.concat(key)))) {
+                        values.add(relationship.getEndNode().getProperty(T.value.getAccessor(), null));
+                    }
+                } else
+                    values.add(value);
+            }
+        }
+        if (0 == withKey)
+            return 0.0d;
+        // if every sampled value is distinct, the key is presumed to be unique
+        return values.size() >= withKey ?
+                1.0d / vertexCount :
+                ((double) withKey / sampled) / values.size();
+    }
+
+    private static final class Snapshot {
+        private final long time;
+        private final Map<String, Long> vertexLabelCounts = new HashMap<>();
+        private final Map<String, Long> edgeLabelCounts = new HashMap<>();
+        private final Map<String, Double> selectivities = new HashMap<>();
+        private long vertexCount = 0l;
+        private long edgeCount = 0l;
+
+        private Snapshot(final long time) {
+            this.time = time;
+        }
+    }
+}
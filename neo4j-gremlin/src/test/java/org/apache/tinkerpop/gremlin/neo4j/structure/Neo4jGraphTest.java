@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.T;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Contains;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.util.StreamFactory;
@@ -737,4 +738,27 @@ public class Neo4jGraphTest extends BaseNeo4jGraphTest {
         });
 
     }
+
+    @Test
+    public void shouldComputeStatisticsInTheBackgroundWithoutOpeningATransaction() throws Exception {
+        final Vertex marko = this.graph.addVertex(T.label, "person", "name", "marko");
+        final Vertex vadas = this.graph.addVertex(T.label, "person", "name", "vadas");
+        final Vertex lop = this.graph.addVertex(T.label, "software", "name", "lop");
+        marko.addEdge("knows", vadas);
+        marko.addEdge("created", lop);
+        this.graph.tx().commit();
+
+        final Graph.Statistics statistics = this.graph.statistics().get();
+        final long deadline = System.currentTimeMillis() + 10000l;
+        while (statistics.vertexCount("person") != 2l && System.currentTimeMillis() < deadline) {
+            assertFalse(this.graph.tx().isOpen());
+            Thread.sleep(10);
+        }
+        assertFalse(this.graph.tx().isOpen());
+        assertEquals(3l, statistics.vertexCount(null));
+        assertEquals(2l, statistics.vertexCount("person"));
+        assertEquals(2l, statistics.edgeCount(null));
+        assertEquals(1l, statistics.edgeCount("knows"));
+        assertEquals(0l, statistics.edgeCount("likes"));
+    }
 }
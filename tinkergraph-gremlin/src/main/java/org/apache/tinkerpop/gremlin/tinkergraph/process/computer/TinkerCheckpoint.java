@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.util.MapMemory;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * The state of a {@link TinkerGraphComputer} computation between two iterations: the element compute keys of the
+ * vertices, the messages to be received in the next iteration and the memory. The checkpoint is written with Java
+ * serialization and thus, the compute key values, messages and memory values must be {@link Serializable}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+final class TinkerCheckpoint implements Serializable {
+
+    private final MapMemory memory;
+    private final Map<Object, Queue<?>> messages;
+    private final Map<Object, Map<String, List<Object>>> properties = new HashMap<>();
+
+    private TinkerCheckpoint(final TinkerGraph graph, final Set<String> computeKeys, final TinkerMemory memory, final TinkerMessageBoard<?> messageBoard) {
+        this.memory = new MapMemory(memory);
+        this.messages = new HashMap<>(messageBoard.receiveMessages);
+        if (computeKeys.isEmpty())
+            return;
+        final String[] keys = computeKeys.toArray(new String[computeKeys.size()]);
+        graph.vertices().forEachRemaining(vertex -> {
+            final Map<String, List<Object>> values = new HashMap<>();
+            vertex.properties(keys).forEachRemaining(property -> values.computeIfAbsent(property.key(), key -> new ArrayList<>()).add(property.value()));
+            if (!values.isEmpty())
+                this.properties.put(vertex.id(), values);
+        });
+    }
+
+    /**
+     * Restore the state of the checkpoint into the graph view, memory and message board of a new submission.
+     */
+    public void restore(final TinkerGraph graph, final TinkerMemory memory, final TinkerMessageBoard messageBoard) {
+        this.memory.keys().forEach(key -> memory.set(key, this.memory.get(key)));
+        memory.setIteration(this.memory.getIteration());
+        messageBoard.receiveMessages.putAll(this.messages);
+        this.properties.forEach((id, values) -> {
+            final Vertex vertex = graph.vertices(id).next();
+            values.forEach((key, list) -> list.forEach(value -> vertex.property(key, value)));
+        });
+    }
+
+    /**
+     * Write a checkpoint of the computation to the file. The checkpoint is written to a temporary file first so
+     * that the previous checkpoint remains intact if the write fails.
+     */
+    public static void write(final File file, final TinkerGraph graph, final Set<String> computeKeys, final TinkerMemory memory, final TinkerMessageBoard<?> messageBoard) {
+        final File temp = new File(file.getPath() + ".tmp");
+        if (null != file.getParentFile())
+            file.getParentFile().mkdirs();
+        try {
+            try (final ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                outputStream.writeObject(new TinkerCheckpoint(graph, computeKeys, memory, messageBoard));
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public static TinkerCheckpoint read(final File file) {
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            return (TinkerCheckpoint) inputStream.readObject();
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
@@ -31,9 +31,12 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
+import java.io.File;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -45,6 +48,8 @@ import java.util.concurrent.Future;
  */
 public class TinkerGraphComputer implements GraphComputer {
 
+    private static final String CHECKPOINT_FILE = "tinkergraph-checkpoint";
+
     private Isolation isolation = Isolation.BSP;
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
@@ -52,6 +57,8 @@ public class TinkerGraphComputer implements GraphComputer {
     private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
+    private File checkpointFile = null;
+    private int checkpointIterations = 0;
 
     public TinkerGraphComputer(final TinkerGraph graph) {
         this.graph = graph;
@@ -79,6 +86,15 @@ public class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    @Override
+    public GraphComputer checkpoint(final String location, final int iterations) {
+        if (iterations <= 0)
+            throw GraphComputer.Exceptions.checkpointIterationsMustBePositive(iterations);
+        this.checkpointFile = new File(location, CHECKPOINT_FILE);
+        this.checkpointIterations = iterations;
+        return this;
+    }
+
     @Override
     public Future<ComputerResult> submit() {
         if (this.executed)
@@ -94,7 +110,6 @@ public class TinkerGraphComputer implements GraphComputer {
             GraphComputerHelper.validateProgramOnComputer(this, this.vertexProgram);
             this.mapReducers.addAll(this.vertexProgram.getMapReducers());
         }
-          //final Graph computeGraph = this.graph;
         final Graph computeGraph = null == this.vertexProgram ? this.graph :
                 new ComputerGraph(this.graph, this.vertexProgram.getElementComputeKeys());
 
@@ -105,17 +120,21 @@ public class TinkerGraphComputer implements GraphComputer {
                 if (null != this.vertexProgram) {
                     TinkerHelper.createGraphView(this.graph, this.isolation, this.vertexProgram.getElementComputeKeys());
 
-                    // execute the vertex program
-                    this.vertexProgram.setup(this.memory);
+                    // execute the vertex program (resuming from the checkpoint of a previous submission if one exists)
+                    if (null != this.checkpointFile && this.checkpointFile.exists())
+                        TinkerCheckpoint.read(this.checkpointFile).restore(this.graph, this.memory, this.messageBoard);
+                    else
+                        this.vertexProgram.setup(this.memory);
                     this.memory.completeSubRound();
                     while (true) {
                         workers.executeVertexProgram(vertexProgram -> vertexProgram.workerIterationStart(this.memory.asImmutable()), vertexProgram);
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(computeGraph.vertices());
+                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.activeVertices());
                         workers.executeVertexProgram(vertexProgram -> {
+                            final ComputerGraph vertexView = ComputerGraph.vertexView(vertexProgram.getElementComputeKeys()); // rebound to each vertex of the worker
                             while (true) {
                                 final Vertex vertex = vertices.next();
                                 if (null == vertex) return;
-                                vertexProgram.execute(vertex, new TinkerMessenger(vertex, this.messageBoard, vertexProgram.getMessageCombiner()), this.memory);
+                                vertexProgram.execute(vertexView.bind(vertex), new TinkerMessenger(vertex, computeGraph, this.messageBoard, vertexProgram.getMessageCombiner()), this.memory);
                             }
                         }, vertexProgram);
                         workers.executeVertexProgram(vertexProgram -> vertexProgram.workerIterationEnd(this.memory.asImmutable()), vertexProgram);
@@ -128,13 +147,23 @@ public class TinkerGraphComputer implements GraphComputer {
                         } else {
                             this.memory.incrIteration();
                             this.memory.completeSubRound();
+                            if (null != this.checkpointFile && this.memory.getIteration() % this.checkpointIterations == 0)
+                                TinkerCheckpoint.write(this.checkpointFile, this.graph, this.vertexProgram.getElementComputeKeys(), this.memory, this.messageBoard);
                         }
                     }
+                    if (null != this.checkpointFile)
+                        this.checkpointFile.delete();
                 }
 
                 // execute mapreduce jobs
                 for (final MapReduce mapReduce : mapReducers) {
-                    if (mapReduce.doStage(MapReduce.Stage.MAP)) {
+                    if (mapReduce.doStage(MapReduce.Stage.MAP) && !mapReduce.doStage(MapReduce.Stage.REDUCE) && !mapReduce.getMapKeySort().isPresent()) {
+                        // nothing needs to be grouped or sorted so the vertices are mapped as the result is read
+                        final TinkerMapIterator<?, ?> mapIterator = new TinkerMapIterator<>(mapReduce, computeGraph.vertices());
+                        if (null != this.vertexProgram)
+                            TinkerHelper.getGraphView(this.graph).addMapIterator(mapIterator);
+                        mapReduce.addResultToMemory(this.memory, mapIterator);
+                    } else if (mapReduce.doStage(MapReduce.Stage.MAP)) {
                         final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
                         final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(computeGraph.vertices());
                         workers.executeMapReduce(workerMapReduce -> {
@@ -182,6 +211,32 @@ public class TinkerGraphComputer implements GraphComputer {
         return StringFactory.graphComputerString(this);
     }
 
+    @Override
+    public Features features() {
+        return new Features() {
+            @Override
+            public boolean supportsCheckpoints() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * The vertices that execute the current iteration: either the initial vertices or the vertices sent messages in
+     * the previous iteration if the vertex program declares them, else all the vertices of the graph.
+     */
+    private Iterator<Vertex> activeVertices() {
+        if (this.memory.isInitialIteration()) {
+            final Optional<Set<Object>> initialVertexIds = this.vertexProgram.getInitialVertexIds();
+            return initialVertexIds.isPresent() ? this.vertices(initialVertexIds.get()) : this.graph.vertices();
+        } else
+            return this.vertexProgram.requiresMessagesToExecute() ? this.vertices(this.messageBoard.receiveMessages.keySet()) : this.graph.vertices();
+    }
+
+    private Iterator<Vertex> vertices(final Set<Object> vertexIds) {
+        return vertexIds.isEmpty() ? Collections.emptyIterator() : this.graph.vertices(vertexIds.toArray());
+    }
+
     private static class SynchronizedIterator<V> {
 
         private final Iterator<V> iterator;
@@ -45,6 +45,7 @@ public class TinkerGraphView {
     protected final Set<String> computeKeys;
     protected final GraphComputer.Isolation isolation;
     private Map<Element, Map<String, List<VertexProperty>>> computeProperties;
+    private final List<TinkerMapIterator<?, ?>> mapIterators = new ArrayList<>();
 
     public TinkerGraphView(final GraphComputer.Isolation isolation, final Set<String> computeKeys) {
         this.isolation = isolation;
@@ -88,6 +89,19 @@ public class TinkerGraphView {
         }
     }
 
+    public synchronized void addMapIterator(final TinkerMapIterator<?, ?> mapIterator) {
+        this.mapIterators.add(mapIterator);
+    }
+
+    /**
+     * Maps the vertices that the {@link TinkerMapIterator}s of this view have not read yet. This must be called before
+     * the view is replaced or dropped as the vertices would otherwise be read through the view that replaced it.
+     */
+    public synchronized void materializeMapIterators() {
+        this.mapIterators.forEach(TinkerMapIterator::materialize);
+        this.mapIterators.clear();
+    }
+
     //////////////////////
 
     private void setValue(final Vertex vertex, final String key, final VertexProperty property) {
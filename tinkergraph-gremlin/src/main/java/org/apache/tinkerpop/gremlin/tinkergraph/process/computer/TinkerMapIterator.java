@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+
+/**
+ * A {@code TinkerMapIterator} lazily maps the vertices of the computed graph as its key/values are iterated.
+ * It is used for map-only {@link MapReduce} jobs without a map key sort so that their output (e.g. the halted
+ * traversers of an OLAP traversal) is not materialized in memory before it is read. As the vertices are read through
+ * the computed graph view, the view maps the vertices that were not read yet before the graph is computed on again
+ * (see {@link TinkerGraphView#materializeMapIterators()}).
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TinkerMapIterator<K, V> implements Iterator<KeyValue<K, V>>, MapReduce.MapEmitter<K, V> {
+
+    private final MapReduce<K, V, ?, ?, ?> mapReduce;
+    private final Iterator<Vertex> vertices;
+    private final Queue<KeyValue<K, V>> mapQueue = new ArrayDeque<>();
+
+    public TinkerMapIterator(final MapReduce<K, V, ?, ?, ?> mapReduce, final Iterator<Vertex> vertices) {
+        this.mapReduce = mapReduce.clone();
+        this.vertices = vertices;
+    }
+
+    @Override
+    public void emit(final K key, final V value) {
+        this.mapQueue.add(new KeyValue<>(key, value));
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        while (this.mapQueue.isEmpty()) {
+            if (!this.vertices.hasNext())
+                return false;
+            this.mapReduce.map(this.vertices.next(), this);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized KeyValue<K, V> next() {
+        if (!this.hasNext())
+            throw FastNoSuchElementException.instance();
+        return this.mapQueue.remove();
+    }
+
+    synchronized void materialize() {
+        while (this.vertices.hasNext()) {
+            this.mapReduce.map(this.vertices.next(), this);
+        }
+    }
+}
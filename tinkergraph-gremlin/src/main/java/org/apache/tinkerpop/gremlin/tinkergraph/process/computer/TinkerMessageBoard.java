@@ -18,19 +18,19 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
-import org.apache.tinkerpop.gremlin.structure.Vertex;
-
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * The messages of a {@link TinkerGraphComputer} iteration keyed by the id of the receiving vertex.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 class TinkerMessageBoard<M> {
 
-    public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
-    public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
+    public Map<Object, Queue<M>> sendMessages = new ConcurrentHashMap<>();
+    public Map<Object, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
 
     public void completeIteration() {
         this.receiveMessages = this.sendMessages;
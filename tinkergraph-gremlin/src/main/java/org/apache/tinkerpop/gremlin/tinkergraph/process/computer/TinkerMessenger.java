@@ -28,9 +28,11 @@ import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.Star
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.StreamFactory;
 
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -42,12 +44,14 @@ import java.util.stream.Stream;
 public class TinkerMessenger<M> implements Messenger<M> {
 
     private final Vertex vertex;
+    private final Graph graph;
     private final TinkerMessageBoard<M> messageBoard;
     private final MessageCombiner<M> combiner;
 
 
-    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
+    public TinkerMessenger(final Vertex vertex, final Graph graph, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
         this.vertex = vertex;
+        this.graph = graph;
         this.messageBoard = messageBoard;
         this.combiner = combiner.isPresent() ? combiner.get() : null;
     }
@@ -60,13 +64,13 @@ public class TinkerMessenger<M> implements Messenger<M> {
             final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
             final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
             return StreamFactory.iterable(StreamFactory.stream(VertexProgramHelper.reverse(incidentTraversal.asAdmin()))
-                    .map(e -> this.messageBoard.receiveMessages.get((edge[0] = e).vertices(direction).next()))
+                    .map(e -> this.messageBoard.receiveMessages.get((edge[0] = e).vertices(direction).next().id()))
                     .filter(q -> null != q)
                     .flatMap(q -> q.stream())
                     .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0])));
 
         } else {
-            return StreamFactory.iterable(Stream.of(this.vertex)
+            return StreamFactory.iterable(Stream.of(this.vertex.id())
                     .map(this.messageBoard.receiveMessages::get)
                     .filter(q -> null != q)
                     .flatMap(q -> q.stream()));
@@ -82,8 +86,14 @@ public class TinkerMessenger<M> implements Messenger<M> {
         }
     }
 
+    @Override
+    public Optional<Vertex> getColocatedVertex(final Object vertexId) {
+        final Iterator<Vertex> vertices = this.graph.vertices(vertexId);  // all vertices are co-located in a single machine graph
+        return vertices.hasNext() ? Optional.of(vertices.next()) : Optional.empty();
+    }
+
     private final void addMessage(final Vertex vertex, final M message) {
-        final Queue<M> queue = this.messageBoard.sendMessages.computeIfAbsent(vertex, v -> new ConcurrentLinkedQueue<>());
+        final Queue<M> queue = this.messageBoard.sendMessages.computeIfAbsent(vertex.id(), id -> new ConcurrentLinkedQueue<>());
         synchronized (queue) {
             queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
         }
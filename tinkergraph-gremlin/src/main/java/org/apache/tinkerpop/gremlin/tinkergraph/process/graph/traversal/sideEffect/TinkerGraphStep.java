@@ -21,7 +21,10 @@ package org.apache.tinkerpop.gremlin.tinkergraph.process.graph.traversal.sideEff
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.step.sideEffect.GraphStep;
 import org.apache.tinkerpop.gremlin.process.graph.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Profiling;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.util.metric.MutableMetrics;
+import org.apache.tinkerpop.gremlin.process.util.metric.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Compare;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -39,9 +42,10 @@ import java.util.stream.Collectors;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements HasContainerHolder {
+public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements HasContainerHolder, Profiling {
 
-    public final List<HasContainer> hasContainers = new ArrayList<>();
+    public List<HasContainer> hasContainers = new ArrayList<>();
+    private MutableMetrics metrics = null;
 
     public TinkerGraphStep(final GraphStep<S> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.getIds());
@@ -53,6 +57,7 @@ public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
         final HasContainer indexedContainer = getIndexKey(Edge.class);
+        this.countLookup(null != indexedContainer || (this.ids != null && this.ids.length > 0));
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.edges(this.ids));
@@ -67,6 +72,7 @@ public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
         final HasContainer indexedContainer = getIndexKey(Vertex.class);
+        this.countLookup(null != indexedContainer || (this.ids != null && this.ids.length > 0));
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.vertices(this.ids));
@@ -78,6 +84,19 @@ public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements
                             .collect(Collectors.<Vertex>toList()).iterator();
     }
 
+    private void countLookup(final boolean indexed) {
+        if (null != this.metrics) {
+            final String key = indexed ? TraversalMetrics.INDEX_LOOKUPS_KEY : TraversalMetrics.SCANS_KEY;
+            final Number count = (Number) this.metrics.getAnnotation(key);
+            this.metrics.setAnnotation(key, null == count ? 1l : count.longValue() + 1l);
+        }
+    }
+
+    @Override
+    public void setMetrics(final MutableMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
         final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
         return this.hasContainers.stream()
@@ -114,4 +133,15 @@ public class TinkerGraphStep<S extends Element> extends GraphStep<S> implements
     public void addHasContainer(final HasContainer hasContainer) {
         this.hasContainers.add(hasContainer);
     }
+
+    @Override
+    public TinkerGraphStep<S> clone() {
+        final TinkerGraphStep<S> clone = (TinkerGraphStep<S>) super.clone();
+        clone.hasContainers = new ArrayList<>(this.hasContainers.size());
+        for (final HasContainer hasContainer : this.hasContainers) {
+            clone.hasContainers.add(hasContainer.clone());
+        }
+        clone.setIteratorSupplier(() -> (Iterator<S>) (Vertex.class.isAssignableFrom(clone.returnClass) ? clone.vertices() : clone.edges()));
+        return clone;
+    }
 }
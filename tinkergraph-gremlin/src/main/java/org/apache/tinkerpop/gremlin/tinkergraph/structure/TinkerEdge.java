@@ -95,6 +95,7 @@ public class TinkerEdge extends TinkerElement implements Edge {
 
         TinkerHelper.removeElementIndex(this);
         ((TinkerGraph) this.graph()).edges.remove(this.id());
+        ((TinkerGraph) this.graph()).statistics.removeEdge(this.label);
         this.properties = null;
         this.removed = true;
     }
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -76,6 +77,7 @@ public class TinkerGraph implements Graph {
     protected TinkerGraphView graphView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected final TinkerGraphStatistics statistics = new TinkerGraphStatistics(this);
 
     private final static TinkerGraph EMPTY_GRAPH = new TinkerGraph();
 
@@ -137,6 +139,7 @@ public class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        this.statistics.addVertex(label);
         ElementHelper.attachProperties(vertex, keyValues);
         return vertex;
     }
@@ -172,10 +175,13 @@ public class TinkerGraph implements Graph {
         this.currentId = 0l;
         this.vertexIndex = null;
         this.edgeIndex = null;
+        this.statistics.clear();
     }
 
     @Override
     public void close() {
+        if (null != this.graphView)
+            this.graphView.materializeMapIterators();
         this.graphView = null;
     }
 
@@ -222,6 +228,11 @@ public class TinkerGraph implements Graph {
         return TinkerGraphFeatures.INSTANCE;
     }
 
+    @Override
+    public Optional<Statistics> statistics() {
+        return Optional.of(this.statistics);
+    }
+
     public static class TinkerGraphFeatures implements Features {
 
         static final TinkerGraphFeatures INSTANCE = new TinkerGraphFeatures();
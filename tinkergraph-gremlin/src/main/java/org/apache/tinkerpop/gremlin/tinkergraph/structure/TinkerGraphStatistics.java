@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Label counts are maintained as elements are added and removed. The selectivity of a key is computed from the
+ * vertex index if the key is indexed, else it is estimated from a sample of the vertices.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+final class TinkerGraphStatistics implements Graph.Statistics {
+
+    private static final int SAMPLE_SIZE = 1000;
+
+    private final TinkerGraph graph;
+    private final Map<String, AtomicLong> vertexLabelCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> edgeLabelCounts = new ConcurrentHashMap<>();
+
+    TinkerGraphStatistics(final TinkerGraph graph) {
+        this.graph = graph;
+    }
+
+    void addVertex(final String label) {
+        this.vertexLabelCounts.computeIfAbsent(label, l -> new AtomicLong()).incrementAndGet();
+    }
+
+    void removeVertex(final String label) {
+        this.vertexLabelCounts.computeIfAbsent(label, l -> new AtomicLong()).decrementAndGet();
+    }
+
+    void addEdge(final String label) {
+        this.edgeLabelCounts.computeIfAbsent(label, l -> new AtomicLong()).incrementAndGet();
+    }
+
+    void removeEdge(final String label) {
+        this.edgeLabelCounts.computeIfAbsent(label, l -> new AtomicLong()).decrementAndGet();
+    }
+
+    void clear() {
+        this.vertexLabelCounts.clear();
+        this.edgeLabelCounts.clear();
+    }
+
+    @Override
+    public long vertexCount(final String label) {
+        if (null == label)
+            return this.graph.vertices.size();
+        final AtomicLong count = this.vertexLabelCounts.get(label);
+        return null == count ? 0l : count.get();
+    }
+
+    @Override
+    public long edgeCount(final String label) {
+        if (null == label)
+            return this.graph.edges.size();
+        final AtomicLong count = this.edgeLabelCounts.get(label);
+        return null == count ? 0l : count.get();
+    }
+
+    @Override
+    public double selectivity(final String key) {
+        final long vertexCount = this.vertexCount(null);
+        if (0l == vertexCount)
+            return 0.0d;
+        final TinkerIndex<TinkerVertex> index = this.graph.vertexIndex;
+        if (null != index && index.getIndexedKeys().contains(key)) {
+            final Map<Object, Set<TinkerVertex>> keyMap = index.index.get(key);
+            if (null == keyMap || keyMap.isEmpty())
+                return 0.0d;
+            long withKey = 0l;
+            for (final Set<TinkerVertex> vertices : keyMap.values()) {
+                withKey = withKey + vertices.size();
+            }
+            return ((double) withKey / keyMap.size()) / vertexCount;
+        }
+        // estimate the fraction of vertices with the key and the number of distinct values from a sample
+        int sampled = 0;
+        int withKey = 0;
+        final Set<Object> values = new HashSet<>();
+        final Iterator<Vertex> vertices = this.graph.vertices.values().iterator();
+        while (sampled < SAMPLE_SIZE && vertices.hasNext()) {
+            sampled++;
+            final Iterator<? extends Property<Object>> properties = vertices.next().properties(key);
+            if (properties.hasNext()) {
+                withKey++;
+                properties.forEachRemaining(property -> values.add(property.value()));
+            }
+        }
+        if (0 == withKey)
+            return 0.0d;
+        // if every sampled value is distinct, the key is presumed to be unique
+        return values.size() >= withKey ?
+                1.0d / vertexCount :
+                ((double) withKey / sampled) / values.size();
+    }
+}
@@ -67,6 +67,7 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        graph.statistics.addEdge(label);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
         return edge;
@@ -105,7 +106,13 @@ public final class TinkerHelper {
         return null != graph.graphView;
     }
 
+    public static TinkerGraphView getGraphView(final TinkerGraph graph) {
+        return graph.graphView;
+    }
+
     public static TinkerGraphView createGraphView(final TinkerGraph graph, final GraphComputer.Isolation isolation, final Set<String> computeKeys) {
+        if (null != graph.graphView)
+            graph.graphView.materializeMapIterators();
         return graph.graphView = new TinkerGraphView(isolation, computeKeys);
     }
 
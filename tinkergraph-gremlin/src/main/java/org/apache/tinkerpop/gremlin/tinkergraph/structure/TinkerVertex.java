@@ -136,6 +136,7 @@ public class TinkerVertex extends TinkerElement implements Vertex {
         this.properties = null;
         TinkerHelper.removeElementIndex(this);
         this.graph.vertices.remove(this.id);
+        this.graph.statistics.removeVertex(this.label);
         this.removed = true;
     }
 
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process;
+
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.engine.ParallelTraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Compare;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class ParallelTraversalEngineTest {
+
+    private static final int VERTICES = 3000;
+
+    private TinkerGraph graph;
+    private Object[] seedIds;
+    private GraphTraversalSource standard;
+    private GraphTraversalSource parallel;
+
+    @Before
+    public void setup() {
+        this.graph = TinkerGraph.open();
+        final Vertex[] vertices = new Vertex[VERTICES];
+        for (int i = 0; i < VERTICES; i++) {
+            vertices[i] = this.graph.addVertex("i", i);
+        }
+        for (int i = 0; i < VERTICES; i++) {
+            vertices[i].addEdge("link", vertices[(i * 7 + 1) % VERTICES]);
+            vertices[i].addEdge("link", vertices[(i * 13 + 5) % VERTICES]);
+        }
+        this.seedIds = new Object[]{vertices[1].id(), vertices[2].id(), vertices[3].id()};
+        this.standard = this.graph.traversal();
+        // small batches so that every traversal is split many times
+        this.parallel = GraphTraversalSource.build().engine(ParallelTraversalEngine.build().parallelism(4).batchSize(100)).create(this.graph);
+    }
+
+    @Test
+    public void shouldReturnTheSameResultsInTheSameOrderAsTheStandardEngine() {
+        final List<Function<GraphTraversalSource, Traversal<?, ?>>> traversals = Arrays.asList(
+                g -> g.V().out().values("i"),
+                g -> g.V().out().out().has("i", Compare.gt, 1000).values("i"),
+                g -> g.V(this.seedIds).out().out().out().values("i"),
+                g -> g.V().count(),
+                g -> g.V().out().out().count(),
+                g -> g.V().values("i").sum(),
+                g -> g.V().out().values("i").min(),
+                g -> g.V().out().values("i").max(),
+                g -> g.V().out().values("i").mean(),
+                g -> g.V().out().values("i").fold(),
+                g -> g.V().has("i", Compare.gt, VERTICES).values("i").min(),
+                g -> g.V().out().dedup().count());
+        for (final Function<GraphTraversalSource, Traversal<?, ?>> traversal : traversals) {
+            final Traversal<?, ?> parallelTraversal = traversal.apply(this.parallel);
+            assertEquals(traversal.apply(this.standard).toList(), parallelTraversal.toList());
+            assertTrue(TraversalHelper.hasStepOfClass(ParallelStep.class, parallelTraversal.asAdmin()));
+        }
+    }
+
+    @Test
+    public void shouldReducePerBatchAndNotBulkEqualPartialSeeds() {
+        // every batch has the same partial count and those partial counts must be merged rather than bulked
+        final GraphTraversalSource g = GraphTraversalSource.build().engine(ParallelTraversalEngine.build().parallelism(4).batchSize(VERTICES / 3)).create(this.graph);
+        final Traversal.Admin<Vertex, Long> traversal = g.V().count().asAdmin();
+        assertEquals(VERTICES, traversal.next().intValue());
+        assertFalse(traversal.hasNext());
+        assertTrue(TraversalHelper.getStepsOfClass(CountGlobalStep.class, traversal).get(0).isMergePartials());
+        assertEquals(2 * VERTICES, g.V().out().count().next().intValue());
+        assertEquals(2 * 2 * VERTICES, g.V().out().out().count().next().intValue());
+    }
+
+    @Test
+    public void shouldThrowTheExceptionOfAnyBatch() {
+        try {
+            this.parallel.V().map(traverser -> {
+                if (traverser.get().<Integer>value("i") == VERTICES - 10)
+                    throw new IllegalStateException("failed on purpose");
+                return traverser.get();
+            }).count().next();
+            fail("The exception of the batch should have been thrown");
+        } catch (final IllegalStateException e) {
+            assertTrue(e.getMessage().contains("failed on purpose"));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.T;
+import org.apache.tinkerpop.gremlin.process.Traversal;
+import org.apache.tinkerpop.gremlin.process.Traverser;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.sideEffect.mapreduce.TraverserMapReduce;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.graph.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.apache.tinkerpop.gremlin.process.graph.traversal.__.both;
+import static org.apache.tinkerpop.gremlin.process.graph.traversal.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TinkerGraphComputerTest {
+
+    private TinkerGraph graph;
+    private GraphTraversalSource standard;
+    private GraphTraversalSource computer;
+
+    @Before
+    public void setup() {
+        this.graph = TinkerFactory.createModern();
+        this.standard = this.graph.traversal();
+        this.computer = this.graph.traversal(GraphTraversalSource.computer);
+    }
+
+    @Test
+    public void shouldHaltTraversersOfEdgeStepsWithoutMessaging() throws Exception {
+        // the traversers of in-edges resolve their out-vertex and halt at the vertex that emitted them
+        assertIterationsAndResults(0, g -> g.V().inE().outV());
+        assertIterationsAndResults(0, g -> g.V().bothE().otherV());
+        assertIterationsAndResults(0, g -> g.V().out());
+        assertIterationsAndResults(1, g -> g.V().inE().outV().values("name"));
+    }
+
+    @Test
+    public void shouldAttachLocalDetachedElementsWithoutMessaging() throws Exception {
+        // back() yields the detached start vertex which is local and thus, out() is taken in the first iteration
+        assertIterationsAndResults(1, g -> g.V().as("a").outE().back("a").out().values("name"));
+    }
+
+    @Test
+    public void shouldCountHaltedTraversersWithoutMapReduce() throws Exception {
+        final List<Function<GraphTraversalSource, Traversal<?, Long>>> traversals = Arrays.asList(
+                g -> g.V().count(),
+                g -> g.V().out().count(),
+                g -> g.V().both().both().count(),
+                g -> g.V().outE().has("weight", 1.0d).count());
+        for (final Function<GraphTraversalSource, Traversal<?, Long>> traversal : traversals) {
+            final long expected = traversal.apply(this.standard).next();
+            final VertexProgram program = TraversalVertexProgram.build().traversal(traversal.apply(this.computer).asAdmin(), false).create();
+            assertTrue(program.getMapReducers().isEmpty());
+            assertEquals(expected, this.graph.compute().program(program).submit().get().memory().<Long>get(ReducingBarrierStep.REDUCING).longValue());
+            assertEquals(expected, traversal.apply(this.computer).next().longValue());
+        }
+    }
+
+    @Test
+    public void shouldOnlyExecuteSeedVerticesInitially() throws Exception {
+        final Vertex marko = this.standard.V(1).next();
+        final List<Function<GraphTraversalSource, Traversal<?, ?>>> traversals = Arrays.asList(
+                g -> g.V(1).out(),
+                g -> g.V(marko).out(),
+                g -> g.inject(marko).out());
+        for (final Function<GraphTraversalSource, Traversal<?, ?>> traversal : traversals) {
+            final VertexProgram program = TraversalVertexProgram.build().traversal(traversal.apply(this.computer).asAdmin(), false).create();
+            assertEquals(Optional.of(Collections.singleton(marko.id())), program.getInitialVertexIds());
+            assertIterationsAndResults(0, traversal);
+        }
+    }
+
+    @Test
+    public void shouldReduceSideEffectsOfSeededTraversals() throws Exception {
+        final Vertex marko = this.standard.V(1).next();
+        final List<Function<GraphTraversalSource, Traversal<?, ?>>> traversals = Arrays.asList(
+                g -> g.V(1).out().groupCount("a").by("name").cap("a"),
+                g -> g.V(1).both().both().groupCount("a").by("name").cap("a"),
+                g -> g.inject(marko).out().groupCount("a").by(T.label).cap("a"));
+        for (final Function<GraphTraversalSource, Traversal<?, ?>> traversal : traversals) {
+            assertEquals(traversal.apply(this.standard).toList(), traversal.apply(this.computer).toList());
+        }
+    }
+
+    @Test
+    public void shouldFollowLoopsToColocatedVertices() throws Exception {
+        // all the vertices of a TinkerGraph are co-located and thus, a seeded loop is taken in a single iteration
+        assertIterationsAndResults(0, g -> g.V(1).repeat(out()).times(2));
+        assertIterationsAndResults(0, g -> g.V(1).repeat(both()).times(3));
+        assertIterationsAndResults(1, g -> g.V(1).repeat(both()).times(3).values("name"));
+        // dedup() must see a whole iteration of the loop
+        assertEquals(2, this.graph.compute().program(TraversalVertexProgram.build().traversal(this.computer.V(1).repeat(both().dedup()).times(2).asAdmin(), false).create()).submit().get().memory().getIteration());
+    }
+
+    @Test
+    public void shouldMapHaltedTraversersAsTheResultIsRead() throws Exception {
+        final ComputerResult result = this.graph.compute().program(TraversalVertexProgram.build().traversal(this.computer.V().out().asAdmin(), false).create()).submit().get();
+        final Iterator<Traverser.Admin<?>> traversers = result.memory().get(TraverserMapReduce.TRAVERSERS);
+        final Map<Object, Long> actual = new HashMap<>();
+        traversers.forEachRemaining(traverser -> addResult(actual, traverser.get(), traverser.bulk()));
+        final Map<Object, Long> expected = new HashMap<>();
+        this.standard.V().out().forEachRemaining(vertex -> addResult(expected, vertex, 1l));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void shouldMapUnreadHaltedTraversersBeforeComputingAgain() throws Exception {
+        final ComputerResult first = this.graph.compute().program(TraversalVertexProgram.build().traversal(this.computer.V().out().asAdmin(), false).create()).submit().get();
+        final Iterator<Traverser.Admin<?>> firstTraversers = first.memory().get(TraverserMapReduce.TRAVERSERS);
+        final Map<Object, Long> actual = new HashMap<>();
+        final Traverser.Admin<?> read = firstTraversers.next();
+        addResult(actual, read.get(), read.bulk());
+        final ComputerResult second = this.graph.compute().program(TraversalVertexProgram.build().traversal(this.computer.V().in().asAdmin(), false).create()).submit().get();
+        // the halted traversers of the first computation are not read through the view of the second
+        firstTraversers.forEachRemaining(traverser -> addResult(actual, traverser.get(), traverser.bulk()));
+        final Map<Object, Long> expected = new HashMap<>();
+        this.standard.V().out().forEachRemaining(vertex -> addResult(expected, vertex, 1l));
+        assertEquals(expected, actual);
+        actual.clear();
+        expected.clear();
+        second.memory().<Iterator<Traverser.Admin<?>>>get(TraverserMapReduce.TRAVERSERS).forEachRemaining(traverser -> addResult(actual, traverser.get(), traverser.bulk()));
+        this.standard.V().in().forEachRemaining(vertex -> addResult(expected, vertex, 1l));
+        assertEquals(expected, actual);
+    }
+
+    private void assertIterationsAndResults(final int iterations, final Function<GraphTraversalSource, Traversal<?, ?>> traversal) throws Exception {
+        final ComputerResult result = this.graph.compute().program(TraversalVertexProgram.build().traversal(traversal.apply(this.computer).asAdmin(), false).create()).submit().get();
+        final Map<Object, Long> expected = new HashMap<>();
+        traversal.apply(this.standard).forEachRemaining(object -> addResult(expected, object, 1l));
+        final Map<Object, Long> actual = new HashMap<>();
+        final Iterator<Traverser.Admin<?>> traversers = result.memory().get(TraverserMapReduce.TRAVERSERS);
+        traversers.forEachRemaining(traverser -> addResult(actual, traverser.get(), traverser.bulk()));
+        assertEquals(expected, actual);
+        assertEquals(iterations, result.memory().getIteration());
+    }
+
+    private static void addResult(final Map<Object, Long> results, final Object object, final long bulk) {
+        results.merge(object instanceof Element ? ((Element) object).id() : object, bulk, Long::sum);
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.process.T;
 import org.apache.tinkerpop.gremlin.process.Traversal;
 import org.apache.tinkerpop.gremlin.process.graph.traversal.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ElementIdStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCache;
+import org.apache.tinkerpop.gremlin.process.util.metric.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -46,12 +48,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import static org.apache.tinkerpop.gremlin.process.graph.traversal.__.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -623,6 +628,63 @@ public class TinkerGraphTest {
         }, 0.5).has("oid", "1")).count());
     }
 
+    @Test
+    public void shouldMaintainStatistics() {
+        final TinkerGraph g = TinkerFactory.createModern();
+        final Graph.Statistics statistics = g.statistics().get();
+        assertEquals(6l, statistics.vertexCount(null));
+        assertEquals(4l, statistics.vertexCount("person"));
+        assertEquals(2l, statistics.vertexCount("software"));
+        assertEquals(6l, statistics.edgeCount(null));
+        assertEquals(2l, statistics.edgeCount("knows"));
+        assertEquals(4l, statistics.edgeCount("created"));
+        assertEquals(1.0d / 3.0d, statistics.averageDegree(Direction.OUT, "knows"), 0.0001d);
+        assertEquals(2.0d, statistics.averageDegree(Direction.BOTH), 0.0001d);
+        assertEquals(1.0d / 6.0d, statistics.selectivity("name"), 0.0001d);
+
+        g.vertices(1).next().remove();
+        assertEquals(3l, statistics.vertexCount("person"));
+        assertEquals(0l, statistics.edgeCount("knows"));
+        assertEquals(3l, statistics.edgeCount("created"));
+
+        g.createIndex("lang", Vertex.class);
+        assertEquals(2.0d / 5.0d, statistics.selectivity("lang"), 0.0001d);
+    }
+
+    @Test
+    public void shouldBindTraversalsCompiledFromTheSameTemplate() {
+        final TinkerGraph g = TinkerFactory.createModern();
+        g.createIndex("name", Vertex.class);
+        final TraversalCache cache = new TraversalCache();
+        final Traversal.Admin<Vertex, String> marko = cache.compile(g.traversal().V(1).out("created").<String>values("name").asAdmin());
+        final Traversal.Admin<Vertex, String> josh = cache.compile(g.traversal().V(4).out("created").<String>values("name").asAdmin());
+        assertEquals(new HashSet<>(Arrays.asList("ripple", "lop")), josh.toSet());
+        assertEquals(Arrays.asList("lop"), marko.toList());
+        assertEquals(Arrays.asList("lop"), cache.compile(g.traversal().V(6).out("created").<String>values("name").asAdmin()).toList());
+
+        final Traversal.Admin<Vertex, String> peter = cache.compile(g.traversal().V().has("name", "peter").out("created").<String>values("name").asAdmin());
+        final Traversal.Admin<Vertex, String> vadas = cache.compile(g.traversal().V().has("name", "vadas").out("created").<String>values("name").asAdmin());
+        assertEquals(new HashSet<>(Arrays.asList("ripple", "lop")), cache.compile(g.traversal().V().has("name", "josh").out("created").<String>values("name").asAdmin()).toSet());
+        assertEquals(Collections.emptyList(), vadas.toList());
+        assertEquals(Arrays.asList("lop"), peter.toList());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldReportIndexUsageInProfile() {
+        final TinkerGraph g = TinkerFactory.createModern();
+        TraversalMetrics metrics = g.traversal().V().has("name", "marko").profile().iterate().asAdmin().getSideEffects().get(TraversalMetrics.METRICS_KEY);
+        assertEquals(1l, metrics.getMetrics(0).getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+        assertEquals(1l, metrics.getMetrics(0).getAnnotation(TraversalMetrics.SCANS_KEY));
+        assertNull(metrics.getMetrics(0).getAnnotation(TraversalMetrics.INDEX_LOOKUPS_KEY));
+
+        g.createIndex("name", Vertex.class);
+        metrics = g.traversal().V().has("name", "marko").profile().iterate().asAdmin().getSideEffects().get(TraversalMetrics.METRICS_KEY);
+        assertEquals(1l, metrics.getMetrics(0).getCount(TraversalMetrics.ELEMENT_COUNT_ID));
+        assertEquals(1l, metrics.getMetrics(0).getAnnotation(TraversalMetrics.INDEX_LOOKUPS_KEY));
+        assertNull(metrics.getMetrics(0).getAnnotation(TraversalMetrics.SCANS_KEY));
+    }
+
     /**
      * This test helps with data conversions on Grateful Dead.  No Assertions...run as needed. Never read from the
      * GraphML source as it will always use a String identifier.